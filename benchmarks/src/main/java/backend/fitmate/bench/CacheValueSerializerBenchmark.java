@@ -0,0 +1,66 @@
+package backend.fitmate.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import backend.fitmate.User.dto.UserSnapshot;
+import backend.fitmate.User.dto.UserSnapshotCodec;
+import backend.fitmate.config.CompactRedisSerializer;
+
+/**
+ * "user" 캐시 값 직렬화: 기존 JSON 직렬화기와 CompactRedisSerializer (RedisConfig 와 같은 구성)
+ *
+ * 왕복 비용은 두 벤치마크의 합으로, 요청당 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 으로 비교합니다.
+ *   java -jar target/benchmarks.jar CacheValueSerializer -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheValueSerializerBenchmark {
+
+    @Param({ "json", "compact" })
+    public String serializer;
+
+    private final UserSnapshot snapshot = new UserSnapshot(42L, "user@fitmate.com", "홍길동", "길동", "USER", true,
+            "google", "1234567890", null, "g-1234567890", "1990-01-01", "male", "010-1234-5678",
+            "175", "70", "35", "근력 증가", "intermediate");
+
+    private RedisSerializer<Object> values;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        values = "compact".equals(serializer)
+                ? new CompactRedisSerializer(List.of(new UserSnapshotCodec()), json, 512)
+                : json;
+        serialized = values.serialize(snapshot);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return values.serialize(snapshot);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return values.deserialize(serialized);
+    }
+}
@@ -0,0 +1,81 @@
+package backend.fitmate.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import backend.fitmate.User.service.WorkoutRecordService;
+import backend.fitmate.controller.DashboardController;
+
+/**
+ * 통합 대시보드(DashboardController.getDashboardData): 주간 통계/비교 쿼리 결과를 대시보드 응답으로 변환하는 비용
+ *
+ * 리포지토리는 메모리 결과를 돌려주므로 DB 조회 비용은 포함하지 않습니다.
+ * 메서드 내 디버그 출력은 버리는 스트림으로 보내며, 문자열 생성 비용은 측정에 포함됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardStatsBenchmark {
+
+    @Param({ "5", "52" })
+    public int weeks;
+
+    private DashboardController controller;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        List<Object[]> weeklyStats = SyntheticData.weeklyStats(weeks, LocalDate.now(), SyntheticData.DEFAULT_SEED);
+        List<Object[]> weeklyComparison = SyntheticData.weeklyComparison(SyntheticData.DEFAULT_SEED);
+        WorkoutRecordRepository repository = Stubs.repository(WorkoutRecordRepository.class, Map.of(
+                "getWeeklyWorkoutStats", args -> weeklyStats,
+                "getWeeklyComparison", args -> weeklyComparison));
+        controller = Stubs.context(Map.of(), context -> {
+            context.registerBean(WorkoutRecordRepository.class, () -> repository);
+            context.register(WorkoutRecordService.class, DashboardController.class);
+        }).getBean(DashboardController.class);
+
+        // JWT 필터가 채우는 인증 정보 (JMH 워커 스레드에서도 보이도록 전역 전략 사용)
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> dashboardData() {
+        return controller.getDashboardData();
+    }
+}
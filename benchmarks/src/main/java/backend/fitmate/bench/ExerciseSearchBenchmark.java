@@ -0,0 +1,70 @@
+package backend.fitmate.bench;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.Exercise.repository.ExerciseRepository;
+import backend.fitmate.Exercise.service.ExerciseService;
+
+/**
+ * ExerciseService.searchExercisesWithPagination 의 메모리 내 카테고리/강도 필터, id 정렬, 페이지 슬라이스 비용
+ *
+ * 리포지토리는 전체 목록을 그대로 돌려주므로 DB 조회 비용은 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExerciseSearchBenchmark {
+
+    @Param({ "200", "5000" })
+    public int catalogSize;
+
+    /** none / category / intensity / both */
+    @Param({ "none", "category", "intensity", "both" })
+    public String filter;
+
+    @Param({ "0", "10" })
+    public int page;
+
+    private ExerciseService exerciseService;
+    private String category;
+    private String intensity;
+
+    @Setup
+    public void setUp() {
+        List<Exercise> catalog = SyntheticData.exercises(catalogSize, SyntheticData.DEFAULT_SEED);
+        ExerciseRepository repository = Stubs.repository(ExerciseRepository.class,
+                Map.of("findAll", args -> catalog));
+        exerciseService = Stubs.context(Map.of(), context -> {
+            context.registerBean(ExerciseRepository.class, () -> repository);
+            context.register(ExerciseService.class);
+        }).getBean(ExerciseService.class);
+
+        boolean byCategory = filter.equals("category") || filter.equals("both");
+        boolean byIntensity = filter.equals("intensity") || filter.equals("both");
+        category = byCategory ? "하체" : null;
+        intensity = byIntensity ? "보통" : null; // 한글 입력 → normalizeIntensity 경로 포함
+    }
+
+    @Benchmark
+    public Map<String, Object> search() {
+        return exerciseService.searchExercisesWithPagination(null, null, category, intensity, page, 20);
+    }
+}
@@ -0,0 +1,80 @@
+package backend.fitmate.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import backend.fitmate.config.JwtTokenProvider;
+
+/**
+ * 요청마다 JwtAuthenticationFilter 가 거치는 토큰 검증 / 인증 객체 생성 비용
+ *
+ * UserDetailsService 는 메모리 응답으로 대체하므로 사용자 조회(캐시/DB) 비용은 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0001";
+
+    private JwtTokenProvider tokenProvider;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        UserDetailsService userDetailsService = username -> User.withUsername(username)
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        tokenProvider = Stubs.context(Map.of("jwt.secret", SECRET), context -> {
+            context.registerBean(UserDetailsService.class, () -> userDetailsService);
+            context.register(JwtTokenProvider.class);
+        }).getBean(JwtTokenProvider.class);
+
+        validToken = tokenProvider.createToken(42L, "user@fitmate.com", "홍길동", "google", "google-42",
+                "https://example.com/p.png", "USER");
+        // 서명 중간 한 글자만 바꾼 토큰 (검증 실패 경로)
+        int at = validToken.length() - 10;
+        char c = validToken.charAt(at);
+        tamperedToken = validToken.substring(0, at) + (c == 'A' ? 'B' : 'A') + validToken.substring(at + 1);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return tokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(validToken);
+    }
+
+    /** JwtAuthenticationFilter 와 같은 순서: 검증 후 인증 객체 생성 (토큰 두 번 파싱) */
+    @Benchmark
+    public Authentication validateThenAuthenticate() {
+        return tokenProvider.validateToken(validToken) ? tokenProvider.getAuthentication(validToken) : null;
+    }
+}
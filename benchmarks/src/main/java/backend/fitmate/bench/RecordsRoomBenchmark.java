@@ -0,0 +1,90 @@
+package backend.fitmate.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import backend.fitmate.User.entity.User;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.UserRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import backend.fitmate.User.service.UserReadService;
+import backend.fitmate.User.service.WorkoutRecordService;
+import backend.fitmate.controller.MyPageController;
+
+/**
+ * 기록실 요약(MyPageController.getRecordsRoomSummary): PR/누적 집계와 현재·최장 연속 운동일 계산
+ *
+ * 최장 streak 은 첫 기록일부터 오늘까지 매일 역방향으로 세므로, 기록 기간(days)과 연속 길이(streakDays)에 따라
+ * 비용이 커집니다. 리포지토리는 메모리 목록을 돌려주므로 DB 조회 비용은 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordsRoomBenchmark {
+
+    /** 첫 기록부터 오늘까지의 기간 (일) */
+    @Param({ "90", "730" })
+    public int days;
+
+    /** 오늘부터 이어지는 연속 운동일 */
+    @Param({ "3", "60" })
+    public int streakDays;
+
+    private MyPageController controller;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        List<WorkoutRecord> records = SyntheticData.workoutRecords(days, streakDays, LocalDate.now(),
+                SyntheticData.DEFAULT_SEED);
+        User user = new User();
+        user.setId(1L);
+
+        UserRepository userRepository = Stubs.repository(UserRepository.class,
+                Map.of("findById", args -> Optional.of(user)));
+        WorkoutRecordRepository workoutRecordRepository = Stubs.repository(WorkoutRecordRepository.class,
+                Map.of("findByUserIdOrderByWorkoutDateDesc", args -> records));
+
+        controller = Stubs.context(Map.of(), context -> {
+            context.registerBean(UserRepository.class, () -> userRepository);
+            context.registerBean(WorkoutRecordRepository.class, () -> workoutRecordRepository);
+            context.register(UserReadService.class, WorkoutRecordService.class, MyPageController.class);
+        }).getBean(MyPageController.class);
+
+        // 컨트롤러의 디버그 출력이 벤치마크 로그를 덮지 않도록 버림 (문자열 생성 비용은 그대로 측정)
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> recordsRoomSummary() {
+        return controller.getRecordsRoomSummary(1L);
+    }
+}
@@ -0,0 +1,94 @@
+package backend.fitmate.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 시드 CSV 한 줄 분할 비용 (ExerciseService.reloadExercisesFromSeed / MetsDataLoader 와 같은 정규식)
+ *
+ * - regexSplit: 현재 코드와 동일하게 매 줄마다 String.split 으로 정규식을 컴파일
+ * - precompiledRegex: 같은 정규식을 한 번만 컴파일
+ * - quoteAwareScan: 따옴표 상태만 추적하는 단일 패스 분할 (개선 후보 비교용)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeedCsvParseBenchmark {
+
+    private static final String SEED_CSV_SPLIT = ",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)";
+    private static final Pattern SEED_CSV_PATTERN = Pattern.compile(SEED_CSV_SPLIT);
+
+    @Param({ "24", "1000" })
+    public int rows;
+
+    private List<String> lines;
+
+    @Setup
+    public void setUp() {
+        lines = SyntheticData.seedCsvLines(rows, SyntheticData.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public void regexSplit(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(line.split(SEED_CSV_SPLIT, -1));
+        }
+    }
+
+    @Benchmark
+    public void precompiledRegex(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(SEED_CSV_PATTERN.split(line, -1));
+        }
+    }
+
+    @Benchmark
+    public void quoteAwareScan(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(scan(line));
+        }
+    }
+
+    static String[] scan(String line) {
+        int columns = 1;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') quoted = !quoted;
+            else if (c == ',' && !quoted) columns++;
+        }
+
+        String[] parts = new String[columns];
+        int column = 0;
+        int start = 0;
+        quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                parts[column++] = line.substring(start, i);
+                start = i + 1;
+            }
+        }
+        parts[column] = line.substring(start);
+        return parts;
+    }
+}
@@ -0,0 +1,75 @@
+package backend.fitmate.bench;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * 벤치마크에서 Spring 컨텍스트 없이 서비스/컨트롤러를 구성하기 위한 도구
+ *
+ * - 리포지토리는 메서드 이름별 응답을 돌려주는 동적 프록시로 대체 (DB 비용 제외, 메모리 처리만 측정)
+ * - 서비스/컨트롤러는 측정 대상만 등록한 작은 Spring 컨텍스트에서 주입받아 public 메서드로만 호출
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+            }
+        });
+    }
+
+    /**
+     * 등록한 빈만으로 구성한 컨텍스트. 등록되지 않은 의존성은 지연 프록시로 주입되어
+     * 측정 경로에서 실제로 호출될 때만 NoSuchBeanDefinitionException 이 납니다. (생성자 변경에 영향받지 않음)
+     */
+    public static AnnotationConfigApplicationContext context(Map<String, Object> properties,
+                                                             Consumer<AnnotationConfigApplicationContext> registrations) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getDefaultListableBeanFactory().setAutowireCandidateResolver(new LazyWhenMissingResolver());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        registrations.accept(context);
+        context.refresh();
+        return context;
+    }
+
+    private static final class LazyWhenMissingResolver extends ContextAnnotationAutowireCandidateResolver {
+        @Override
+        protected boolean isLazy(DependencyDescriptor descriptor) {
+            if (super.isLazy(descriptor)) {
+                return true;
+            }
+            Class<?> type = descriptor.getDependencyType();
+            if (getSuggestedValue(descriptor) != null || type.isPrimitive() || Modifier.isFinal(type.getModifiers())
+                    || type.getName().startsWith("java.") || ObjectFactory.class.isAssignableFrom(type)) {
+                return false;
+            }
+            return ((ListableBeanFactory) getBeanFactory()).getBeanNamesForType(type).length == 0;
+        }
+    }
+}
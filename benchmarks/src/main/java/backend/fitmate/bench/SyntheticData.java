@@ -0,0 +1,151 @@
+package backend.fitmate.bench;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.User.entity.WorkoutRecord;
+
+/**
+ * 벤치마크용 합성 데이터 생성기
+ *
+ * 모든 메서드는 시드를 받아 같은 입력이면 항상 같은 데이터를 만듭니다. (실행 간 결과 비교 가능)
+ */
+public final class SyntheticData {
+
+    public static final long DEFAULT_SEED = 20240919L;
+
+    private static final String[] CATEGORIES = { "하체", "상체", "코어", "전신", "유산소", "가슴", "등", "어깨" };
+    private static final String[] MUSCLES = { "대퇴사두근", "대둔근", "대퇴이두근", "복직근", "척추기립근",
+            "대흉근", "광배근", "삼각근", "이두근", "삼두근", "비복근", "승모근" };
+    private static final String[] WORKOUT_TYPES = { "웨이트", "유산소", "요가", "스트레칭", "필라테스" };
+    private static final DateTimeFormatter WEEK_LABEL = DateTimeFormatter.ofPattern("~MM-dd");
+
+    private SyntheticData() {
+    }
+
+    /**
+     * 운동 카탈로그. id는 1..count를 섞은 순서로 부여 (정렬 비용 포함)
+     */
+    public static List<Exercise> exercises(int count, long seed) {
+        Random random = new Random(seed);
+        List<Long> ids = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            ids.add(id);
+        }
+        Collections.shuffle(ids, random);
+
+        List<Exercise> exercises = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double mets = Math.round((1.5 + random.nextDouble() * 9.0) * 10.0) / 10.0;
+            Exercise exercise = new Exercise();
+            exercise.setId(ids.get(i));
+            exercise.setName("운동 " + i);
+            exercise.setKoreanName("운동 " + i);
+            exercise.setCategory(pick(CATEGORIES, random));
+            exercise.setMuscleGroup(exercise.getCategory());
+            exercise.setMuscles(List.of(pick(MUSCLES, random), pick(MUSCLES, random)));
+            exercise.setMusclesSecondary(List.of(pick(MUSCLES, random)));
+            exercise.setEquipment(List.of());
+            exercise.setMets(mets);
+            exercise.setIntensity(mets < 3.0 ? "LOW" : mets < 6.0 ? "MEDIUM" : "HIGH");
+            exercises.add(exercise);
+        }
+        return exercises;
+    }
+
+    /**
+     * exercises_seed.csv 형식의 데이터 행 (헤더 제외). 설명/방법 컬럼에 따옴표 안 쉼표 포함
+     */
+    public static List<String> seedCsvLines(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder instructions = new StringBuilder("\"");
+            int steps = 3 + random.nextInt(5);
+            for (int s = 0; s < steps; s++) {
+                if (s > 0) instructions.append('|');
+                instructions.append("단계 ").append(s + 1).append(", 자세를 유지하며 천천히 반복하세요");
+            }
+            instructions.append('"');
+
+            lines.add(String.join(",",
+                    "운동 " + i,
+                    String.valueOf(Math.round((1.5 + random.nextDouble() * 9.0) * 10.0) / 10.0),
+                    pick(CATEGORIES, random) + ";" + pick(CATEGORIES, random),
+                    pick(MUSCLES, random) + ";" + pick(MUSCLES, random),
+                    pick(MUSCLES, random) + ";" + pick(MUSCLES, random) + ";" + pick(MUSCLES, random),
+                    "전신을 사용하는 복합 운동 " + i,
+                    "ex" + Integer.toHexString(random.nextInt()),
+                    instructions.toString()));
+        }
+        return lines;
+    }
+
+    /**
+     * 한 사용자의 운동 기록. 최근 days일 중 약 70%의 날에 1~2건, 오늘부터 연속 streakDays일은 반드시 기록
+     */
+    public static List<WorkoutRecord> workoutRecords(int days, int streakDays, LocalDate today, long seed) {
+        Random random = new Random(seed);
+        List<WorkoutRecord> records = new ArrayList<>();
+        long id = 1;
+        for (int offset = 0; offset < days; offset++) {
+            boolean forced = offset < streakDays;
+            if (!forced && (offset == streakDays || random.nextDouble() >= 0.7)) {
+                continue;
+            }
+            int perDay = 1 + random.nextInt(2);
+            for (int n = 0; n < perDay; n++) {
+                WorkoutRecord record = new WorkoutRecord();
+                record.setId(id++);
+                record.setWorkoutDate(today.minusDays(offset));
+                record.setWorkoutType(pick(WORKOUT_TYPES, random));
+                record.setDuration(10 + random.nextInt(110));
+                record.setCalories(50 + random.nextInt(700));
+                record.setIntensity(1 + random.nextInt(10));
+                record.setDifficulty(WorkoutRecord.WorkoutDifficulty.values()[random.nextInt(5)]);
+                if (random.nextBoolean()) {
+                    record.setSets(1 + random.nextInt(6));
+                    record.setReps(5 + random.nextInt(16));
+                    record.setWeight(Math.round(random.nextDouble() * 1200.0) / 10.0);
+                }
+                records.add(record);
+            }
+        }
+        // 리포지토리 정렬 순서(workoutDate desc)와 동일
+        return records;
+    }
+
+    /**
+     * 주간 통계 쿼리 결과 형태: [주 라벨, 운동 시간(분)]
+     */
+    public static List<Object[]> weeklyStats(int weeks, LocalDate today, long seed) {
+        Random random = new Random(seed);
+        List<Object[]> rows = new ArrayList<>(weeks);
+        for (int w = 0; w < weeks; w++) {
+            rows.add(new Object[] { today.minusWeeks(w).format(WEEK_LABEL), BigDecimal.valueOf(random.nextInt(600)) });
+        }
+        return rows;
+    }
+
+    /**
+     * 주간 비교 쿼리 결과 형태: [이번 주 시간, 지난 주 시간, 이번 주 칼로리, 지난 주 칼로리]
+     */
+    public static List<Object[]> weeklyComparison(long seed) {
+        Random random = new Random(seed);
+        List<Object[]> rows = new ArrayList<>(1);
+        rows.add(new Object[] {
+                BigDecimal.valueOf(random.nextInt(600)), BigDecimal.valueOf(random.nextInt(600)),
+                BigDecimal.valueOf(random.nextInt(5000)), BigDecimal.valueOf(random.nextInt(5000)) });
+        return rows;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,67 @@
+package backend.fitmate.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import backend.fitmate.User.dto.TrendSeries;
+
+/**
+ * 추이 응답 직렬화: 기존 List<Object[]> 행 경로와 TrendSeries 컬럼 경로 (GET /api/mypage/{userId}/trends)
+ *
+ * 요청당 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 으로 비교합니다.
+ *   java -jar target/benchmarks.jar TrendSeries -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrendSeriesBenchmark {
+
+    @Param({ "30", "365" })
+    public int days;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(days);
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < days; i++) {
+            rows.add(new Object[] { start.plusDays(i), 70.0 + (i % 10) * 0.1 });
+        }
+    }
+
+    @Benchmark
+    public byte[] objectArrayRows() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Map.of("weightTrend", rows));
+    }
+
+    @Benchmark
+    public byte[] columnar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Map.of("weightTrend", TrendSeries.fromRows(rows)));
+    }
+}
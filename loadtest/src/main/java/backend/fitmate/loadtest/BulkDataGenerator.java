@@ -0,0 +1,337 @@
+package backend.fitmate.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 대량 합성 데이터 생성기 (인덱스/쿼리 변경을 수천만 건 규모에서 검증하기 위한 용도)
+ *
+ * 사용자 N명과 여러 해에 걸친 운동/신체 기록을 JDBC 배치 INSERT로 직접 적재합니다. 엔티티/서비스를 거치지 않으므로
+ * 건당 저장보다 수백 배 빠르며, 같은 시드/종료일이면 항상 같은 데이터를 만듭니다. (사용자별 난수열 분리)
+ * 스키마는 앱이 한 번 기동되어 만들어져 있어야 합니다. (ddl-auto=update)
+ *
+ * 단독 실행: mvn compile exec:java -Dexec.mainClass=backend.fitmate.loadtest.BulkDataGenerator
+ *           -Dgen.jdbc-url=jdbc:mysql://localhost:3306/fitmate -Dgen.username=... -Dgen.password=... -Dgen.users=16000
+ */
+public class BulkDataGenerator {
+
+    /** 생성된 사용자의 공통 비밀번호 (부하 테스트에서 로그인 가능) */
+    public static final String PASSWORD = "password123";
+
+    private static final String[] GOALS = { "general", "weight_loss", "muscle_gain", "strength", "endurance" };
+    private static final String[] EXPERIENCES = { "beginner", "intermediate", "advanced" };
+    private static final String[] WEIGHT_KEYWORDS = { "바벨", "덤벨", "벤치", "레그" };
+
+    public record Settings(int users, int years, LocalDate endDate, long seed, int batchSize, String emailDomain) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("gen.users", 1000),
+                    Integer.getInteger("gen.years", 3),
+                    LocalDate.parse(System.getProperty("gen.end-date", LocalDate.now().toString())),
+                    Long.getLong("gen.seed", 42L),
+                    Integer.getInteger("gen.batch-size", 5000),
+                    System.getProperty("gen.email-domain", "bulk.fitmate.test"));
+        }
+    }
+
+    public record Summary(int users, long workoutRecords, long bodyRecords, long elapsedMs) {
+
+        @Override
+        public String toString() {
+            long rows = users + workoutRecords + bodyRecords;
+            return "사용자 " + users + "명, 운동 기록 " + workoutRecords + "건, 신체 기록 " + bodyRecords + "건 / "
+                    + elapsedMs + "ms (" + (rows * 1000 / Math.max(1, elapsedMs)) + " rows/s)";
+        }
+    }
+
+    private record CatalogExercise(String name, double mets, boolean weightTraining) {
+    }
+
+    private final Settings settings;
+    private final List<CatalogExercise> catalog;
+
+    public BulkDataGenerator(Settings settings) throws IOException {
+        this.settings = settings;
+        this.catalog = loadCatalog();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("gen.jdbc-url");
+        if (url == null) {
+            System.err.println("gen.jdbc-url 을 지정하세요. (예: -Dgen.jdbc-url=jdbc:mysql://localhost:3306/fitmate)");
+            System.exit(2);
+        }
+        Settings settings = Settings.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(withBatchRewrite(url),
+                System.getProperty("gen.username", "root"), System.getProperty("gen.password", ""))) {
+            System.out.println("대량 데이터 생성 시작: " + settings);
+            System.out.println("대량 데이터 생성 완료: " + new BulkDataGenerator(settings).generate(connection));
+        }
+    }
+
+    /**
+     * 드라이버가 배치를 다중 VALUES INSERT로 합치도록 URL 옵션 추가 (MySQL: rewriteBatchedStatements, MariaDB: useBulkStmts)
+     */
+    public static String withBatchRewrite(String url) {
+        String option = url.startsWith("jdbc:mysql:") ? "rewriteBatchedStatements=true"
+                : url.startsWith("jdbc:mariadb:") ? "useBulkStmts=true" : null;
+        if (option == null || url.contains(option.substring(0, option.indexOf('=')))) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + option;
+    }
+
+    public Summary generate(Connection connection) throws SQLException {
+        long start = System.currentTimeMillis();
+        requireSchema(connection);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long[] userIds = insertUsers(connection);
+            long[] counts = insertHistories(connection, userIds);
+            return new Summary(userIds.length, counts[0], counts[1], System.currentTimeMillis() - start);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void requireSchema(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String table : List.of("users", "workout_records", "body_records")) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, table, null)) {
+                if (!tables.next()) {
+                    throw new IllegalStateException("테이블 " + table + " 이 없습니다. 앱을 한 번 기동해 스키마를 만든 뒤 실행하세요.");
+                }
+            }
+        }
+        try (PreparedStatement existing = connection.prepareStatement(
+                "SELECT COUNT(*) FROM users WHERE email_lower LIKE ?")) {
+            existing.setString(1, "%@" + settings.emailDomain());
+            try (ResultSet rs = existing.executeQuery()) {
+                if (rs.next() && rs.getLong(1) > 0) {
+                    throw new IllegalStateException("이미 " + settings.emailDomain()
+                            + " 사용자가 있습니다. gen.email-domain 을 바꾸거나 기존 데이터를 지운 뒤 실행하세요.");
+                }
+            }
+        }
+    }
+
+    private long[] insertUsers(Connection connection) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD); // 전원 공통 (건당 해시 비용 제거)
+        LocalDateTime now = settings.endDate().atStartOfDay();
+        String sql = "INSERT INTO users (email, email_lower, name, name_lower, password, email_verified, role,"
+                + " gender, age, birth_date, height, weight, goal, experience, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < settings.users(); i++) {
+                Random random = userRandom(i, 0);
+                String email = email(i);
+                String name = "벌크 사용자 " + i;
+                int age = 18 + random.nextInt(50);
+                insert.setString(1, email);
+                insert.setString(2, email);
+                insert.setString(3, name);
+                insert.setString(4, name);
+                insert.setString(5, passwordHash);
+                insert.setBoolean(6, true);
+                insert.setString(7, "ROLE_USER");
+                insert.setString(8, random.nextBoolean() ? "male" : "female");
+                insert.setString(9, String.valueOf(age));
+                insert.setString(10, settings.endDate().minusYears(age).toString().replace("-", ""));
+                insert.setString(11, String.valueOf(150 + random.nextInt(45)));
+                insert.setString(12, String.valueOf(50 + random.nextInt(50)));
+                insert.setString(13, GOALS[random.nextInt(GOALS.length)]);
+                insert.setString(14, EXPERIENCES[random.nextInt(EXPERIENCES.length)]);
+                insert.setTimestamp(15, Timestamp.valueOf(now.minusYears(settings.years())));
+                insert.setTimestamp(16, Timestamp.valueOf(now));
+                insert.addBatch();
+                if ((i + 1) % settings.batchSize() == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+
+        // 생성 ID는 배치 드라이버마다 반환 방식이 달라 이메일로 다시 조회
+        long[] ids = new long[settings.users()];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, email_lower FROM users WHERE email_lower LIKE ?")) {
+            select.setString(1, "%@" + settings.emailDomain());
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String email = rs.getString(2);
+                    ids[Integer.parseInt(email.substring("bulk".length(), email.indexOf('@')))] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long[] insertHistories(Connection connection, long[] userIds) throws SQLException {
+        String workoutSql = "INSERT INTO workout_records (user_id, workout_date, workout_type, duration, calories,"
+                + " intensity, difficulty, sets, reps, weight, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String bodySql = "INSERT INTO body_records (user_id, measure_date, weight, body_fat_percentage, muscle_mass,"
+                + " created_at) VALUES (?, ?, ?, ?, ?, ?)";
+        LocalDate startDate = settings.endDate().minusYears(settings.years());
+        long workouts = 0;
+        long bodies = 0;
+        long nextProgress = 1_000_000;
+
+        try (PreparedStatement workout = connection.prepareStatement(workoutSql);
+             PreparedStatement body = connection.prepareStatement(bodySql)) {
+            int pending = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                Random random = userRandom(i, 1);
+                double activity = 0.15 + random.nextDouble() * 0.6; // 운동하는 날의 비율
+                double bodyWeight = 50 + random.nextInt(50);
+                double bodyFat = 12 + random.nextDouble() * 18;
+                double muscleMass = bodyWeight * (0.38 + random.nextDouble() * 0.1);
+                double trend = (random.nextDouble() - 0.6) * 0.01; // 하루 체중 변화 경향 (대체로 감량)
+                List<CatalogExercise> favorites = new ArrayList<>();
+                for (int f = 0; f < 3 + random.nextInt(4); f++) {
+                    favorites.add(catalog.get(random.nextInt(catalog.size())));
+                }
+
+                for (LocalDate date = startDate; !date.isAfter(settings.endDate()); date = date.plusDays(1)) {
+                    if (random.nextDouble() < activity) {
+                        int perDay = random.nextDouble() < 0.25 ? 2 : 1;
+                        for (int n = 0; n < perDay; n++) {
+                            CatalogExercise exercise = random.nextDouble() < 0.8
+                                    ? favorites.get(random.nextInt(favorites.size()))
+                                    : catalog.get(random.nextInt(catalog.size()));
+                            bindWorkout(workout, userIds[i], date, exercise, bodyWeight, random);
+                            workout.addBatch();
+                            workouts++;
+                            pending++;
+                        }
+                    }
+
+                    bodyWeight = Math.max(40, bodyWeight + trend + (random.nextDouble() - 0.5) * 0.2);
+                    bodyFat = Math.max(5, bodyFat + trend * 0.5 + (random.nextDouble() - 0.5) * 0.05);
+                    muscleMass = muscleMass + (random.nextDouble() - 0.45) * 0.02;
+                    if (random.nextInt(7) < 2) { // 주 2회 정도 측정
+                        body.setLong(1, userIds[i]);
+                        body.setDate(2, Date.valueOf(date));
+                        body.setDouble(3, round1(bodyWeight));
+                        body.setDouble(4, round1(bodyFat));
+                        body.setDouble(5, round1(muscleMass));
+                        body.setTimestamp(6, Timestamp.valueOf(date.atTime(7, random.nextInt(60))));
+                        body.addBatch();
+                        bodies++;
+                        pending++;
+                    }
+
+                    if (pending >= settings.batchSize()) {
+                        workout.executeBatch();
+                        body.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+
+                if (workouts + bodies >= nextProgress) {
+                    System.out.println("  ... 사용자 " + (i + 1) + "/" + userIds.length + ", 운동 " + workouts
+                            + "건, 신체 " + bodies + "건");
+                    nextProgress += 1_000_000;
+                }
+            }
+            workout.executeBatch();
+            body.executeBatch();
+            connection.commit();
+        }
+        return new long[] { workouts, bodies };
+    }
+
+    /**
+     * DataLoader 와 같은 규칙: 칼로리 = MET × 체중 × 시간, 강도/난이도는 MET 구간, 웨이트 운동만 세트/횟수/무게
+     */
+    private static void bindWorkout(PreparedStatement workout, long userId, LocalDate date, CatalogExercise exercise,
+            double bodyWeight, Random random) throws SQLException {
+        int duration = 15 + random.nextInt(76);
+        int intensity = exercise.mets() < 3.0 ? 1 + random.nextInt(3)
+                : exercise.mets() < 6.0 ? 4 + random.nextInt(3) : 7 + random.nextInt(4);
+        String difficulty = intensity <= 3 ? "EASY" : intensity <= 6 ? "MODERATE" : "HARD";
+
+        workout.setLong(1, userId);
+        workout.setDate(2, Date.valueOf(date));
+        workout.setString(3, exercise.name());
+        workout.setInt(4, duration);
+        workout.setInt(5, (int) Math.round(exercise.mets() * bodyWeight * duration / 60.0));
+        workout.setInt(6, intensity);
+        workout.setString(7, difficulty);
+        if (exercise.weightTraining()) {
+            workout.setInt(8, 3 + random.nextInt(5));
+            workout.setInt(9, 8 + random.nextInt(12));
+            workout.setDouble(10, round1(20.0 + random.nextDouble() * 80.0));
+        } else {
+            workout.setNull(8, Types.INTEGER);
+            workout.setNull(9, Types.INTEGER);
+            workout.setNull(10, Types.DOUBLE);
+        }
+        workout.setTimestamp(11, Timestamp.valueOf(date.atTime(6 + random.nextInt(16), random.nextInt(60))));
+    }
+
+    /**
+     * 운동 종류/MET 값은 앱과 같은 시드 CSV 사용 (이름, MET 컬럼만)
+     */
+    private static List<CatalogExercise> loadCatalog() throws IOException {
+        List<CatalogExercise> catalog = new ArrayList<>();
+        try (InputStream is = BulkDataGenerator.class.getResourceAsStream("/exercises_seed.csv")) {
+            if (is == null) {
+                throw new IOException("exercises_seed.csv 를 클래스패스에서 찾을 수 없습니다.");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            reader.readLine(); // header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",", 3);
+                if (parts.length < 3 || parts[0].isBlank()) continue;
+                String name = parts[0].trim();
+                boolean weightTraining = false;
+                for (String keyword : WEIGHT_KEYWORDS) {
+                    weightTraining |= name.contains(keyword);
+                }
+                catalog.add(new CatalogExercise(name, Double.parseDouble(parts[1].trim()), weightTraining));
+            }
+        }
+        return catalog;
+    }
+
+    private String email(int index) {
+        return "bulk" + index + "@" + settings.emailDomain();
+    }
+
+    /**
+     * 사용자별 독립 난수열 (배치 크기/사용자 수와 무관하게 같은 사용자는 같은 데이터)
+     */
+    private Random userRandom(int index, int stream) {
+        return new Random(settings.seed() * 31 + index * 0x9E3779B97F4A7C15L + stream);
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,51 @@
+package backend.fitmate.loadtest;
+
+/**
+ * 재생하는 요청 종류와 혼합 비율 (가중치 합 기준)
+ *
+ * 대시보드 폴링과 운동 검색이 대부분이고, 로그인/기록 저장은 드문 실제 사용 패턴을 흉내냅니다.
+ */
+public enum Endpoint {
+    LOGIN("POST /api/auth/login", 2),
+    DASHBOARD("GET /api/dashboard/data", 40),
+    EXERCISE_SEARCH("GET /api/exercise-information", 30),
+    WORKOUT_LOG("POST /api/workout-records/{userId}", 10),
+    TRENDS("GET /api/mypage/{userId}/trends", 18);
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    /**
+     * 0 이상 가중치 합 미만의 값을 혼합 비율에 따라 엔드포인트로 변환
+     */
+    public static Endpoint pick(int roll) {
+        for (Endpoint endpoint : values()) {
+            if (roll < endpoint.weight) {
+                return endpoint;
+            }
+            roll -= endpoint.weight;
+        }
+        throw new IllegalArgumentException("roll out of range");
+    }
+
+    public static int totalWeight() {
+        int total = 0;
+        for (Endpoint endpoint : values()) {
+            total += endpoint.weight;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,63 @@
+package backend.fitmate.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램(µs)과 응답 분류 카운터
+ *
+ * Recorder 는 여러 가상 스레드에서 동시에 기록해도 안전하며, reset() 으로 워밍업 구간을 버립니다.
+ */
+public class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public void record(long startNanos, int status) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        recorder.recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status == 429) {
+            rateLimited.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /** 연결 오류/타임아웃 등 응답을 받지 못한 경우 */
+    public void recordError(long startNanos) {
+        record(startNanos, -1);
+    }
+
+    public void reset() {
+        recorder.reset();
+        ok.reset();
+        rateLimited.reset();
+        failed.reset();
+    }
+
+    /** 마지막 reset() 이후 구간의 히스토그램 */
+    public Histogram snapshot() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long ok() {
+        return ok.sum();
+    }
+
+    public long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,73 @@
+package backend.fitmate.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 측정 결과를 기준선(baseline) 산출물로 저장
+ *
+ * - summary.txt: 엔드포인트별 처리량, 응답 분류, 지연 시간 백분위 (ms)
+ * - <endpoint>.hgrm: HdrHistogram 백분위 분포 (HistogramPlotter 등으로 실행 간 비교)
+ */
+public final class LatencyReport {
+
+    private LatencyReport() {
+    }
+
+    public static void write(Path dir, Map<Endpoint, EndpointStats> stats, Duration measured, String header,
+            PrintStream console) throws IOException {
+        Files.createDirectories(dir);
+        StringBuilder summary = new StringBuilder(header).append('\n');
+        summary.append(String.format(Locale.ROOT, "%-38s %8s %9s %6s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "429", "err", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+
+        Histogram total = null;
+        long totalCount = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.snapshot();
+            long count = histogram.getTotalCount();
+            totalCount += count;
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+
+            summary.append(row(entry.getKey().label(), histogram, measured,
+                    endpointStats.rateLimited(), endpointStats.failed()));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    dir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0); // µs → ms
+            }
+        }
+        if (total != null) {
+            summary.append(row("TOTAL", total, measured, -1, -1));
+        }
+
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        console.print(summary);
+        console.println("기준선 저장: " + dir.toAbsolutePath() + " (요청 " + totalCount + "건)");
+    }
+
+    private static String row(String label, Histogram h, Duration measured, long rateLimited, long failed) {
+        double seconds = Math.max(1, measured.toMillis()) / 1000.0;
+        return String.format(Locale.ROOT, "%-38s %8d %9.1f %6s %6s %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, h.getTotalCount(), h.getTotalCount() / seconds,
+                rateLimited < 0 ? "-" : String.valueOf(rateLimited), failed < 0 ? "-" : String.valueOf(failed),
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)),
+                ms(h.getValueAtPercentile(99)), ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()));
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,106 @@
+package backend.fitmate.loadtest;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import backend.fitmate.FitmateApplication;
+
+/**
+ * 종단간 부하 테스트 진입점
+ *
+ * 임베디드 MariaDB/Redis 위에 앱을 띄우고 가상 사용자를 준비한 뒤, 혼합 요청을 재생하여 기준선을 저장합니다.
+ * 설정은 시스템 프로퍼티(-Dloadtest.*)로 조정합니다.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int historyDays = Integer.getInteger("loadtest.history-days", 60);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15));
+        Duration measurement = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60));
+        Duration thinkTime = Duration.ofMillis(Integer.getInteger("loadtest.think-time-ms", 250));
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int bulkUsers = Integer.getInteger("loadtest.bulk-users", 0);
+        int bulkYears = Integer.getInteger("loadtest.bulk-years", 3);
+
+        Path outputDir = Path.of(System.getProperty("loadtest.output", "target/loadtest"),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(outputDir);
+
+        // 앱/임베디드 서버 로그는 파일로 보내고 콘솔에는 진행 상황과 결과만 출력
+        PrintStream console = System.out;
+        PrintStream consoleErr = System.err;
+        PrintStream appLog = new PrintStream(new FileOutputStream(outputDir.resolve("app.log").toFile()), true,
+                StandardCharsets.UTF_8);
+        System.setOut(appLog);
+        System.setErr(appLog);
+
+        int exitCode = 0;
+        try (LocalStandIns standIns = LocalStandIns.start()) {
+            console.println("임베디드 MariaDB/Redis 시작: " + standIns.jdbcUrl() + ", redis:" + standIns.redisPort());
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(FitmateApplication.class)
+                    .profiles("loadtest")
+                    // application.properties 보다 우선하도록 커맨드라인 인자로 전달
+                    .run("--spring.datasource.url=" + standIns.jdbcUrl(),
+                            "--spring.data.redis.host=localhost",
+                            "--spring.data.redis.port=" + standIns.redisPort(),
+                            "--server.port=0");
+            try {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                Workload workload = new Workload("http://localhost:" + port);
+                workload.awaitReady(Duration.ofMinutes(2));
+
+                if (bulkUsers > 0) {
+                    // 측정 대상 사용자와 별개로 대용량 테이블 상태를 만들기 위한 배경 데이터
+                    console.println("배경 데이터 생성 중 (사용자 " + bulkUsers + "명, " + bulkYears + "년치)");
+                    BulkDataGenerator.Settings bulk = new BulkDataGenerator.Settings(bulkUsers, bulkYears,
+                            LocalDate.now(), seed, 5000, "bulk.fitmate.test");
+                    try (Connection connection = DriverManager.getConnection(
+                            BulkDataGenerator.withBatchRewrite(standIns.jdbcUrl()), "root", "")) {
+                        console.println("배경 데이터 생성 완료: " + new BulkDataGenerator(bulk).generate(connection));
+                    }
+                }
+
+                console.println("가상 사용자 " + users + "명 준비 중 (가입/로그인/운동 기록 " + historyDays + "일)");
+                workload.prepareUsers(users, historyDays, seed);
+
+                console.println("부하 재생: 워밍업 " + warmup.toSeconds() + "초 + 측정 " + measurement.toSeconds()
+                        + "초, think time " + thinkTime.toMillis() + "ms");
+                workload.run(warmup, measurement, thinkTime, seed);
+
+                String header = "# fitmate 부하 테스트 기준선 " + LocalDateTime.now()
+                        + "\n# users=" + users + " warmup=" + warmup.toSeconds() + "s duration=" + measurement.toSeconds()
+                        + "s thinkTime=" + thinkTime.toMillis() + "ms seed=" + seed + " historyDays=" + historyDays
+                        + " bulkUsers=" + bulkUsers + " bulkYears=" + bulkYears
+                        + "\n# java=" + Runtime.version() + " cpus=" + Runtime.getRuntime().availableProcessors()
+                        + " (closed-loop, 지연 시간은 요청 전송~응답 본문 수신)";
+                LatencyReport.write(outputDir, workload.stats(), measurement, header, console);
+                Files.writeString(outputDir.resolve("metrics.prom"), workload.scrapeMetrics());
+            } finally {
+                context.close();
+            }
+        } catch (Exception e) {
+            console.println("부하 테스트 실패: " + e.getMessage() + " (로그: " + outputDir.resolve("app.log") + ")");
+            e.printStackTrace(appLog);
+            exitCode = 1;
+        } finally {
+            System.setOut(console);
+            System.setErr(consoleErr);
+            appLog.close();
+        }
+        System.exit(exitCode);
+    }
+}
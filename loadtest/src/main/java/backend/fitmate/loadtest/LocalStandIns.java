@@ -0,0 +1,77 @@
+package backend.fitmate.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 테스트용 로컬 MariaDB / Redis (컨테이너 없이 임베디드 바이너리로 실행)
+ *
+ * 운영과 같은 MySQL 계열 DB를 사용해야 YEARWEEK 등 네이티브 쿼리가 그대로 동작하므로 H2 대신 MariaDB4j를 사용합니다.
+ */
+public class LocalStandIns implements AutoCloseable {
+
+    static final String DATABASE = "fitmate";
+
+    private final DB db;
+    private final RedisServer redis;
+    private final int dbPort;
+    private final int redisPort;
+
+    private LocalStandIns(DB db, int dbPort, RedisServer redis, int redisPort) {
+        this.db = db;
+        this.dbPort = dbPort;
+        this.redis = redis;
+        this.redisPort = redisPort;
+    }
+
+    public static LocalStandIns start() throws Exception {
+        int dbPort = freePort();
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(dbPort);
+        config.addArg("--user=root");
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--max-connections=500");
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(DATABASE);
+
+        int redisPort = freePort();
+        RedisServer redis = RedisServer.newRedisServer()
+                .port(redisPort)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .build();
+        redis.start();
+
+        System.out.println("부하 테스트 스탠드인 시작: MariaDB " + dbPort + ", Redis " + redisPort);
+        return new LocalStandIns(db, dbPort, redis, redisPort);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:mariadb://localhost:" + dbPort + "/" + DATABASE;
+    }
+
+    public int redisPort() {
+        return redisPort;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            redis.stop();
+        } finally {
+            db.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package backend.fitmate.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 가상 사용자별 가상 스레드에서 혼합 요청을 재생하는 부하 발생기 (closed-loop + think time)
+ *
+ * 사용자마다 고유한 X-Forwarded-For 를 보내 nginx 뒤의 서로 다른 클라이언트처럼 IP 기준 Rate Limit 을 받습니다.
+ */
+public class Workload {
+
+    private static final String[] KEYWORDS = { null, null, "스쿼트", "푸시업", "런지", "플랭크", "버피" };
+    private static final String[] CATEGORIES = { null, null, null, "하체", "상체", "코어", "전신" };
+    private static final String[] WORKOUT_TYPES = { "웨이트", "유산소", "요가", "스트레칭" };
+    private static final String[] DIFFICULTIES = { "EASY", "MODERATE", "HARD" };
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final List<VirtualUser> users = new ArrayList<>();
+
+    public Workload(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    static final class VirtualUser {
+        final int index;
+        final String email;
+        final String password;
+        final String ip;
+        volatile long userId;
+        volatile String token;
+
+        VirtualUser(int index) {
+            this.index = index;
+            this.email = "loadtest" + index + "@fitmate.com";
+            this.password = "Loadtest!" + index;
+            this.ip = "10." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "." + (index & 0xff);
+        }
+    }
+
+    /**
+     * 가입 → 로그인 → 과거 historyDays 일치 운동 기록 생성. 측정에는 포함하지 않음
+     */
+    public void prepareUsers(int count, int historyDays, long seed) throws Exception {
+        Semaphore permits = new Semaphore(16);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                VirtualUser user = new VirtualUser(i);
+                users.add(user);
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        signup(user);
+                        if (send(user, Endpoint.LOGIN, login(user)) != 200) {
+                            throw new IllegalStateException("로그인 실패: " + user.email);
+                        }
+                        Random random = new Random(seed ^ user.index);
+                        LocalDate today = LocalDate.now();
+                        for (int day = historyDays; day > 0; day--) {
+                            if (random.nextInt(10) < 6) {
+                                send(user, Endpoint.WORKOUT_LOG, workoutLog(user, random, today.minusDays(day)));
+                            }
+                        }
+                        return null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    /**
+     * 워밍업 후 통계를 초기화하고 측정 구간 동안 혼합 요청을 재생
+     */
+    public void run(Duration warmup, Duration measurement, Duration thinkTime, long seed) throws Exception {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long deadline = warmupEnd + measurement.toNanos();
+        int totalWeight = Endpoint.totalWeight();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (VirtualUser user : users) {
+                executor.submit(() -> {
+                    Random random = new Random(seed * 31 + user.index);
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = Endpoint.pick(random.nextInt(totalWeight));
+                        send(user, endpoint, request(user, endpoint, random));
+                        // 평균 thinkTime, 0.5~1.5배 균등 분포
+                        long pause = (long) (thinkTime.toMillis() * (0.5 + random.nextDouble()));
+                        Thread.sleep(pause);
+                    }
+                    return null;
+                });
+            }
+
+            Thread.sleep(Duration.ofNanos(Math.max(0, warmupEnd - System.nanoTime())));
+            stats.values().forEach(EndpointStats::reset);
+        }
+    }
+
+    /**
+     * readiness 가 UP 이 될 때까지 대기 (기동 작업이 백그라운드에서 운동 카탈로그를 채움)
+     */
+    public void awaitReady(Duration timeout) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("readiness 대기 시간 초과: " + timeout.toSeconds() + "초");
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    /**
+     * 서버 측 지표 스냅샷 (측정 종료 시점의 Actuator Prometheus 출력)
+     */
+    public String scrapeMetrics() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == 200 ? response.body() : "# scrape failed: " + response.statusCode() + "\n";
+    }
+
+    public Map<Endpoint, EndpointStats> stats() {
+        return stats;
+    }
+
+    private HttpRequest request(VirtualUser user, Endpoint endpoint, Random random) throws IOException {
+        return switch (endpoint) {
+            case LOGIN -> login(user);
+            case DASHBOARD -> authorized(user, "/api/dashboard/data").GET().build();
+            case EXERCISE_SEARCH -> authorized(user, "/api/exercise-information" + query(
+                    "keyword", KEYWORDS[random.nextInt(KEYWORDS.length)],
+                    "category", CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    "page", String.valueOf(random.nextInt(3)),
+                    "size", "10")).GET().build();
+            case WORKOUT_LOG -> workoutLog(user, random, LocalDate.now());
+            case TRENDS -> authorized(user, "/api/mypage/" + user.userId + "/trends" + query(
+                    "startDate", LocalDate.now().minusDays(30).toString(),
+                    "endDate", LocalDate.now().toString(),
+                    "period", random.nextBoolean() ? "daily" : "weekly")).GET().build();
+        };
+    }
+
+    private void signup(VirtualUser user) throws Exception {
+        Map<String, String> body = new HashMap<>();
+        body.put("email", user.email);
+        body.put("password", user.password);
+        body.put("name", "부하테스트" + user.index);
+        body.put("nickname", "lt" + user.index);
+        body.put("birthDate", "1990-01-01");
+        body.put("gender", user.index % 2 == 0 ? "male" : "female");
+        body.put("phoneNumber", String.format("010%08d", user.index));
+        body.put("goal", "general");
+        HttpResponse<String> response = client.send(json(user, "/api/auth/signup", body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("가입 실패 " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private HttpRequest login(VirtualUser user) throws IOException {
+        return json(user, "/api/auth/login", Map.of("email", user.email, "password", user.password));
+    }
+
+    private HttpRequest workoutLog(VirtualUser user, Random random, LocalDate date) throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("workoutDate", date.toString());
+        body.put("workoutType", WORKOUT_TYPES[random.nextInt(WORKOUT_TYPES.length)]);
+        body.put("duration", 20 + random.nextInt(70));
+        body.put("calories", 100 + random.nextInt(500));
+        body.put("intensity", 1 + random.nextInt(10));
+        body.put("difficulty", DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+        body.put("sets", 3 + random.nextInt(3));
+        body.put("reps", 8 + random.nextInt(8));
+        body.put("weight", 20.0 + random.nextInt(60));
+        return json(user, "/api/workout-records/" + user.userId, body);
+    }
+
+    /**
+     * 요청을 보내고 지연 시간/상태를 기록. 로그인 응답이면 토큰과 사용자 ID 갱신
+     */
+    private int send(VirtualUser user, Endpoint endpoint, HttpRequest request) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.record(start, response.statusCode());
+            if (endpoint == Endpoint.LOGIN && response.statusCode() == 200) {
+                JsonNode body = objectMapper.readTree(response.body());
+                user.token = body.path("token").asText();
+                user.userId = body.path("user").path("id").asLong();
+            }
+            return response.statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            endpointStats.recordError(start);
+            return -1;
+        } catch (IOException e) {
+            endpointStats.recordError(start);
+            return -1;
+        }
+    }
+
+    private HttpRequest json(VirtualUser user, String path, Object body) throws IOException {
+        HttpRequest.Builder builder = user.token != null ? authorized(user, path) : base(user, path);
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(VirtualUser user, String path) {
+        return base(user, path).header("Authorization", "Bearer " + user.token);
+    }
+
+    private HttpRequest.Builder base(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-Forwarded-For", user.ip);
+    }
+
+    private static String query(String... pairs) {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (pairs[i + 1] == null) continue;
+            query.append(query.isEmpty() ? '?' : '&')
+                    .append(pairs[i]).append('=')
+                    .append(URLEncoder.encode(pairs[i + 1], StandardCharsets.UTF_8));
+        }
+        return query.toString();
+    }
+}
@@ -1,16 +1,24 @@
 package backend.fitmate.Exercise.controller;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import backend.fitmate.Exercise.service.ExerciseCatalogSnapshot;
 import backend.fitmate.Exercise.service.ExerciseService;
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class ExerciseController {
 
     private final ExerciseService exerciseService;
+    private final ExerciseCatalogSnapshot exerciseCatalogSnapshot;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> searchExercises(
@@ -45,6 +54,92 @@ public class ExerciseController {
         return ResponseEntity.ok(exerciseService.getAllCategories());
     }
 
+    /**
+     * 운동 카탈로그 전체 스냅샷 (미리 직렬화/압축된 바이트를 그대로 전송)
+     *
+     * ?v=현재 버전으로 요청하면 1년 immutable 캐시, 그 외에는 ETag 재검증(304)
+     * 304 는 Accept-Encoding 으로 고른 표현의 ETag 와 정확히 같을 때만 반환합니다.
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog(
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExerciseCatalogSnapshot.Snapshot snapshot = exerciseCatalogSnapshot.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // 표현(압축 여부)마다 다른 강한 ETag
+        String etag = "\"" + snapshot.version() + (gzip ? "-gz" : "") + "\"";
+        CacheControl cacheControl = snapshot.version().equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+
+        if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .header("X-Catalog-Version", snapshot.version());
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    /** Accept-Encoding 에서 gzip 의 q 값이 0보다 큰지 (gzip 이 없으면 * 의 q 값을 따름) */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return q > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    /** If-None-Match 의 태그 중 현재 표현의 ETag 와 같은 것이 있는지 (약한 비교, * 는 항상 일치) */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @PostMapping("/reload-seed")
     public ResponseEntity<String> reloadExercises() {
         exerciseService.reloadExercisesFromSeed();
@@ -2,6 +2,9 @@ package backend.fitmate.Exercise.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -14,12 +17,23 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 운동 카탈로그
+ *
+ * 시드 재적재 사이에는 사실상 변하지 않으므로 엔티티와 컬렉션을 Hibernate 2차 캐시에 둡니다.
+ * 재적재 시 엔티티를 수정하므로 READ_ONLY 대신 NONSTRICT_READ_WRITE 를 사용합니다. (ExerciseCatalogCache)
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = Exercise.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Exercise {
 
+    public static final String CACHE_REGION = "exercise";
+    /** 근육/카테고리 목록 쿼리 캐시 영역 */
+    public static final String FACETS_CACHE_REGION = "exercise-facets";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -36,16 +50,19 @@ public class Exercise {
     private String muscleGroup; // 주요 근육군
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercise-equipment")
     @CollectionTable(name = "exercise_equipment", joinColumns = @JoinColumn(name = "exercise_id"))
     @Column(name = "equipment")
     private List<String> equipment;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercise-muscles")
     @CollectionTable(name = "exercise_muscles", joinColumns = @JoinColumn(name = "exercise_id"))
     @Column(name = "muscle")
     private List<String> muscles;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercise-muscles-secondary")
     @CollectionTable(name = "exercise_muscles_secondary", joinColumns = @JoinColumn(name = "exercise_id"))
     @Column(name = "muscle_secondary")
     private List<String> musclesSecondary;
@@ -3,14 +3,17 @@ package backend.fitmate.Exercise.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import backend.fitmate.Exercise.entity.Exercise;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
@@ -69,6 +72,8 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
      * @return List<String>
      */
     @Query("SELECT DISTINCT m FROM Exercise e JOIN e.muscles m ORDER BY m")
+    @QueryHints({ @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = Exercise.FACETS_CACHE_REGION) })
     List<String> findAllDistinctMuscles();
     
     /**
@@ -85,6 +90,8 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
      * 모든 고유한 카테고리(시드의 target_areas 기반 1차 카테고리)를 가져옵니다.
      */
     @Query("SELECT DISTINCT e.category FROM Exercise e WHERE e.category IS NOT NULL ORDER BY e.category")
+    @QueryHints({ @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = Exercise.FACETS_CACHE_REGION) })
     List<String> findAllDistinctCategories();
 
     @Query("SELECT e FROM Exercise e WHERE EXISTS (SELECT 1 FROM e.muscles m WHERE LOWER(m) LIKE LOWER(CONCAT('%', :muscle, '%'))) OR EXISTS (SELECT 1 FROM e.musclesSecondary ms WHERE LOWER(ms) LIKE LOWER(CONCAT('%', :muscle, '%')))")
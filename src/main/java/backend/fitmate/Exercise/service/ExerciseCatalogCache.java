@@ -0,0 +1,56 @@
+package backend.fitmate.Exercise.service;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.User.service.CalorieEngine;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운동 카탈로그 2차 캐시 일괄 무효화
+ *
+ * 시드 재적재 후 엔티티/컬렉션/목록 쿼리 영역, 카탈로그 스냅샷, 칼로리 계산용 METs 맵을 한 번에 비웁니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 비워, 커밋 전 데이터가 다시 캐시에 올라가지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExerciseCatalogCache {
+
+    private static final String[] COLLECTIONS = { "equipment", "muscles", "musclesSecondary" };
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExerciseCatalogSnapshot exerciseCatalogSnapshot;
+    private final CalorieEngine calorieEngine;
+
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow();
+                }
+            });
+        } else {
+            evictNow();
+        }
+    }
+
+    private void evictNow() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Exercise.class);
+        for (String collection : COLLECTIONS) {
+            cache.evictCollectionData(Exercise.class.getName() + "." + collection);
+        }
+        cache.evictQueryRegion(Exercise.FACETS_CACHE_REGION);
+        exerciseCatalogSnapshot.invalidate();
+        calorieEngine.invalidateExercises();
+        log.info("🧹 운동 카탈로그 2차 캐시 무효화 완료");
+    }
+}
@@ -0,0 +1,154 @@
+package backend.fitmate.Exercise.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.Exercise.repository.ExerciseRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운동 카탈로그 전체 스냅샷 (운동 선택기용)
+ *
+ * 카탈로그 버전마다 한 번만 JSON으로 직렬화하고 gzip 본문도 미리 만들어 두어, 요청마다 바이트 복사만 합니다.
+ * 버전은 JSON 본문의 SHA-256 이므로 내용이 같으면 재적재 후에도 같은 ETag 를 유지합니다.
+ * 시드 재적재 시 ExerciseCatalogCache 가 invalidate() 를 호출하고, 다음 요청에서 다시 만듭니다.
+ */
+@Component
+@Slf4j
+public class ExerciseCatalogSnapshot {
+
+    /**
+     * 직렬화된 스냅샷. version 은 ETag/쿼리 파라미터로 쓰는 16진수 문자열
+     */
+    public record Snapshot(String version, byte[] json, byte[] gzip) {
+    }
+
+    private final ExerciseRepository exerciseRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+
+    public ExerciseCatalogSnapshot(ExerciseRepository exerciseRepository, PlatformTransactionManager transactionManager) {
+        this.exerciseRepository = exerciseRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Snapshot current() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = current;
+                if (snapshot == null) {
+                    long buildGeneration = generation.get();
+                    snapshot = build();
+                    if (generation.get() == buildGeneration) { // 생성 중 무효화되었으면 보관하지 않음
+                        current = snapshot;
+                    }
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+        Map<String, Object> catalog = readOnlyTransaction.execute(status -> toCatalog(exerciseRepository.findAll()));
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(catalog);
+            String version = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 8);
+            Snapshot snapshot = new Snapshot(version, json, gzip(json));
+            log.info("📦 운동 카탈로그 스냅샷 생성: 버전 {}, {}B (gzip {}B), {}ms", version, json.length,
+                    snapshot.gzip().length, System.currentTimeMillis() - start);
+            return snapshot;
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("운동 카탈로그 스냅샷 생성 실패", e);
+        }
+    }
+
+    /**
+     * 선택기에서 로컬 필터링에 쓰는 필드만 포함 (설명은 상세 API에서 조회)
+     */
+    private static Map<String, Object> toCatalog(List<Exercise> exercises) {
+        List<Exercise> sorted = new ArrayList<>(exercises);
+        sorted.sort(Comparator.comparing(Exercise::getId));
+
+        List<Map<String, Object>> items = new ArrayList<>(sorted.size());
+        TreeSet<String> muscles = new TreeSet<>();
+        TreeSet<String> categories = new TreeSet<>();
+        for (Exercise exercise : sorted) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", exercise.getId());
+            item.put("name", exercise.getName());
+            item.put("koreanName", exercise.getKoreanName());
+            item.put("category", exercise.getCategory());
+            item.put("muscleGroup", exercise.getMuscleGroup());
+            item.put("muscles", copy(exercise.getMuscles()));
+            item.put("musclesSecondary", copy(exercise.getMusclesSecondary()));
+            item.put("equipment", copy(exercise.getEquipment()));
+            item.put("mets", exercise.getMets());
+            item.put("intensity", exercise.getIntensity());
+            items.add(item);
+
+            if (exercise.getMuscles() != null) {
+                muscles.addAll(exercise.getMuscles());
+            }
+            if (exercise.getCategory() != null) {
+                categories.add(exercise.getCategory());
+            }
+        }
+
+        Map<String, Object> catalog = new LinkedHashMap<>();
+        catalog.put("exercises", items);
+        catalog.put("muscles", muscles);
+        catalog.put("categories", categories);
+        catalog.put("totalElements", items.size());
+        return catalog;
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? List.of() : new ArrayList<>(values);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION); // 한 번만 압축하므로 최고 압축률
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ExerciseService {
     private final ExerciseRepository exerciseRepository;
+    private final ExerciseCatalogCache exerciseCatalogCache;
     // Wger 연동 제거로 인해 더 이상 사용하지 않음
     // private final WgerApiService wgerApiService;
 
@@ -916,6 +917,7 @@ public class ExerciseService {
 
                 exerciseRepository.save(exercise);
             }
+            exerciseCatalogCache.evictAll();
         } catch (IOException e) {
             // Consider logging the error
             throw new RuntimeException("Failed to read or process seed data", e);
@@ -0,0 +1,106 @@
+package backend.fitmate.User.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 추이(trend) 조회 결과를 컬럼 형태로 보관하는 DTO
+ *
+ * 리포지토리가 반환하는 List<Object[]> (날짜, 값) 행을 한 번만 순회하여
+ * epochDay(long[])와 값(double[]) 병렬 배열로 변환합니다.
+ * 값이 없는 날짜(null)는 NaN으로 저장되고 JSON에서는 null로 직렬화됩니다.
+ */
+@JsonSerialize(using = TrendSeriesSerializer.class)
+public final class TrendSeries {
+
+    private static final TrendSeries EMPTY = new TrendSeries(new long[0], new double[0], 0);
+
+    private final long[] epochDays;
+    private final double[] values;
+    private final int size;
+
+    private TrendSeries(long[] epochDays, double[] values, int size) {
+        this.epochDays = epochDays;
+        this.values = values;
+        this.size = size;
+    }
+
+    public static TrendSeries of(long[] epochDays, double[] values) {
+        if (epochDays.length != values.length) {
+            throw new IllegalArgumentException("날짜와 값 배열의 길이가 다릅니다: " + epochDays.length + " != " + values.length);
+        }
+        return new TrendSeries(epochDays, values, epochDays.length);
+    }
+
+    /**
+     * (날짜, 값) 형태의 쿼리 결과 행을 컬럼 형태로 변환합니다.
+     * 날짜 컬럼은 LocalDate, java.sql.Date, "yyyy-MM-dd" 또는 "yyyy-MM"(월별 집계) 문자열을 지원합니다.
+     */
+    public static TrendSeries fromRows(List<Object[]> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return EMPTY;
+        }
+
+        int n = rows.size();
+        long[] epochDays = new long[n];
+        double[] values = new double[n];
+        int size = 0;
+
+        for (Object[] row : rows) {
+            if (row == null || row.length < 2 || row[0] == null) {
+                continue;
+            }
+            epochDays[size] = toEpochDay(row[0]);
+            values[size] = row[1] instanceof Number number ? number.doubleValue() : Double.NaN;
+            size++;
+        }
+
+        return new TrendSeries(epochDays, values, size);
+    }
+
+    private static long toEpochDay(Object date) {
+        if (date instanceof LocalDate localDate) {
+            return localDate.toEpochDay();
+        }
+        if (date instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate().toEpochDay();
+        }
+        if (date instanceof LocalDateTime localDateTime) {
+            return localDateTime.toLocalDate().toEpochDay();
+        }
+        String text = date.toString();
+        if (text.length() == 7) {
+            // 월별 집계 키 (yyyy-MM) → 해당 월의 1일
+            return YearMonth.parse(text).atDay(1).toEpochDay();
+        }
+        return LocalDate.parse(text).toEpochDay();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    public double valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * 내부 배열의 복사본을 반환합니다. (직렬화 경로에서는 사용하지 않음)
+     */
+    public long[] getEpochDays() {
+        return Arrays.copyOf(epochDays, size);
+    }
+
+    public double[] getValues() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,46 @@
+package backend.fitmate.User.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * TrendSeries를 {"dates":[epochDay...],"values":[...]} 형태로 직렬화합니다.
+ * 원시 배열을 그대로 기록하므로 요소마다 박싱/Map 생성이 일어나지 않습니다.
+ */
+public class TrendSeriesSerializer extends StdSerializer<TrendSeries> {
+
+    public TrendSeriesSerializer() {
+        super(TrendSeries.class);
+    }
+
+    @Override
+    public void serialize(TrendSeries series, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int size = series.size();
+
+        gen.writeStartObject();
+
+        gen.writeFieldName("dates");
+        gen.writeStartArray(series, size);
+        for (int i = 0; i < size; i++) {
+            gen.writeNumber(series.epochDayAt(i));
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("values");
+        gen.writeStartArray(series, size);
+        for (int i = 0; i < size; i++) {
+            double value = series.valueAt(i);
+            if (Double.isNaN(value)) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,53 @@
+package backend.fitmate.User.dto;
+
+import java.io.Serializable;
+
+import backend.fitmate.User.entity.User;
+
+/**
+ * "user" 캐시에 저장되는 사용자 읽기 모델
+ *
+ * 인증(JWT 필터)과 프로필 조회에 필요한 필드만 담으며, 비밀번호 해시와 연관 엔티티는 포함하지 않습니다.
+ */
+public record UserSnapshot(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        String role,
+        boolean emailVerified,
+        String oauthProvider,
+        String oauthId,
+        String profileImage,
+        String googleOAuthId,
+        String birthDate,
+        String gender,
+        String phoneNumber,
+        String height,
+        String weight,
+        String age,
+        String goal,
+        String experience) implements Serializable {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getRole(),
+                user.isEmailVerified(),
+                user.getOauthProvider(),
+                user.getOauthId(),
+                user.getProfileImage(),
+                user.getGoogleOAuthId(),
+                user.getBirthDate(),
+                user.getGender(),
+                user.getPhoneNumber(),
+                user.getHeight(),
+                user.getWeight(),
+                user.getAge(),
+                user.getGoal(),
+                user.getExperience());
+    }
+}
@@ -0,0 +1,76 @@
+package backend.fitmate.User.dto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import backend.fitmate.config.CompactCodec;
+
+/**
+ * UserSnapshot 바이너리 코덱 (typeId 20)
+ */
+@Component
+public class UserSnapshotCodec implements CompactCodec<UserSnapshot> {
+
+    @Override
+    public Class<UserSnapshot> type() {
+        return UserSnapshot.class;
+    }
+
+    @Override
+    public int typeId() {
+        return 20;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DataOutput out, UserSnapshot value) throws IOException {
+        CompactCodec.writeNullableLong(out, value.id());
+        CompactCodec.writeNullableString(out, value.email());
+        CompactCodec.writeNullableString(out, value.name());
+        CompactCodec.writeNullableString(out, value.nickname());
+        CompactCodec.writeNullableString(out, value.role());
+        out.writeBoolean(value.emailVerified());
+        CompactCodec.writeNullableString(out, value.oauthProvider());
+        CompactCodec.writeNullableString(out, value.oauthId());
+        CompactCodec.writeNullableString(out, value.profileImage());
+        CompactCodec.writeNullableString(out, value.googleOAuthId());
+        CompactCodec.writeNullableString(out, value.birthDate());
+        CompactCodec.writeNullableString(out, value.gender());
+        CompactCodec.writeNullableString(out, value.phoneNumber());
+        CompactCodec.writeNullableString(out, value.height());
+        CompactCodec.writeNullableString(out, value.weight());
+        CompactCodec.writeNullableString(out, value.age());
+        CompactCodec.writeNullableString(out, value.goal());
+        CompactCodec.writeNullableString(out, value.experience());
+    }
+
+    @Override
+    public UserSnapshot read(DataInput in, int version) throws IOException {
+        return new UserSnapshot(
+                CompactCodec.readNullableLong(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                in.readBoolean(),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in),
+                CompactCodec.readNullableString(in));
+    }
+}
@@ -0,0 +1,51 @@
+package backend.fitmate.User.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Google Calendar 이벤트의 로컬 미러
+ * 이벤트 원본은 JSON 그대로 보관하고, 기간 조회용 시작/종료 시각만 컬럼으로 분리합니다.
+ */
+@Entity
+@Table(name = "calendar_event_mirrors",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"google_oauth_id", "event_id"}),
+       indexes = @Index(name = "idx_calendar_mirror_user_start", columnList = "google_oauth_id, start_millis"))
+@Data
+@NoArgsConstructor
+public class CalendarEventMirror {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "google_oauth_id", nullable = false)
+    private String googleOAuthId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "start_millis")
+    private Long startMillis;
+
+    @Column(name = "end_millis")
+    private Long endMillis;
+
+    @Lob
+    @Column(nullable = false)
+    private String eventJson; // Google Event 원본 JSON
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package backend.fitmate.User.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Google Calendar 증분 동기화 상태
+ */
+@Entity
+@Table(name = "calendar_sync_states")
+@Data
+@NoArgsConstructor
+public class CalendarSyncState {
+
+    @Id
+    @Column(name = "google_oauth_id")
+    private String googleOAuthId;
+
+    @Column(length = 1024)
+    private String syncToken; // 다음 증분 동기화에 사용할 nextSyncToken
+
+    @Column
+    private Long windowStartMillis; // 미러가 빠짐없이 보관하는 구간의 시작 (전체 동기화 timeMin)
+
+    @Column
+    private LocalDateTime lastSyncedAt;
+
+    @Column
+    private LocalDateTime lastAccessedAt; // 최근 조회 시각 (백그라운드 동기화 대상 판단)
+
+    public CalendarSyncState(String googleOAuthId) {
+        this.googleOAuthId = googleOAuthId;
+    }
+}
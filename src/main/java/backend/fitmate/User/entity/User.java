@@ -2,6 +2,7 @@ package backend.fitmate.User.entity;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -13,6 +14,9 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -25,6 +29,9 @@ import lombok.NoArgsConstructor;
         name = "UK_USERS_OAUTH_PROVIDER_ID", 
         columnNames = {"oauth_provider", "oauth_id"}
     )
+}, indexes = {
+    @Index(name = "IDX_USERS_EMAIL_LOWER", columnList = "email_lower, id"),
+    @Index(name = "IDX_USERS_NAME_LOWER", columnList = "name_lower, id")
 })
 @Data
 @NoArgsConstructor
@@ -114,6 +121,13 @@ public class User implements Serializable {
     @Column
     private String role = "ROLE_USER"; // 사용자 권한: ROLE_USER, ROLE_ADMIN
 
+    // 관리자 검색용 소문자 컬럼 (prefix 검색 B-tree 인덱스, 저장 시 자동 갱신)
+    @Column(name = "email_lower")
+    private String emailLower;
+
+    @Column(name = "name_lower")
+    private String nameLower;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -122,6 +136,13 @@ public class User implements Serializable {
     @Column
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    void updateSearchColumns() {
+        this.emailLower = email != null ? email.toLowerCase(Locale.ROOT) : null;
+        this.nameLower = name != null ? name.toLowerCase(Locale.ROOT) : null;
+    }
+
     public User update(String name, String picture) {
         this.name = name;
         this.profileImage = picture;
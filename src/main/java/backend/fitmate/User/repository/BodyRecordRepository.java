@@ -3,13 +3,17 @@ package backend.fitmate.User.repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import backend.fitmate.User.entity.BodyRecord;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface BodyRecordRepository extends JpaRepository<BodyRecord, Long> {
@@ -170,6 +174,19 @@ public interface BodyRecordRepository extends JpaRepository<BodyRecord, Long> {
                                             @Param("startDate") LocalDate startDate,
                                             @Param("endDate") LocalDate endDate);
 
+    /**
+     * 사용자의 가장 최근 체중 기록 (칼로리 계산용)
+     */
+    Optional<BodyRecord> findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(Long userId);
+
+    /**
+     * 사용자의 전체 신체 기록을 날짜순 스트림으로 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @QueryHints({ @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT br FROM BodyRecord br WHERE br.user.id = :userId ORDER BY br.measureDate, br.id")
+    Stream<BodyRecord> streamByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자의 모든 신체 기록 삭제
      */
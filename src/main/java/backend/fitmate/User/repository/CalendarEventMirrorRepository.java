@@ -0,0 +1,50 @@
+package backend.fitmate.User.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.fitmate.User.entity.CalendarEventMirror;
+
+@Repository
+public interface CalendarEventMirrorRepository extends JpaRepository<CalendarEventMirror, Long> {
+
+    /**
+     * 사용자의 특정 이벤트 조회
+     */
+    Optional<CalendarEventMirror> findByGoogleOAuthIdAndEventId(String googleOAuthId, String eventId);
+
+    /**
+     * 지정 시각 이후 종료되는 이벤트 (시작 시각 순)
+     */
+    @Query("SELECT m FROM CalendarEventMirror m WHERE m.googleOAuthId = :googleOAuthId " +
+           "AND m.endMillis > :now ORDER BY m.startMillis")
+    List<CalendarEventMirror> findUpcoming(@Param("googleOAuthId") String googleOAuthId,
+                                           @Param("now") long now, Pageable pageable);
+
+    /**
+     * 기간과 겹치는 이벤트 (시작 시각 순)
+     */
+    @Query("SELECT m FROM CalendarEventMirror m WHERE m.googleOAuthId = :googleOAuthId " +
+           "AND m.startMillis < :endMillis AND m.endMillis > :startMillis ORDER BY m.startMillis")
+    List<CalendarEventMirror> findInRange(@Param("googleOAuthId") String googleOAuthId,
+                                          @Param("startMillis") long startMillis,
+                                          @Param("endMillis") long endMillis);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CalendarEventMirror m WHERE m.googleOAuthId = :googleOAuthId AND m.eventId = :eventId")
+    int deleteByGoogleOAuthIdAndEventId(@Param("googleOAuthId") String googleOAuthId, @Param("eventId") String eventId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CalendarEventMirror m WHERE m.googleOAuthId = :googleOAuthId")
+    int deleteByGoogleOAuthId(@Param("googleOAuthId") String googleOAuthId);
+}
@@ -0,0 +1,18 @@
+package backend.fitmate.User.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import backend.fitmate.User.entity.CalendarSyncState;
+
+@Repository
+public interface CalendarSyncStateRepository extends JpaRepository<CalendarSyncState, String> {
+
+    /**
+     * 최근에 캘린더를 조회한 사용자의 동기화 상태
+     */
+    List<CalendarSyncState> findByLastAccessedAtAfter(LocalDateTime since);
+}
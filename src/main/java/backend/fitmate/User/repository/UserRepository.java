@@ -1,8 +1,14 @@
 package backend.fitmate.User.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import backend.fitmate.User.entity.User;
@@ -49,9 +55,55 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * OAuth2 제공자와 OAuth2 ID로 사용자 조회
      */
     Optional<User> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
+
+    /**
+     * OAuth2 제공자와 OAuth2 ID로 사용자 ID만 조회
+     */
+    @Query("select u.id from User u where u.oauthProvider = :provider and u.oauthId = :oauthId")
+    Optional<Long> findIdByOauthProviderAndOauthId(@Param("provider") String provider, @Param("oauthId") String oauthId);
     
     /**
      * OAuth2 제공자로 사용자 조회
      */
     Optional<User> findByOauthProvider(String oauthProvider);
-} 
\ No newline at end of file
+
+    /**
+     * 이메일/이름 소문자 prefix 검색 (escape 문자 '!', id 오름차순)
+     * OR 조건은 두 인덱스를 함께 쓰지 못해 전체 스캔이 되므로, 컬럼별 인덱스 범위 스캔의 UNION 으로 id를 모읍니다.
+     */
+    @Query(value = "select u.* from users u join ("
+            + "select id from users where email_lower like :prefix escape '!' "
+            + "union select id from users where name_lower like :prefix escape '!'"
+            + ") m on m.id = u.id order by u.id",
+           countQuery = "select count(*) from ("
+            + "select id from users where email_lower like :prefix escape '!' "
+            + "union select id from users where name_lower like :prefix escape '!'"
+            + ") m",
+           nativeQuery = true)
+    Page<User> searchByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * prefix 검색 keyset 페이징 (id 오름차순, afterId 다음부터 size개)
+     * 각 인덱스(email_lower/name_lower, id)에서 size개씩만 가져와 합친 뒤 다시 size개로 자릅니다.
+     */
+    @Query(value = "select u.* from users u join ("
+            + "(select id from users where email_lower like :prefix escape '!' and id > :afterId order by id limit :size) "
+            + "union (select id from users where name_lower like :prefix escape '!' and id > :afterId order by id limit :size)"
+            + ") m on m.id = u.id order by u.id limit :size",
+           nativeQuery = true)
+    List<User> searchByPrefixAfter(@Param("prefix") String prefix, @Param("afterId") Long afterId, @Param("size") int size);
+
+    @Query("select u from User u where u.id > :afterId order by u.id")
+    List<User> findAllAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    /**
+     * 검색 컬럼 도입 이전 사용자의 소문자 컬럼 채우기 (원본이 null 인 행은 건드리지 않아 재실행 시 갱신 0건)
+     */
+    @Modifying
+    @Query("update User u set u.emailLower = lower(u.email) where u.emailLower is null and u.email is not null")
+    int backfillEmailLower();
+
+    @Modifying
+    @Query("update User u set u.nameLower = lower(u.name) where u.nameLower is null and u.name is not null")
+    int backfillNameLower();
+}
@@ -1,14 +1,19 @@
 package backend.fitmate.User.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import backend.fitmate.User.entity.WorkoutRecord;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface WorkoutRecordRepository extends JpaRepository<WorkoutRecord, Long> {
@@ -107,6 +112,27 @@ public interface WorkoutRecordRepository extends JpaRepository<WorkoutRecord, Lo
            "AND wr.workout_date >= DATE_SUB(CURDATE(), INTERVAL 2 WEEK)", nativeQuery = true)
     List<Object[]> getWeeklyComparison(@Param("userId") Long userId);
 
+    /**
+     * 운동 기록이 있는 사용자 ID 목록 (칼로리 일괄 재계산용)
+     */
+    @Query("SELECT DISTINCT wr.user.id FROM WorkoutRecord wr")
+    List<Long> findDistinctUserIds();
+
+    /**
+     * 사용자의 전체 운동 기록을 날짜순 스트림으로 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @QueryHints({ @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT wr FROM WorkoutRecord wr WHERE wr.user.id = :userId ORDER BY wr.workoutDate, wr.id")
+    Stream<WorkoutRecord> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 날짜들의 (날짜, 운동 종류, 생성 시각) 목록 (가져오기 중복 확인용)
+     */
+    @Query("SELECT wr.workoutDate, wr.workoutType, wr.createdAt FROM WorkoutRecord wr " +
+           "WHERE wr.user.id = :userId AND wr.workoutDate IN :dates")
+    List<Object[]> findRecordKeys(@Param("userId") Long userId, @Param("dates") Collection<LocalDate> dates);
+
     /**
      * 사용자의 모든 운동 기록 삭제
      */
@@ -19,6 +19,7 @@ public class BodyRecordService {
 
     private final BodyRecordRepository bodyRecordRepository;
     private final UserService userService;
+    private final CalorieEngine calorieEngine;
 
     /**
      * 신체 기록 저장
@@ -34,6 +35,7 @@ public class BodyRecordService {
         }
         
         bodyRecord.setUser(user);
+        calorieEngine.invalidateWeight(userId);
         return bodyRecordRepository.save(bodyRecord);
     }
 
@@ -89,6 +91,8 @@ public class BodyRecordService {
         if (updatedRecord.getNotes() != null) {
             existingRecord.setNotes(updatedRecord.getNotes());
         }
+
+        calorieEngine.invalidateWeight(existingRecord.getUser().getId());
         
         return bodyRecordRepository.save(existingRecord);
     }
@@ -97,7 +101,10 @@ public class BodyRecordService {
      * 신체 기록 삭제
      */
     public void deleteBodyRecord(Long recordId) {
-        bodyRecordRepository.deleteById(recordId);
+        bodyRecordRepository.findById(recordId).ifPresent(record -> {
+            bodyRecordRepository.delete(record);
+            calorieEngine.invalidateWeight(record.getUser().getId());
+        });
     }
 
     /**
@@ -105,6 +112,7 @@ public class BodyRecordService {
      */
     public void deleteAllByUserId(Long userId) {
         bodyRecordRepository.deleteByUserId(userId);
+        calorieEngine.invalidateWeight(userId);
     }
 
     /**
@@ -0,0 +1,201 @@
+package backend.fitmate.User.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.Exercise.repository.ExerciseRepository;
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.UserRepository;
+
+/**
+ * MET 기반 소모 칼로리 계산 (kcal = METs × 체중(kg) × 운동 시간(시간))
+ *
+ * - METs: 운동 이름(영문/한글) → 운동 인덱스를 메모리에 한 번 만들어 두고, 카탈로그 재적재 시 ExerciseCatalogCache 가 비웁니다.
+ *   (가져오기 등에서 입력한 운동 이름을 카탈로그 이름으로 맞출 때도 같은 인덱스를 사용)
+ * - 체중: 사용자별 최신 신체 기록 체중 (없으면 프로필 체중)을 캐시하고, 신체 기록 변경 시 커밋 후 비웁니다.
+ * 둘 중 하나라도 알 수 없으면 클라이언트가 보낸 값을 그대로 둡니다.
+ */
+@Component
+public class CalorieEngine {
+
+    /**
+     * 운동 인덱스 항목. name 은 카탈로그의 영문 이름, mets 는 없을 수 있음
+     */
+    public record ExerciseRef(String name, Double mets) {
+    }
+
+    private final ExerciseRepository exerciseRepository;
+    private final BodyRecordRepository bodyRecordRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, Optional<Double>> weightByUser = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(10_000)
+            .build();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<String, ExerciseRef> exerciseIndex;
+
+    public CalorieEngine(ExerciseRepository exerciseRepository, BodyRecordRepository bodyRecordRepository,
+                         UserRepository userRepository) {
+        this.exerciseRepository = exerciseRepository;
+        this.bodyRecordRepository = bodyRecordRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 운동 기록의 칼로리를 계산해 채움
+     * @return 계산해서 채웠으면 true
+     */
+    public boolean apply(WorkoutRecord record, Long userId) {
+        Double mets = resolveMets(record.getWorkoutType());
+        if (mets == null) {
+            return false;
+        }
+        Double weight = resolveWeight(userId);
+        Integer calories = calculate(mets, weight, record.getDuration());
+        if (calories == null) {
+            return false;
+        }
+        record.setCalories(calories);
+        return true;
+    }
+
+    public static Integer calculate(Double mets, Double weightKg, Integer durationMinutes) {
+        if (mets == null || weightKg == null || durationMinutes == null || durationMinutes <= 0 || weightKg <= 0) {
+            return null;
+        }
+        return (int) Math.round(mets * weightKg * durationMinutes / 60.0);
+    }
+
+    public Double resolveMets(String workoutType) {
+        ExerciseRef exercise = resolveExercise(workoutType);
+        return exercise == null ? null : exercise.mets();
+    }
+
+    /**
+     * 운동 이름(영문/한글, 대소문자/공백 무시)으로 카탈로그 운동 조회
+     * @return 카탈로그에 없으면 null
+     */
+    public ExerciseRef resolveExercise(String name) {
+        String key = normalize(name);
+        return key == null ? null : exerciseIndex().get(key);
+    }
+
+    /**
+     * 사용자의 현재 체중 (최신 신체 기록 → 프로필 체중 순)
+     */
+    public Double resolveWeight(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return weightByUser.get(userId, this::loadWeight).orElse(null);
+    }
+
+    public void invalidateWeight(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    weightByUser.invalidate(userId);
+                }
+            });
+        } else {
+            weightByUser.invalidate(userId);
+        }
+    }
+
+    public void invalidateExercises() {
+        generation.incrementAndGet();
+        exerciseIndex = null;
+    }
+
+    private Map<String, ExerciseRef> exerciseIndex() {
+        Map<String, ExerciseRef> map = exerciseIndex;
+        if (map == null) {
+            synchronized (this) {
+                map = exerciseIndex;
+                if (map == null) {
+                    long buildGeneration = generation.get();
+                    map = buildIndex(exerciseRepository.findAll());
+                    if (generation.get() == buildGeneration) { // 생성 중 무효화되었으면 보관하지 않음
+                        exerciseIndex = map;
+                    }
+                }
+            }
+        }
+        return map;
+    }
+
+    static Map<String, ExerciseRef> buildIndex(List<Exercise> exercises) {
+        Map<String, ExerciseRef> map = new HashMap<>();
+        for (Exercise exercise : exercises) {
+            if (exercise.getName() == null) {
+                continue;
+            }
+            ExerciseRef ref = new ExerciseRef(exercise.getName(), exercise.getMets());
+            String name = normalize(exercise.getName());
+            String koreanName = normalize(exercise.getKoreanName());
+            if (name != null) {
+                map.merge(name, ref, CalorieEngine::preferWithMets);
+            }
+            if (koreanName != null) {
+                map.merge(koreanName, ref, CalorieEngine::preferWithMets);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * 이름이 겹치면 먼저 들어온 항목을 쓰되, METs 가 있는 항목을 우선
+     */
+    private static ExerciseRef preferWithMets(ExerciseRef existing, ExerciseRef candidate) {
+        return existing.mets() == null && candidate.mets() != null ? candidate : existing;
+    }
+
+    private Optional<Double> loadWeight(Long userId) {
+        Optional<Double> recorded = bodyRecordRepository.findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(userId)
+                .map(BodyRecord::getWeight);
+        if (recorded.isPresent()) {
+            return recorded;
+        }
+        return userRepository.findById(userId).map(user -> parseWeight(user.getWeight()));
+    }
+
+    static Double parseWeight(String weight) {
+        if (weight == null || weight.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(weight.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 대소문자/공백 차이 무시 ("Bench Press" == "bench press" == "benchpress")
+     */
+    static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String key = name.replaceAll("\\s+", "").toLowerCase();
+        return key.isEmpty() ? null : key;
+    }
+}
@@ -0,0 +1,217 @@
+package backend.fitmate.User.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 운동 기록의 칼로리 일괄 재계산 (관리자 작업)
+ *
+ * 사용자 ID 목록을 fork/join 으로 나눠 병렬 처리하고, 사용자 한 명은 하나의 트랜잭션에서 처리합니다.
+ * 과거 기록은 운동 날짜 기준 가장 가까운 이전 체중(없으면 가장 오래된 체중, 그것도 없으면 프로필 체중)으로 계산합니다.
+ * 한 번에 하나의 작업만 실행됩니다.
+ */
+@Service
+@Slf4j
+public class CalorieRecomputeService {
+
+    /**
+     * 재계산 결과. unresolved 는 METs/체중/운동 시간을 알 수 없어 건너뛴 기록 수
+     */
+    public record Result(int users, long scanned, long updated, long unresolved, int failedUsers,
+                         long elapsedMs, Instant finishedAt) {
+    }
+
+    private record Totals(int users, long scanned, long updated, long unresolved, int failedUsers) {
+        static final Totals EMPTY = new Totals(0, 0, 0, 0, 0);
+
+        Totals plus(Totals other) {
+            return new Totals(users + other.users, scanned + other.scanned, updated + other.updated,
+                    unresolved + other.unresolved, failedUsers + other.failedUsers);
+        }
+    }
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final BodyRecordRepository bodyRecordRepository;
+    private final CalorieEngine calorieEngine;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int usersPerTask;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Result lastResult;
+
+    public CalorieRecomputeService(WorkoutRecordRepository workoutRecordRepository,
+                                   BodyRecordRepository bodyRecordRepository,
+                                   CalorieEngine calorieEngine,
+                                   CacheManager cacheManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${calorie.recompute.parallelism:4}") int parallelism,
+                                   @Value("${calorie.recompute.users-per-task:16}") int usersPerTask) {
+        this.workoutRecordRepository = workoutRecordRepository;
+        this.bodyRecordRepository = bodyRecordRepository;
+        this.calorieEngine = calorieEngine;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.usersPerTask = Math.max(1, usersPerTask);
+    }
+
+    /**
+     * 백그라운드에서 재계산 시작
+     * @return 이미 실행 중이면 null
+     */
+    public CompletableFuture<Result> start() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        Thread.ofPlatform().name("calorie-recompute").start(() -> {
+            try {
+                future.complete(recomputeAll());
+            } catch (Throwable t) {
+                log.error("❌ 칼로리 일괄 재계산 실패", t);
+                future.completeExceptionally(t);
+            } finally {
+                running.set(false);
+            }
+        });
+        return future;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Result getLastResult() {
+        return lastResult;
+    }
+
+    private Result recomputeAll() {
+        long start = System.currentTimeMillis();
+        List<Long> userIds = workoutRecordRepository.findDistinctUserIds();
+        log.info("🔥 칼로리 일괄 재계산 시작: 사용자 {}명, 병렬도 {}", userIds.size(), parallelism);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, CalorieRecomputeService::newWorker, null, false);
+        Totals totals;
+        try {
+            totals = pool.invoke(new UserRange(userIds, 0, userIds.size()));
+        } finally {
+            pool.shutdown();
+        }
+
+        Result result = new Result(totals.users(), totals.scanned(), totals.updated(), totals.unresolved(),
+                totals.failedUsers(), System.currentTimeMillis() - start, Instant.now());
+        lastResult = result;
+        log.info("✅ 칼로리 일괄 재계산 완료: {}", result);
+        return result;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("calorie-recompute-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * 사용자 ID 구간. usersPerTask 이하가 될 때까지 반으로 나눔
+     */
+    private class UserRange extends RecursiveTask<Totals> {
+        private final List<Long> userIds;
+        private final int from;
+        private final int to;
+
+        UserRange(List<Long> userIds, int from, int to) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= usersPerTask) {
+                Totals totals = Totals.EMPTY;
+                for (int i = from; i < to; i++) {
+                    totals = totals.plus(recomputeUser(userIds.get(i)));
+                }
+                return totals;
+            }
+            int mid = (from + to) >>> 1;
+            UserRange left = new UserRange(userIds, from, mid);
+            left.fork();
+            Totals right = new UserRange(userIds, mid, to).compute();
+            return right.plus(left.join());
+        }
+    }
+
+    private Totals recomputeUser(Long userId) {
+        try {
+            Totals totals = transactionTemplate.execute(status -> {
+                List<WorkoutRecord> records = workoutRecordRepository.findByUserIdOrderByWorkoutDateDesc(userId);
+                TreeMap<LocalDate, Double> weights = new TreeMap<>();
+                for (BodyRecord body : bodyRecordRepository.findByUserIdOrderByMeasureDateDesc(userId)) {
+                    if (body.getWeight() != null && body.getMeasureDate() != null) {
+                        weights.putIfAbsent(body.getMeasureDate(), body.getWeight());
+                    }
+                }
+                Double fallbackWeight = weights.isEmpty()
+                        ? calorieEngine.resolveWeight(userId)
+                        : weights.firstEntry().getValue();
+
+                List<WorkoutRecord> changed = new ArrayList<>();
+                long unresolved = 0;
+                for (WorkoutRecord record : records) {
+                    Map.Entry<LocalDate, Double> asOf = record.getWorkoutDate() == null
+                            ? null : weights.floorEntry(record.getWorkoutDate());
+                    Integer calories = CalorieEngine.calculate(calorieEngine.resolveMets(record.getWorkoutType()),
+                            asOf != null ? asOf.getValue() : fallbackWeight, record.getDuration());
+                    if (calories == null) {
+                        unresolved++;
+                    } else if (!calories.equals(record.getCalories())) {
+                        record.setCalories(calories);
+                        changed.add(record);
+                    }
+                }
+                workoutRecordRepository.saveAll(changed);
+                return new Totals(1, records.size(), changed.size(), unresolved, 0);
+            });
+            if (totals.updated() > 0) {
+                evictDashboardStats(userId);
+            }
+            return totals;
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 사용자 {} 칼로리 재계산 실패: {}", userId, e.getMessage());
+            return new Totals(1, 0, 0, 0, 1);
+        }
+    }
+
+    private void evictDashboardStats(Long userId) {
+        Cache cache = cacheManager.getCache("dashboardStats");
+        if (cache != null) {
+            cache.evict("weekly:" + userId);
+            cache.evict("comparison:" + userId);
+        }
+    }
+}
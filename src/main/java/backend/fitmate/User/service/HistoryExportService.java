@@ -0,0 +1,248 @@
+package backend.fitmate.User.service;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 사용자의 전체 운동/신체 기록 내보내기 (CSV, NDJSON)
+ *
+ * 읽기 전용 트랜잭션 안에서 JPA 스트림으로 한 행씩 읽어 바로 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리합니다.
+ * 기록 수와 관계없이 메모리 사용량이 일정하며, FLUSH_EVERY 행마다 응답으로 내보냅니다.
+ * 운동 기록(workout)을 먼저, 신체 기록(body)을 이어서 각각 날짜순으로 씁니다.
+ * created_at 을 함께 내보내므로 WorkoutImportService 로 다시 가져와도 기존 기록과 중복되지 않습니다.
+ */
+@Service
+public class HistoryExportService {
+
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @return 지원하지 않는 형식이면 null
+         */
+        public static Format parse(String value) {
+            if (value == null) {
+                return CSV;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    static final String CSV_HEADER = "record_type,date,workout_type,duration_min,calories,intensity,difficulty,"
+            + "sets,reps,lifted_weight_kg,body_weight_kg,body_fat_pct,muscle_mass_kg,notes,created_at";
+    private static final int FLUSH_EVERY = 500;
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final BodyRecordRepository bodyRecordRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonFactory jsonFactory = new JsonFactory().setRootValueSeparator(null); // 줄바꿈은 직접 씀
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public HistoryExportService(WorkoutRecordRepository workoutRecordRepository,
+                                BodyRecordRepository bodyRecordRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.workoutRecordRepository = workoutRecordRepository;
+        this.bodyRecordRepository = bodyRecordRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @return 내보낸 행 수 (헤더 제외)
+     */
+    public long export(Long userId, Format format, OutputStream out) throws IOException {
+        try {
+            Long rows = readOnlyTransaction.execute(status -> {
+                try {
+                    return format == Format.NDJSON ? writeNdjson(userId, out) : writeCsv(userId, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return rows == null ? 0 : rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeCsv(Long userId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long rows = 0;
+
+        try (Stream<WorkoutRecord> workouts = workoutRecordRepository.streamByUserId(userId)) {
+            for (WorkoutRecord record : (Iterable<WorkoutRecord>) workouts::iterator) {
+                writeCsvRow(writer, "workout", record.getWorkoutDate(), record.getWorkoutType(), record.getDuration(),
+                        record.getCalories(), record.getIntensity(), record.getDifficulty(), record.getSets(),
+                        record.getReps(), record.getWeight(), null, null, null, record.getNotes(),
+                        record.getCreatedAt());
+                rows = afterRow(record, rows, writer, out);
+            }
+        }
+        try (Stream<BodyRecord> bodyRecords = bodyRecordRepository.streamByUserId(userId)) {
+            for (BodyRecord record : (Iterable<BodyRecord>) bodyRecords::iterator) {
+                writeCsvRow(writer, "body", record.getMeasureDate(), null, null, null, null, null, null, null, null,
+                        record.getWeight(), record.getBodyFatPercentage(), record.getMuscleMass(), record.getNotes(),
+                        record.getCreatedAt());
+                rows = afterRow(record, rows, writer, out);
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writer.write(csvEscape(text));
+            } else if (values[i] != null) {
+                writer.write(values[i].toString()); // 숫자/날짜는 따옴표나 수식 방지가 필요 없음
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 사용자 입력 텍스트 셀 이스케이프
+     * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 ' 를 붙여 따옴표로 감쌉니다.
+     * ' 로 시작하는 값에도 붙여 두어야 가져오기(stripFormulaGuard)에서 원래 값으로 되돌릴 수 있습니다.
+     */
+    static String csvEscape(String value) {
+        boolean guard = !value.isEmpty() && (FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 || value.charAt(0) == '\'');
+        String text = guard ? "'" + value : value;
+        boolean quote = guard || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+
+    /**
+     * csvEscape 가 붙인 수식 방지용 ' 를 제거합니다.
+     */
+    static String stripFormulaGuard(String value) {
+        if (value == null || value.length() < 2 || value.charAt(0) != '\'') {
+            return value;
+        }
+        char next = value.charAt(1);
+        return FORMULA_PREFIXES.indexOf(next) >= 0 || next == '\'' ? value.substring(1) : value;
+    }
+
+    private long writeNdjson(Long userId, OutputStream out) throws IOException {
+        JsonGenerator json = jsonFactory.createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long rows = 0;
+
+        try (Stream<WorkoutRecord> workouts = workoutRecordRepository.streamByUserId(userId)) {
+            for (WorkoutRecord record : (Iterable<WorkoutRecord>) workouts::iterator) {
+                json.writeStartObject();
+                json.writeStringField("type", "workout");
+                writeField(json, "date", record.getWorkoutDate());
+                writeField(json, "workoutType", record.getWorkoutType());
+                writeField(json, "duration", record.getDuration());
+                writeField(json, "calories", record.getCalories());
+                writeField(json, "intensity", record.getIntensity());
+                writeField(json, "difficulty", record.getDifficulty());
+                writeField(json, "sets", record.getSets());
+                writeField(json, "reps", record.getReps());
+                writeField(json, "weight", record.getWeight());
+                writeField(json, "notes", record.getNotes());
+                writeField(json, "createdAt", record.getCreatedAt());
+                json.writeEndObject();
+                json.writeRaw('\n');
+                rows = afterRow(record, rows, json, out);
+            }
+        }
+        try (Stream<BodyRecord> bodyRecords = bodyRecordRepository.streamByUserId(userId)) {
+            for (BodyRecord record : (Iterable<BodyRecord>) bodyRecords::iterator) {
+                json.writeStartObject();
+                json.writeStringField("type", "body");
+                writeField(json, "date", record.getMeasureDate());
+                writeField(json, "weight", record.getWeight());
+                writeField(json, "bodyFatPercentage", record.getBodyFatPercentage());
+                writeField(json, "muscleMass", record.getMuscleMass());
+                writeField(json, "notes", record.getNotes());
+                writeField(json, "createdAt", record.getCreatedAt());
+                json.writeEndObject();
+                json.writeRaw('\n');
+                rows = afterRow(record, rows, json, out);
+            }
+        }
+        json.flush();
+        return rows;
+    }
+
+    private static void writeField(JsonGenerator json, String name, Object value) throws IOException {
+        if (value == null) {
+            json.writeNullField(name);
+        } else if (value instanceof Integer number) {
+            json.writeNumberField(name, number);
+        } else if (value instanceof Double number) {
+            json.writeNumberField(name, number);
+        } else {
+            json.writeStringField(name, value.toString());
+        }
+    }
+
+    /**
+     * 쓴 엔티티를 분리하고, FLUSH_EVERY 행마다 버퍼를 응답으로 내보냄
+     */
+    private long afterRow(Object entity, long rows, Flushable buffer, OutputStream out) throws IOException {
+        entityManager.detach(entity);
+        long written = rows + 1;
+        if (written % FLUSH_EVERY == 0) {
+            buffer.flush();
+            out.flush();
+        }
+        return written;
+    }
+}
@@ -0,0 +1,39 @@
+package backend.fitmate.User.service;
+
+import java.util.Optional;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import backend.fitmate.User.dto.UserSnapshot;
+import backend.fitmate.User.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증/프로필 조회용 사용자 읽기 서비스
+ *
+ * "user" 캐시에는 엔티티 대신 UserSnapshot만 저장합니다.
+ * 무효화는 UserService의 @CacheEvict(key = userId)가 그대로 담당합니다.
+ * sync = true로 같은 사용자의 동시 미스는 DB 조회 한 번으로 병합됩니다. (SingleFlightCache)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserReadService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(value = "user", key = "#id", sync = true)
+    @Transactional(readOnly = true)
+    public Optional<UserSnapshot> findById(Long id) {
+        return userRepository.findById(id).map(UserSnapshot::from);
+    }
+
+    /**
+     * 소셜 계정으로 사용자 ID만 조회 (이후 findById로 캐시 조회)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findIdByOAuth(String provider, String oauthId) {
+        return userRepository.findIdByOauthProviderAndOauthId(provider, oauthId);
+    }
+}
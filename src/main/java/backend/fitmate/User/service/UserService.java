@@ -1,9 +1,15 @@
 package backend.fitmate.User.service;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -11,16 +17,22 @@ import org.springframework.transaction.annotation.Transactional;
 
 import backend.fitmate.User.entity.User;
 import backend.fitmate.User.repository.UserRepository;
+import backend.fitmate.service.GoogleCalendarClientCache;
+import backend.fitmate.service.GoogleLinkNotifier;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final GoogleCalendarClientCache calendarClientCache;
+    private final GoogleLinkNotifier googleLinkNotifier;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -104,9 +116,8 @@ public class UserService {
     }
 
     /**
-     * ID로 사용자 조회
+     * ID로 사용자 조회 (엔티티는 캐시하지 않음, 읽기 전용 조회는 UserReadService 사용)
      */
-    @Cacheable(value = "user", key = "#id")
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
@@ -139,7 +150,6 @@ public class UserService {
     /**
      * 이메일 인증된 사용자 조회
      */
-    @Cacheable(value = "user", key = "'verified:' + #email")
     public Optional<User> findByEmailAndVerified(String email) {
         return userRepository.findByEmailAndEmailVerifiedTrue(email);
     }
@@ -204,6 +214,7 @@ public class UserService {
      * 캘린더 연동을 위한 Google 정보 추가 (기존 사용자 유지)
      */
     @Transactional
+    @CacheEvict(value = "user", key = "#result?.id")
     public User addGoogleCalendarInfo(String email, String name, String picture, String googleOauthId) {
         System.out.println("=== Google 캘린더 연동 시작 ===");
         System.out.println("Email: " + email + ", GoogleOAuthId: " + googleOauthId);
@@ -217,6 +228,10 @@ public class UserService {
 
         User user = userOptional.get();
         
+        // 재연동 시 이전 계정으로 만든 캘린더 클라이언트 제거
+        calendarClientCache.invalidate(user.getGoogleOAuthId());
+        calendarClientCache.invalidate(googleOauthId);
+        
         // Google 캘린더 정보만 추가/업데이트 (기본 OAuth provider는 유지)
         user.setGoogleOAuthId(googleOauthId);
         user.setGoogleEmail(email);
@@ -226,6 +241,7 @@ public class UserService {
         System.out.println("기존 사용자 (" + user.getOauthProvider() + ")에 Google 캘린더 정보 추가: " + user.getId());
         
         User savedUser = userRepository.save(user);
+        googleLinkNotifier.signalLinked(savedUser.getId(), googleOauthId);
         System.out.println("Google 캘린더 연동 완료: " + savedUser.getId());
         return savedUser;
     }
@@ -234,6 +250,7 @@ public class UserService {
      * 사용자 ID로 Google 캘린더 정보 추가 (캘린더 연동 전용)
      */
     @Transactional
+    @CacheEvict(value = "user", key = "#userId")
     public User addGoogleCalendarInfoByUserId(Long userId, String googleEmail, String googleName, String picture, String googleOauthId) {
         System.out.println("=== 사용자 ID로 Google 캘린더 연동 시작 ===");
         System.out.println("UserId: " + userId + ", GoogleEmail: " + googleEmail + ", GoogleOAuthId: " + googleOauthId);
@@ -247,6 +264,10 @@ public class UserService {
 
         User user = userOptional.get();
         
+        // 재연동 시 이전 계정으로 만든 캘린더 클라이언트 제거
+        calendarClientCache.invalidate(user.getGoogleOAuthId());
+        calendarClientCache.invalidate(googleOauthId);
+        
         // Google 캘린더 정보만 추가/업데이트 (기본 OAuth provider는 유지)
         user.setGoogleOAuthId(googleOauthId);
         user.setGoogleEmail(googleEmail);
@@ -262,6 +283,9 @@ public class UserService {
         userRepository.flush();
         userRepository.saveAndFlush(savedUser);  // 추가 보장
         
+        // 연동 완료를 기다리는 캘린더 요청에 커밋 이후 알림
+        googleLinkNotifier.signalLinked(savedUser.getId(), googleOauthId);
+        
         System.out.println("Google 캘린더 연동 완료: " + savedUser.getId());
         System.out.println("🔄 DB 즉시 반영 및 캐시 클리어 완료!");
         
@@ -353,12 +377,17 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(value = "user", key = "#userId")
     public User linkGoogleAccount(Long userId, String googleEmail, String googleName, String googlePicture, String googleOAuthId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
         System.out.println("기존 사용자 정보: ID=" + user.getId() + ", Email=" + user.getEmail() + ", Provider=" + user.getOauthProvider());
 
+        // 재연동 시 이전 계정으로 만든 캘린더 클라이언트 제거
+        calendarClientCache.invalidate(user.getGoogleOAuthId());
+        calendarClientCache.invalidate(googleOAuthId);
+
         // 구글 관련 정보만 업데이트합니다. 사용자의 기본 이메일은 변경하지 않습니다.
         user.setGoogleEmail(googleEmail);
         user.setGoogleName(googleName);
@@ -366,7 +395,53 @@ public class UserService {
         user.setGoogleOAuthId(googleOAuthId);
 
         User linkedUser = userRepository.save(user);
+        googleLinkNotifier.signalLinked(linkedUser.getId(), googleOAuthId);
         System.out.println("Google 계정 연동 완료: ID=" + linkedUser.getId() + ", Google Email=" + linkedUser.getGoogleEmail());
         return linkedUser;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 관리자 사용자 검색 (이메일/이름 prefix, 대소문자 무시, id 순)
+     * q가 비어 있으면 전체 사용자
+     */
+    @Transactional(readOnly = true)
+    public Page<User> searchUsers(String q, Pageable pageable) {
+        if (q == null || q.isBlank()) {
+            return userRepository.findAll(pageable);
+        }
+        // 정렬은 쿼리의 order by id 로 고정
+        return userRepository.searchByPrefix(toPrefixPattern(q),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * 관리자 사용자 검색 keyset 페이징 (afterId 다음 id부터 size개)
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchUsersAfter(String q, long afterId, int size) {
+        if (q == null || q.isBlank()) {
+            return userRepository.findAllAfter(afterId, PageRequest.of(0, size));
+        }
+        return userRepository.searchByPrefixAfter(toPrefixPattern(q), afterId, size);
+    }
+
+    /**
+     * 검색 컬럼 도입 이전 사용자 보정 (기동 시 1회, 이미 채워져 있으면 갱신 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillSearchColumns() {
+        int updated = userRepository.backfillEmailLower() + userRepository.backfillNameLower();
+        if (updated > 0) {
+            log.info("사용자 검색 컬럼 보정 완료: {}명", updated);
+        }
+    }
+
+    private static String toPrefixPattern(String q) {
+        String escaped = q.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return escaped + "%";
+    }
+}
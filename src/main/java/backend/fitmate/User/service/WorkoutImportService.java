@@ -0,0 +1,570 @@
+package backend.fitmate.User.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.fitmate.User.entity.WorkoutRecord.WorkoutDifficulty;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV 운동 기록 가져오기 (다른 앱에서 이전하는 사용자용)
+ *
+ * - 업로드 파일을 한 행씩 읽어 batchSize 단위로 JDBC 배치 INSERT 하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * - 운동 이름은 CalorieEngine 의 운동 인덱스로 카탈로그 이름에 맞추고, 칼로리는 다른 저장 경로(CalorieEngine.apply)와
+ *   같이 METs 로 계산할 수 있으면 계산값을, 계산할 수 없으면 파일 값을 사용합니다.
+ * - (날짜, 운동 종류, 생성 시각)이 같은 기록은 중복으로 건너뜁니다. 운동 종류는 파일과 저장된 기록 모두 카탈로그 이름
+ *   (공백/대소문자 무시)으로 맞춰 비교합니다. created_at 이 없으면 운동 날짜 0시에 행 번호만큼의 마이크로초를 더해
+ *   같은 파일 안의 동일한 행은 각각 저장하고, 같은 파일을 다시 올리면 중복으로 건너뜁니다. (행 순서가 바뀌면 새 기록으로 봄)
+ * - 진행 상황은 Redis 해시(import:workout:{jobId})에 배치마다 기록하고 하루 뒤 만료됩니다.
+ * 내보내기(HistoryExportService) CSV 를 그대로 가져올 수 있으며, 운동 이외의 행(record_type=body 등)은 건너뜁니다.
+ */
+@Service
+@Slf4j
+public class WorkoutImportService {
+
+    static final String PROGRESS_KEY_PREFIX = "import:workout:";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+    private static final int MAX_SAMPLE_ERRORS = 10;
+    private static final int MAX_TEXT_LENGTH = 255;
+    // 한 레코드가 메모리에 쌓이는 양의 상한 (닫히지 않은 따옴표 등 비정상 입력)
+    private static final int MAX_FIELD_LENGTH = MAX_TEXT_LENGTH * 4;
+    private static final int MAX_FIELDS = 256;
+    static final String INSERT_SQL = "INSERT INTO workout_records (user_id, workout_date, workout_type, duration,"
+            + " calories, intensity, difficulty, sets, reps, weight, notes, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 가져오기 집계. processed 는 헤더를 제외한 읽은 행 수
+     */
+    public static final class Counters {
+        long processed;
+        long imported;
+        long duplicates;
+        long skipped;
+        long invalid;
+        long unresolvedExercises;
+        final List<String> errors = new ArrayList<>();
+
+        Map<String, String> toMap() {
+            Map<String, String> map = new HashMap<>();
+            map.put("processed", String.valueOf(processed));
+            map.put("imported", String.valueOf(imported));
+            map.put("duplicates", String.valueOf(duplicates));
+            map.put("skipped", String.valueOf(skipped));
+            map.put("invalid", String.valueOf(invalid));
+            map.put("unresolvedExercises", String.valueOf(unresolvedExercises));
+            map.put("errors", String.join("\n", errors));
+            return map;
+        }
+
+        void error(long line, String message) {
+            invalid++;
+            if (errors.size() < MAX_SAMPLE_ERRORS) {
+                errors.add(line + "행: " + message);
+            }
+        }
+    }
+
+    private record Row(LocalDate date, String type, Integer duration, Integer calories, Integer intensity,
+                       WorkoutDifficulty difficulty, Integer sets, Integer reps, Double weight, String notes,
+                       LocalDateTime createdAt, String typeKey) {
+        RecordKey key() {
+            return new RecordKey(date, typeKey, createdAt);
+        }
+    }
+
+    private record RecordKey(LocalDate date, String typeKey, LocalDateTime createdAt) {
+    }
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CalorieEngine calorieEngine;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    public WorkoutImportService(WorkoutRecordRepository workoutRecordRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                CalorieEngine calorieEngine,
+                                StringRedisTemplate redisTemplate,
+                                CacheManager cacheManager,
+                                @Value("${workout.import.batch-size:500}") int batchSize,
+                                @Value("${workout.import.concurrency:2}") int concurrency,
+                                @Value("${workout.import.queue-capacity:20}") int queueCapacity) {
+        this.workoutRecordRepository = workoutRecordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.calorieEngine = calorieEngine;
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("workout-import-", 1).factory());
+    }
+
+    /**
+     * 업로드된 CSV 임시 파일로 가져오기 작업 시작 (파일은 작업이 끝나면 삭제)
+     * @return 작업 ID, 대기열이 가득 차면 null
+     */
+    public String start(Long userId, Path csvFile) {
+        String jobId = UUID.randomUUID().toString();
+        Map<String, String> initial = new Counters().toMap();
+        initial.put("status", "QUEUED");
+        initial.put("userId", String.valueOf(userId));
+        writeProgress(jobId, initial);
+        try {
+            executor.execute(() -> run(jobId, userId, csvFile));
+            return jobId;
+        } catch (RejectedExecutionException e) {
+            redisTemplate.delete(PROGRESS_KEY_PREFIX + jobId);
+            deleteQuietly(csvFile);
+            return null;
+        }
+    }
+
+    /**
+     * @return 작업 진행 상황, 없거나 만료되었으면 빈 Map
+     */
+    public Map<Object, Object> getProgress(String jobId) {
+        return redisTemplate.opsForHash().entries(PROGRESS_KEY_PREFIX + jobId);
+    }
+
+    private void run(String jobId, Long userId, Path csvFile) {
+        long start = System.currentTimeMillis();
+        Counters counters = new Counters();
+        String status = "DONE";
+        String error = "";
+        writeProgress(jobId, Map.of("status", "RUNNING"));
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            importCsv(userId, reader, counters, batch -> writeProgress(jobId, batch.toMap()));
+        } catch (Exception e) {
+            status = "FAILED";
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            log.error("❌ 운동 기록 가져오기 실패 ({}): {}", jobId, error, e);
+        } finally {
+            deleteQuietly(csvFile);
+            if (counters.imported > 0) {
+                evictDashboardStats(userId);
+            }
+            Map<String, String> progress = counters.toMap();
+            progress.put("status", status);
+            progress.put("error", error);
+            progress.put("elapsedMs", String.valueOf(System.currentTimeMillis() - start));
+            writeProgress(jobId, progress);
+        }
+        log.info("📥 운동 기록 가져오기 {} ({}): 사용자 {}, {}, {}ms", status, jobId, userId, counters.toMap(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * CSV 를 읽어 배치 단위로 저장. 배치를 저장할 때마다 onBatch 호출
+     */
+    void importCsv(Long userId, Reader reader, Counters counters, Consumer<Counters> onBatch) throws IOException {
+        CsvReader csv = new CsvReader(reader, MAX_FIELD_LENGTH, MAX_FIELDS);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 파일입니다");
+        }
+        Columns columns = Columns.of(header);
+        Double userWeight = calorieEngine.resolveWeight(userId);
+
+        List<Row> pending = new ArrayList<>(batchSize);
+        while (true) {
+            List<String> values;
+            try {
+                values = csv.next();
+            } catch (CsvReader.RecordTooLongException e) {
+                counters.processed++;
+                counters.error(csv.line(), e.getMessage());
+                continue;
+            }
+            if (values == null) {
+                break;
+            }
+            counters.processed++;
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                counters.skipped++; // 빈 줄
+                continue;
+            }
+            String recordType = columns.get(values, columns.recordType);
+            if (recordType != null && !"workout".equalsIgnoreCase(recordType)) {
+                counters.skipped++;
+                continue;
+            }
+            try {
+                pending.add(toRow(columns, values, userWeight, counters, csv.line()));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                counters.error(csv.line(), e.getMessage());
+            }
+            if (pending.size() >= batchSize) {
+                flush(userId, pending, counters);
+                onBatch.accept(counters);
+            }
+        }
+        if (!pending.isEmpty()) {
+            flush(userId, pending, counters);
+        }
+        onBatch.accept(counters);
+    }
+
+    private Row toRow(Columns columns, List<String> values, Double userWeight, Counters counters, long line) {
+        String dateValue = columns.get(values, columns.date);
+        String typeValue = HistoryExportService.stripFormulaGuard(columns.get(values, columns.type));
+        if (dateValue == null) {
+            throw new IllegalArgumentException("날짜가 없습니다");
+        }
+        if (typeValue == null) {
+            throw new IllegalArgumentException("운동 종류가 없습니다");
+        }
+        LocalDate date = LocalDate.parse(dateValue.replace('/', '-').replace('.', '-'));
+
+        CalorieEngine.ExerciseRef exercise = calorieEngine.resolveExercise(typeValue);
+        if (exercise == null) {
+            counters.unresolvedExercises++;
+        }
+        String type = truncate(exercise != null ? exercise.name() : typeValue);
+        Integer duration = parseInt(columns.get(values, columns.duration), "운동 시간");
+        Integer calories = parseInt(columns.get(values, columns.calories), "칼로리");
+        Integer computed = exercise == null ? null : CalorieEngine.calculate(exercise.mets(), userWeight, duration);
+        if (computed != null) {
+            calories = computed;
+        }
+
+        String createdValue = columns.get(values, columns.createdAt);
+        LocalDateTime createdAt = createdValue == null
+                ? date.atStartOfDay().plus(line, ChronoUnit.MICROS)
+                : LocalDateTime.parse(createdValue.replace(' ', 'T')).truncatedTo(ChronoUnit.MICROS);
+
+        return new Row(date, type, duration, calories,
+                parseInt(columns.get(values, columns.intensity), "강도"),
+                parseDifficulty(columns.get(values, columns.difficulty)),
+                parseInt(columns.get(values, columns.sets), "세트"),
+                parseInt(columns.get(values, columns.reps), "횟수"),
+                parseDouble(columns.get(values, columns.weight), "무게"),
+                truncate(HistoryExportService.stripFormulaGuard(columns.get(values, columns.notes))),
+                createdAt,
+                typeKey(type));
+    }
+
+    /**
+     * 중복 확인용 운동 종류 (카탈로그 이름, 카탈로그에 없으면 입력값을 공백/대소문자 무시로 정규화)
+     */
+    private String typeKey(String type) {
+        CalorieEngine.ExerciseRef exercise = calorieEngine.resolveExercise(type);
+        return CalorieEngine.normalize(exercise != null ? exercise.name() : type);
+    }
+
+    /**
+     * 배치의 날짜들에 이미 있는 기록과 배치 안의 중복을 제외하고 한 트랜잭션에서 JDBC 배치 INSERT
+     */
+    private void flush(Long userId, List<Row> pending, Counters counters) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<LocalDate> dates = new HashSet<>();
+            for (Row row : pending) {
+                dates.add(row.date());
+            }
+            Set<RecordKey> seen = new HashSet<>();
+            for (Object[] existing : workoutRecordRepository.findRecordKeys(userId, dates)) {
+                seen.add(new RecordKey((LocalDate) existing[0], typeKey((String) existing[1]),
+                        (LocalDateTime) existing[2]));
+            }
+
+            List<Object[]> batch = new ArrayList<>(pending.size());
+            for (Row row : pending) {
+                if (!seen.add(row.key())) {
+                    counters.duplicates++;
+                    continue;
+                }
+                batch.add(new Object[] { userId, Date.valueOf(row.date()), row.type(), row.duration(),
+                        row.calories(), row.intensity(), row.difficulty().name(), row.sets(), row.reps(),
+                        row.weight(), row.notes(), Timestamp.valueOf(row.createdAt()) });
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                counters.imported += batch.size();
+            }
+        });
+        pending.clear();
+    }
+
+    private void writeProgress(String jobId, Map<String, String> values) {
+        String key = PROGRESS_KEY_PREFIX + jobId;
+        try {
+            redisTemplate.opsForHash().putAll(key, values);
+            redisTemplate.expire(key, PROGRESS_TTL);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 가져오기 진행 상황 기록 실패 ({}): {}", jobId, e.getMessage());
+        }
+    }
+
+    private void evictDashboardStats(Long userId) {
+        Cache cache = cacheManager.getCache("dashboardStats");
+        if (cache != null) {
+            cache.evict("weekly:" + userId);
+            cache.evict("comparison:" + userId);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ 가져오기 임시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    private static Integer parseInt(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (int) Math.round(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Double parseDouble(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * enum 이름(HARD) 또는 설명(어려움), 없으면 보통
+     */
+    static WorkoutDifficulty parseDifficulty(String value) {
+        if (value == null) {
+            return WorkoutDifficulty.MODERATE;
+        }
+        for (WorkoutDifficulty difficulty : WorkoutDifficulty.values()) {
+            if (difficulty.name().equalsIgnoreCase(value) || difficulty.getDescription().equals(value)) {
+                return difficulty;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 난이도입니다: " + value);
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_TEXT_LENGTH ? value : value.substring(0, MAX_TEXT_LENGTH);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 헤더 이름 → 열 번호 (내보내기 CSV 와 흔한 별칭을 함께 인식, 없으면 -1)
+     */
+    private record Columns(int recordType, int date, int type, int duration, int calories, int intensity,
+                           int difficulty, int sets, int reps, int weight, int notes, int createdAt) {
+
+        static Columns of(List<String> header) {
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT)
+                        .replace(" ", "_").replace("-", "_");
+                index.putIfAbsent(name, i);
+            }
+            Columns columns = new Columns(
+                    find(index, "record_type"),
+                    find(index, "date", "workout_date"),
+                    find(index, "workout_type", "type", "exercise", "exercise_name"),
+                    find(index, "duration_min", "duration", "minutes"),
+                    find(index, "calories", "kcal"),
+                    find(index, "intensity"),
+                    find(index, "difficulty"),
+                    find(index, "sets"),
+                    find(index, "reps"),
+                    find(index, "lifted_weight_kg", "weight", "weight_kg"),
+                    find(index, "notes", "memo"),
+                    find(index, "created_at"));
+            if (columns.date < 0 || columns.type < 0) {
+                throw new IllegalArgumentException("date, workout_type 열이 필요합니다");
+            }
+            return columns;
+        }
+
+        private static int find(Map<String, Integer> index, String... names) {
+            for (String name : names) {
+                Integer column = index.get(name);
+                if (column != null) {
+                    return column;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 빈 값은 null
+         */
+        String get(List<String> values, int column) {
+            if (column < 0 || column >= values.size()) {
+                return null;
+            }
+            String value = values.get(column).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * RFC 4180 CSV 를 한 레코드씩 읽음 (따옴표 안의 쉼표/줄바꿈/"" 지원)
+     */
+    static final class CsvReader {
+        private final Reader reader;
+        private final int maxFieldLength;
+        private final int maxFields;
+        private long line;
+        private long recordStart;
+        private int peeked = -2;
+
+        CsvReader(Reader reader, int maxFieldLength, int maxFields) {
+            this.reader = reader;
+            this.maxFieldLength = maxFieldLength;
+            this.maxFields = maxFields;
+        }
+
+        /**
+         * 필드 길이나 열 수가 상한을 넘은 레코드 (레코드 끝까지 버린 뒤 던지므로 다음 레코드부터 계속 읽을 수 있음)
+         */
+        static final class RecordTooLongException extends IllegalArgumentException {
+            RecordTooLongException(String message) {
+                super(message);
+            }
+        }
+
+        /**
+         * @return 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+         */
+        long line() {
+            return recordStart;
+        }
+
+        /**
+         * @return 다음 레코드, 파일 끝이면 null
+         * @throws RecordTooLongException 필드 길이나 열 수가 상한을 넘은 경우 (상한 이후는 버퍼에 담지 않음)
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordStart = ++line;
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            String overflow = null;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException(recordStart + "행: 따옴표가 닫히지 않았습니다");
+                    }
+                    if (c == '"') {
+                        int n = read();
+                        if (n != '"') {
+                            quoted = false;
+                            c = n;
+                            continue;
+                        }
+                        overflow = append(field, '"', overflow);
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        overflow = append(field, (char) c, overflow);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    if (overflow == null && values.size() + 1 >= maxFields) {
+                        overflow = "열이 너무 많습니다 (최대 " + maxFields + "개)";
+                    }
+                    if (overflow == null) {
+                        values.add(field.toString());
+                    }
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        peeked = n;
+                    }
+                    break;
+                } else {
+                    overflow = append(field, (char) c, overflow);
+                }
+                c = read();
+            }
+            if (overflow != null) {
+                throw new RecordTooLongException(overflow);
+            }
+            values.add(field.toString());
+            return values;
+        }
+
+        // 상한을 넘으면 더 담지 않고 사유만 남김 (레코드 끝까지는 계속 읽음)
+        private String append(StringBuilder field, char c, String overflow) {
+            if (field.length() < maxFieldLength) {
+                field.append(c);
+                return overflow;
+            }
+            return overflow != null ? overflow : "필드가 너무 깁니다 (최대 " + maxFieldLength + "자)";
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
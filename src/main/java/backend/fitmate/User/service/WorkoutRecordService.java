@@ -3,8 +3,13 @@ package backend.fitmate.User.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import backend.fitmate.User.entity.User;
 import backend.fitmate.User.entity.WorkoutRecord;
@@ -18,16 +23,21 @@ public class WorkoutRecordService {
 
     private final WorkoutRecordRepository workoutRecordRepository;
     private final UserService userService;
+    private final CalorieEngine calorieEngine;
+    private final CacheManager cacheManager;
 
     /**
-     * 운동 기록 저장
+     * 운동 기록 저장 (칼로리는 MET 기반으로 서버에서 계산)
      */
     public WorkoutRecord saveWorkoutRecord(Long userId, WorkoutRecord workoutRecord) {
         User user = userService.findById(userId)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         workoutRecord.setUser(user);
-        return workoutRecordRepository.save(workoutRecord);
+        calorieEngine.apply(workoutRecord, userId);
+        WorkoutRecord saved = workoutRecordRepository.save(workoutRecord);
+        evictDashboardStats(userId);
+        return saved;
     }
 
     /**
@@ -89,15 +99,23 @@ public class WorkoutRecordService {
         if (updatedRecord.getNotes() != null) {
             existingRecord.setNotes(updatedRecord.getNotes());
         }
+
+        // 운동 종류/시간이 바뀌었을 수 있으므로 다시 계산 (계산할 수 없으면 입력값 유지)
+        calorieEngine.apply(existingRecord, existingRecord.getUser().getId());
         
-        return workoutRecordRepository.save(existingRecord);
+        WorkoutRecord saved = workoutRecordRepository.save(existingRecord);
+        evictDashboardStats(saved.getUser().getId());
+        return saved;
     }
 
     /**
      * 운동 기록 삭제
      */
     public void deleteWorkoutRecord(Long recordId) {
-        workoutRecordRepository.deleteById(recordId);
+        workoutRecordRepository.findById(recordId).ifPresent(record -> {
+            workoutRecordRepository.delete(record);
+            evictDashboardStats(record.getUser().getId());
+        });
     }
 
     /**
@@ -136,6 +154,7 @@ public class WorkoutRecordService {
     /**
      * 사용자의 주별 운동 통계 조회 (최근 5주)
      */
+    @Cacheable(value = "dashboardStats", key = "'weekly:' + #userId", sync = true)
     @Transactional(readOnly = true)
     public List<Object[]> getWeeklyWorkoutStats(Long userId) {
         return workoutRecordRepository.getWeeklyWorkoutStats(userId);
@@ -144,6 +163,7 @@ public class WorkoutRecordService {
     /**
      * 사용자의 이번 주 vs 저번 주 운동 시간 비교
      */
+    @Cacheable(value = "dashboardStats", key = "'comparison:' + #userId", sync = true)
     @Transactional(readOnly = true)
     public List<Object[]> getWeeklyComparison(Long userId) {
         return workoutRecordRepository.getWeeklyComparison(userId);
@@ -154,6 +174,7 @@ public class WorkoutRecordService {
      */
     public void deleteAllByUserId(Long userId) {
         workoutRecordRepository.deleteByUserId(userId);
+        evictDashboardStats(userId);
     }
 
     /**
@@ -163,4 +184,29 @@ public class WorkoutRecordService {
     public long countByUserId(Long userId) {
         return workoutRecordRepository.countByUserId(userId);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 주별 통계 캐시 무효화 (트랜잭션 안이면 커밋 이후)
+     * 커밋 전에 지우면 그 사이의 조회가 이전 행을 다시 캐시하므로 커밋이 끝난 뒤에 지웁니다.
+     */
+    private void evictDashboardStats(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictDashboardStatsNow(userId);
+                }
+            });
+        } else {
+            evictDashboardStatsNow(userId);
+        }
+    }
+
+    private void evictDashboardStatsNow(Long userId) {
+        Cache cache = cacheManager.getCache("dashboardStats");
+        if (cache != null) {
+            cache.evict("weekly:" + userId);
+            cache.evict("comparison:" + userId);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package backend.fitmate.config;
+
+import java.io.Serializable;
+
+/**
+ * SingleFlightCache가 Redis에 저장하는 값 (조기 갱신 판단용 메타데이터 포함)
+ *
+ * computeMillis: 값을 계산하는 데 걸린 시간, expiresAtMillis: 항목 만료 시각
+ */
+public record CachedValue(Object value, long computeMillis, long expiresAtMillis) implements Serializable {
+}
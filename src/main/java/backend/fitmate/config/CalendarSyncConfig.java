@@ -0,0 +1,44 @@
+package backend.fitmate.config;
+
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import backend.fitmate.service.CalendarSyncJob;
+
+/**
+ * Google Calendar 백그라운드 증분 동기화 스케줄
+ */
+@Configuration
+@ConditionalOnProperty(name = "calendar.sync.enabled", havingValue = "true", matchIfMissing = true)
+public class CalendarSyncConfig {
+
+    @Value("${calendar.sync.interval-seconds:300}")
+    private int intervalSeconds;
+
+    @Bean
+    public JobDetail calendarSyncJobDetail() {
+        return JobBuilder.newJob(CalendarSyncJob.class)
+                .withIdentity("calendarSyncJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger calendarSyncTrigger(JobDetail calendarSyncJobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(calendarSyncJobDetail)
+                .withIdentity("calendarSyncTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(intervalSeconds)
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
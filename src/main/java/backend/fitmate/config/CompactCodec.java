@@ -0,0 +1,47 @@
+package backend.fitmate.config;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 캐시 DTO용 바이너리 코덱 (CompactRedisSerializer에 등록)
+ *
+ * typeId는 저장 포맷에 기록되므로 한 번 정하면 바꾸지 않아야 합니다.
+ * 필드를 추가/변경할 때는 version을 올리고, read에서 이전 version도 읽을 수 있게 유지합니다.
+ * JPA 엔티티가 아닌 불변 DTO에만 사용합니다.
+ */
+public interface CompactCodec<T> {
+
+    Class<T> type();
+
+    int typeId();
+
+    int version();
+
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in, int version) throws IOException;
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
@@ -0,0 +1,200 @@
+package backend.fitmate.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * 캐시 값용 Redis 직렬화기
+ *
+ * 등록된 CompactCodec 타입(및 그 Optional)은 클래스명 없이 바이너리로 기록하고,
+ * 그 외 타입은 기존 JSON 직렬화기로 위임합니다.
+ * 직렬화 결과가 compressionThreshold 바이트 이상이면 LZ4로 압축합니다.
+ *
+ * SingleFlightCache의 CachedValue는 메타데이터 뒤에 내부 값(코덱 또는 위임 직렬화 바이트)을 중첩해 기록합니다.
+ *
+ * 포맷: [MAGIC][flags][(압축 시) 원본 길이][typeId][version][payload]
+ * MAGIC(0xC1)은 UTF-8/JSON 첫 바이트로 나올 수 없으므로, 기존 JSON 항목도 그대로 읽을 수 있습니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xC1;
+    private static final int FLAG_LZ4 = 1;
+    private static final int TYPE_OPTIONAL_EMPTY = 0;
+    private static final int TYPE_OPTIONAL_PRESENT = 1; // 다음 바이트부터 내부 값
+    private static final int TYPE_CACHED_VALUE = 2; // [expiresAt][computeMillis] 다음에 내부 값
+    private static final int TYPE_NULL = 3;
+    private static final int TYPE_FALLBACK = 4; // [길이][위임 직렬화 바이트]
+    private static final int RESERVED_TYPE_IDS = 16;
+
+    private final Map<Class<?>, CompactCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CompactCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4Factory.fastestInstance().safeDecompressor();
+
+    public CompactRedisSerializer(List<CompactCodec<?>> codecs, RedisSerializer<Object> fallback, int compressionThreshold) {
+        for (CompactCodec<?> codec : codecs) {
+            if (codec.typeId() < RESERVED_TYPE_IDS || codec.typeId() > 255) {
+                throw new IllegalArgumentException("typeId는 " + RESERVED_TYPE_IDS + "~255 범위여야 합니다: " + codec.type().getName());
+            }
+            if (codecsById.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("중복된 typeId: " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!isCompactType(value)) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeValue(out, value);
+            out.flush();
+            byte[] payload = buffer.toByteArray();
+
+            if (payload.length >= compressionThreshold) {
+                byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+                int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0);
+                ByteArrayOutputStream framed = new ByteArrayOutputStream(compressedLength + 8);
+                DataOutputStream framedOut = new DataOutputStream(framed);
+                framedOut.writeByte(MAGIC);
+                framedOut.writeByte(FLAG_LZ4);
+                framedOut.writeInt(payload.length);
+                framedOut.write(compressed, 0, compressedLength);
+                return framed.toByteArray();
+            }
+
+            byte[] framed = new byte[payload.length + 2];
+            framed[0] = MAGIC;
+            framed[1] = 0;
+            System.arraycopy(payload, 0, framed, 2, payload.length);
+            return framed;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes); // 기존 JSON 항목 또는 미등록 타입
+        }
+
+        try {
+            int flags = bytes[1];
+            DataInputStream in;
+            if ((flags & FLAG_LZ4) != 0) {
+                int originalLength = ((bytes[2] & 0xFF) << 24) | ((bytes[3] & 0xFF) << 16)
+                        | ((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF);
+                byte[] payload = new byte[originalLength];
+                decompressor.decompress(bytes, 6, bytes.length - 6, payload, 0);
+                in = new DataInputStream(new ByteArrayInputStream(payload));
+            } else {
+                in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2));
+            }
+            return readValue(in);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    private boolean isCompactType(Object value) {
+        if (value instanceof CachedValue) {
+            return true;
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isEmpty() || codecsByType.containsKey(optional.get().getClass());
+        }
+        return codecsByType.containsKey(value.getClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof CachedValue entry) {
+            out.writeByte(TYPE_CACHED_VALUE);
+            out.writeLong(entry.expiresAtMillis());
+            out.writeLong(entry.computeMillis());
+            Object inner = entry.value();
+            if (inner == null) {
+                out.writeByte(TYPE_NULL);
+            } else if (isCompactType(inner)) {
+                writeValue(out, inner);
+            } else {
+                byte[] bytes = fallback.serialize(inner);
+                out.writeByte(TYPE_FALLBACK);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            return;
+        }
+        if (value instanceof Optional<?> optional) {
+            if (optional.isEmpty()) {
+                out.writeByte(TYPE_OPTIONAL_EMPTY);
+                return;
+            }
+            out.writeByte(TYPE_OPTIONAL_PRESENT);
+            value = optional.get();
+        }
+        CompactCodec<Object> codec = (CompactCodec<Object>) codecsByType.get(value.getClass());
+        out.writeByte(codec.typeId());
+        out.writeByte(codec.version());
+        codec.write(out, value);
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        int typeId = in.readUnsignedByte();
+        if (typeId == TYPE_OPTIONAL_EMPTY) {
+            return Optional.empty();
+        }
+        if (typeId == TYPE_OPTIONAL_PRESENT) {
+            return Optional.ofNullable(readValue(in));
+        }
+        if (typeId == TYPE_CACHED_VALUE) {
+            long expiresAtMillis = in.readLong();
+            long computeMillis = in.readLong();
+            return new CachedValue(readValue(in), computeMillis, expiresAtMillis);
+        }
+        if (typeId == TYPE_NULL) {
+            return null;
+        }
+        if (typeId == TYPE_FALLBACK) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return fallback.deserialize(bytes);
+        }
+        CompactCodec<?> codec = codecsById.get(typeId);
+        if (codec == null) {
+            throw new IOException("등록되지 않은 캐시 typeId: " + typeId);
+        }
+        int version = in.readUnsignedByte();
+        return codec.read(in, version);
+    }
+}
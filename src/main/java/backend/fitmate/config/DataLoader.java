@@ -7,7 +7,6 @@ import java.util.Optional;
 import java.util.Random;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import backend.fitmate.Exercise.entity.Exercise;
 import backend.fitmate.Exercise.repository.ExerciseRepository;
+import backend.fitmate.Exercise.service.ExerciseCatalogSnapshot;
 import backend.fitmate.Exercise.service.ExerciseService;
 import backend.fitmate.User.entity.BodyRecord;
 import backend.fitmate.User.entity.User;
@@ -23,9 +23,11 @@ import backend.fitmate.User.service.BodyRecordService;
 import backend.fitmate.User.service.UserService;
 import backend.fitmate.User.service.WorkoutRecordService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
 @RequiredArgsConstructor
+@Slf4j
 public class DataLoader {
 
     private final UserService userService;
@@ -37,6 +39,7 @@ public class DataLoader {
     private final ExerciseRepository exerciseRepository;
     private final PasswordEncoder passwordEncoder;
     private final MetsDataLoader metsDataLoader;
+    private final ExerciseCatalogSnapshot exerciseCatalogSnapshot;
     private final Random random = new Random();
 
     @Value("${data.loader.initial-data-only:false}")
@@ -49,72 +52,56 @@ public class DataLoader {
     // @Value("${wger.fetch.enabled:true}")
     // private boolean wgerFetchEnabled;
 
+    /**
+     * 운동 카탈로그 재구성 (data.loader.enabled 와 무관하게 항상 실행, readiness 필수)
+     */
     @Bean
-    @ConditionalOnProperty(name = "data.loader.enabled", havingValue = "true", matchIfMissing = true)
-    public CommandLineRunner loadData() {
-        return args -> {
-            System.out.println("🚀 DataLoader 시작!");
-            System.out.println("🔧 현재 활성 프로필: " + System.getProperty("spring.profiles.active"));
-            System.out.println("🔧 현재 ddl-auto 설정: " + System.getProperty("spring.jpa.hibernate.ddl-auto"));
-            System.out.println("🔧 초기 데이터만 로드: " + initialDataOnly);
-            System.out.println("🔧 강제 리셋: " + forceReset);
-            
-            // 운동 데이터 로드 (데이터가 없을 때만, 또는 강제 리셋 시)
-            loadInitialExercises();
-
-            // MET 값 매핑 실행
-            try {
-                metsDataLoader.run();
-            } catch (Exception e) {
-                System.out.println("❌ MetsDataLoader 실행 중 오류: " + e.getMessage());
-            }
-
-            if (!initialDataOnly) {
-                loadInitialTestData();
-            } else {
-                System.out.println("⏭️ 초기 데이터만 로드 모드: 테스트 데이터 생성 건너뜀");
-            }
-            
-            System.out.println("✅ DataLoader 완료!");
-        };
+    public StartupTask exerciseCatalogTask() {
+        return StartupTask.required("exercise-catalog", metsDataLoader::rebuildCatalog);
     }
 
-    private void loadInitialExercises() {
-        System.out.println("🔍 loadInitialExercises 시작");
+    /**
+     * 카탈로그 스냅샷(gzip 포함)을 미리 만들어 첫 요청이 직렬화 비용을 치르지 않도록 함
+     */
+    @Bean
+    public StartupTask exerciseCatalogSnapshotTask() {
+        return StartupTask.optional("exercise-catalog-snapshot", exerciseCatalogSnapshot::current, "exercise-catalog");
+    }
 
-        try {
-            long exerciseCount = exerciseRepository.count();
-            System.out.println("📊 현재 DB에 저장된 운동 데이터 개수: " + exerciseCount);
-            System.out.println("🔧 강제 리셋 모드: " + forceReset);
-            
-            if (exerciseCount == 0 || forceReset) {
-                if (forceReset) {
-                    System.out.println("🔄 강제 리셋 모드: 기존 운동 데이터를 삭제하고 새로 로드합니다...");
-                    exerciseRepository.deleteAll();
-                } else {
-                    System.out.println("🚀 운동 데이터가 없습니다. 제공된 운동 데이터로 초기화합니다...");
-                }
+    /**
+     * 관리자 계정은 다른 데이터와 무관하므로 카탈로그 재구성과 병렬로 실행
+     */
+    @Bean
+    @ConditionalOnProperty(name = "data.loader.enabled", havingValue = "true", matchIfMissing = true)
+    public StartupTask adminUserTask() {
+        return StartupTask.optional("admin-user", () -> {
+            if (initialDataOnly) {
+                log.info("⏭️ 초기 데이터만 로드 모드: 관리자 계정 확인 건너뜀");
+                return;
+            }
+            createAdminUser();
+        });
+    }
 
-                // CSV 매핑 및 제공된 운동 세트를 통해 초기화는 MetsDataLoader가 처리하므로 여기서는 아무 것도 하지 않음
-                System.out.println("✅ 초기 운동 데이터는 MetsDataLoader에서 처리됩니다.");
-            } else {
-                System.out.println("✅ 운동 데이터가 이미 존재합니다. (" + exerciseCount + "개)");
-                System.out.println("⏭️ 추가 초기화 없이 기존 데이터 사용");
+    /**
+     * 테스트 사용자 데이터는 MET 값이 있는 운동을 사용하므로 카탈로그 재구성 이후 실행
+     */
+    @Bean
+    @ConditionalOnProperty(name = "data.loader.enabled", havingValue = "true", matchIfMissing = true)
+    public StartupTask testDataTask() {
+        return StartupTask.optional("test-data", () -> {
+            log.info("🔧 초기 데이터만 로드: {}, 강제 리셋: {}", initialDataOnly, forceReset);
+            if (initialDataOnly) {
+                log.info("⏭️ 초기 데이터만 로드 모드: 테스트 데이터 생성 건너뜀");
+                return;
             }
-        } catch (Exception e) {
-            System.out.println("❌ 데이터베이스 연결 또는 카운트 조회 중 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        System.out.println("🔍 loadInitialExercises 완료");
+            loadInitialTestData();
+        }, "exercise-catalog");
     }
 
     private void loadInitialTestData() {
         System.out.println("🔍 loadInitialTestData 시작");
         
-        // 관리자 계정 생성
-        createAdminUser();
-        
         // 테스트 사용자가 있는지 확인
         Optional<User> existingUserOpt = userService.findByEmail("test@fitmate.com");
         
@@ -4,81 +4,157 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.github.bucket4j.Bucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-// @Component // 개발 환경에서는 전역 Rate Limit을 비활성화하여 테스트 용이성 확보
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IP 기반 전역 Rate Limit (ratelimit.global.enabled=true 일 때만, 개발 환경에서는 기본 비활성)
+ *
+ * 1차로 인스턴스 로컬 버킷(LocalRateLimiter)만 확인하므로 일반 트래픽은 Redis 를 거치지 않습니다.
+ * 로컬 한도를 넘긴 의심 IP 만 일정 시간 동안 Redis 전역 버킷(globalBucket, 인스턴스 합산)으로 확인하고,
+ * 거기서도 초과하면 429 를 반환합니다. Redis 장애 시에는 요청을 통과시킵니다.
+ * 로컬 한도를 처음 넘긴 시점에 로컬에서 허용한 버스트(local-capacity)를 전역 버킷에서 차감하므로
+ * 로컬과 전역에서 허용한 요청의 합이 전역 한도(capacity)를 넘지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.global.enabled", havingValue = "true")
+@Slf4j
 public class GlobalRateLimitFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private ProxyManager<String> proxyManager;
+    private static final Set<String> STATIC_EXTENSIONS = Set.of(
+            "css", "js", "map", "png", "jpg", "jpeg", "gif", "svg", "ico", "webp", "woff", "woff2", "ttf", "html");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ProxyManager<String> proxyManager;
+    private final LocalRateLimiter localRateLimiter;
+    private final int localCapacity;
+    private final BucketConfiguration redisConfiguration;
+    private final Counter localAllowed;
+    private final Counter escalatedAllowed;
+    private final Counter denied;
+
+    public GlobalRateLimitFilter(ProxyManager<String> proxyManager, MeterRegistry meterRegistry,
+                                 @Value("${ratelimit.global.capacity:100}") int capacity,
+                                 @Value("${ratelimit.global.local-capacity:50}") int localCapacity,
+                                 @Value("${ratelimit.global.local-period-seconds:60}") long localPeriodSeconds,
+                                 @Value("${ratelimit.global.suspicion-seconds:60}") long suspicionSeconds,
+                                 @Value("${ratelimit.global.max-tracked-ips:100000}") int maxTrackedIps,
+                                 @Value("${ratelimit.global.shards:64}") int shards) {
+        this.proxyManager = proxyManager;
+        this.localCapacity = localCapacity;
+        this.redisConfiguration = BucketConfiguration.builder()
+                .addLimit(limit -> limit.capacity(capacity).refillGreedy(capacity, Duration.ofMinutes(1)))
+                .build();
+        this.localRateLimiter = new LocalRateLimiter(localCapacity, Duration.ofSeconds(localPeriodSeconds),
+                Duration.ofSeconds(suspicionSeconds), maxTrackedIps, shards);
+        this.localAllowed = counter(meterRegistry, "local");
+        this.escalatedAllowed = counter(meterRegistry, "escalated");
+        this.denied = counter(meterRegistry, "denied");
+        meterRegistry.gauge("fitmate.ratelimit.global.tracked", localRateLimiter, LocalRateLimiter::size);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("fitmate.ratelimit.global")
+                .description("전역 Rate Limit 판정 (local: 로컬 버킷만 확인, escalated: Redis 확인 후 허용)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, 
-                                  HttpServletResponse response, 
-                                  FilterChain filterChain) 
-            throws ServletException, IOException {
-        
-        // OPTIONS 요청은 Rate Limiting에서 제외
+    protected boolean shouldNotFilter(HttpServletRequest request) {
         if ("OPTIONS".equals(request.getMethod())) {
-            filterChain.doFilter(request, response);
-            return;
+            return true;
         }
-        
-        // 정적 리소스는 제외
         String requestURI = request.getRequestURI();
-        if (requestURI.startsWith("/static/") || 
-            requestURI.startsWith("/css/") || 
-            requestURI.startsWith("/js/") || 
-            requestURI.startsWith("/images/")) {
-            filterChain.doFilter(request, response);
-            return;
+        // /test/ 는 @RateLimit(AOP)에서 처리하므로 중복 방지
+        return requestURI.startsWith("/test/") || requestURI.startsWith("/actuator/") || isStaticResource(requestURI);
+    }
+
+    /**
+     * 경로 접두사 대신 마지막 경로 조각의 확장자로 정적 리소스를 판별
+     */
+    static boolean isStaticResource(String requestURI) {
+        int dot = requestURI.lastIndexOf('.');
+        if (dot < 0 || dot < requestURI.lastIndexOf('/')) {
+            return false;
         }
+        return STATIC_EXTENSIONS.contains(requestURI.substring(dot + 1).toLowerCase());
+    }
 
-        // @RateLimit 어노테이션이 있는 요청은 GlobalRateLimitFilter에서 제외
-        // (AOP에서 처리하므로 중복 방지)
-        if (requestURI.startsWith("/test/")) {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String clientIp = getClientIpAddress(request);
+        LocalRateLimiter.Decision decision = localRateLimiter.acquire(clientIp);
+        if (decision == LocalRateLimiter.Decision.ALLOWED) {
+            localAllowed.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
-        // IP 기반 전역 Rate Limiting
-        String clientIp = getClientIpAddress(request);
-        BucketConfiguration configuration = BucketConfiguration.builder()
-            .addLimit(limit -> limit.capacity(100).refillGreedy(100, Duration.ofMinutes(1)))
-            .build();
-
-        Bucket bucket = proxyManager.getProxy(clientIp, () -> configuration);
-        
-        if (bucket.tryConsume(1)) {
-            // 요청 허용
+        // 의심 IP: Redis 전역 버킷으로 확인
+        boolean allowed;
+        try {
+            BucketProxy bucket = proxyManager.getProxy(RateLimitAspect.bucketKey("globalBucket", "ip", clientIp),
+                    () -> redisConfiguration);
+            if (decision == LocalRateLimiter.Decision.TRIPPED) {
+                bucket.consumeIgnoringRateLimits(localCapacity);
+            }
+            allowed = bucket.tryConsume(1);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 전역 Rate Limit Redis 확인 실패, 요청 허용: {}", e.getMessage());
+            allowed = true;
+        }
+
+        if (allowed) {
+            escalatedAllowed.increment();
             filterChain.doFilter(request, response);
         } else {
-            // 요청 차단
+            denied.increment();
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setContentType("application/json");
-            
+
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
             errorResponse.put("message", "전역 Rate Limit 초과. 잠시 후 다시 시도해주세요.");
             errorResponse.put("error", "GLOBAL_RATE_LIMIT_EXCEEDED");
             errorResponse.put("retryAfter", "60");
-            
-            response.getWriter().write(new com.fasterxml.jackson.databind.ObjectMapper()
-                .writeValueAsString(errorResponse));
+
+            response.getWriter().write(OBJECT_MAPPER.writeValueAsString(errorResponse));
         }
     }
 
+    /**
+     * 버킷이 가득 찬 IP 정리 (가득 찬 버킷은 새 버킷과 같으므로 지워도 판정이 바뀌지 않음)
+     */
+    @Scheduled(fixedDelayString = "${ratelimit.global.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        localRateLimiter.evictIdle();
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -86,4 +162,4 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
         }
         return request.getRemoteAddr();
     }
-} 
\ No newline at end of file
+}
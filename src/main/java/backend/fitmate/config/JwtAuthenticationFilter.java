@@ -11,6 +11,8 @@ import backend.fitmate.service.CustomUserDetailsService;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,13 +38,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (token != null) {
             System.err.println("🔍 JWT Filter - Token (앞 20자): " + token.substring(0, Math.min(20, token.length())) + "...");
+            // 토큰 검증 + 인증 객체 생성 시간 (결과별)
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String result = "error";
             try {
                 if (jwtTokenProvider.validateToken(token)) {
                     Authentication authentication = jwtTokenProvider.getAuthentication(token);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    result = "valid";
                     System.err.println("🔍 JWT Filter - 인증 성공, 사용자: " + authentication.getName());
                     System.err.println("🔍 JWT Filter - 권한: " + authentication.getAuthorities());
                 } else {
+                    result = "invalid";
                     System.err.println("🔍 JWT Filter - 토큰 검증 실패");
                 }
             } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
@@ -59,6 +67,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             } catch (Exception e) {
                 logger.error("JWT 필터 처리 중 예외 발생", e);
                 request.setAttribute("exception", "Unknown-Error");
+            } finally {
+                sample.stop(Timer.builder("fitmate.jwt.authentication")
+                        .description("JWT 검증 및 인증 객체 생성 시간")
+                        .tag("result", result)
+                        .register(meterRegistry));
             }
         } else {
             logger.debug("JWT 토큰이 없어 인증 컨텍스트를 설정하지 않음");
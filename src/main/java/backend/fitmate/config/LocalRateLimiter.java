@@ -0,0 +1,139 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 키별 토큰 버킷 (GCRA: 다음 허용 시각 하나를 AtomicLong CAS 로 갱신)
+ *
+ * - 키 맵은 샤드로 나눈 ConcurrentHashMap 이고, 샤드마다 최대 항목 수가 있어 메모리가 제한됩니다.
+ * - 버킷이 가득 찬(=새 버킷과 같은) 키는 유휴 상태로 보고 evictIdle() 주기 호출로 제거합니다.
+ * - 한도를 넘긴 키는 suspicion 동안 "의심" 상태가 되고, 샤드가 가득 차 추적할 수 없는 새 키도 의심으로 취급합니다.
+ */
+public class LocalRateLimiter {
+
+    /**
+     * 판정 결과. TRIPPED 는 이번 요청으로 한도를 처음 넘겨 의심 상태가 된 경우 (키마다 의심 기간당 한 번)
+     */
+    public enum Decision { ALLOWED, TRIPPED, SUSPICIOUS }
+
+    private static final class State {
+        final AtomicLong theoreticalArrival; // 다음 요청이 허용되는 이론상 시각 (nanoTime)
+        final AtomicLong suspiciousUntil;
+
+        State(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+            this.suspiciousUntil = new AtomicLong(now);
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrival.get() - now <= 0 && suspiciousUntil.get() - now <= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<String, State>[] shards;
+    private final int shardMask;
+    private final int maxKeysPerShard;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final long suspicionNanos;
+
+    /**
+     * @param capacity  period 동안 허용할 요청 수 (버스트 크기)
+     * @param shards    샤드 수 (2의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public LocalRateLimiter(int capacity, Duration period, Duration suspicion, int maxKeys, int shards) {
+        if (capacity < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("capacity/period 는 양수여야 합니다");
+        }
+        int shardCount = shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+        this.shards = new ConcurrentHashMap[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new ConcurrentHashMap<>();
+        }
+        this.shardMask = shardCount - 1;
+        this.maxKeysPerShard = Math.max(1, maxKeys / shardCount);
+        this.emissionInterval = period.toNanos() / capacity;
+        this.burstTolerance = emissionInterval * (capacity - 1);
+        this.suspicionNanos = suspicion.toNanos();
+    }
+
+    /**
+     * @return 로컬 한도 안이면 true, 의심 키(한도 초과/추적 불가)면 false
+     */
+    public boolean tryAcquire(String key) {
+        return acquire(key) == Decision.ALLOWED;
+    }
+
+    boolean tryAcquire(String key, long now) {
+        return acquire(key, now) == Decision.ALLOWED;
+    }
+
+    public Decision acquire(String key) {
+        return acquire(key, System.nanoTime());
+    }
+
+    Decision acquire(String key, long now) {
+        ConcurrentHashMap<String, State> shard = shardFor(key);
+        State state = shard.get(key);
+        if (state == null) {
+            if (shard.size() >= maxKeysPerShard) {
+                return Decision.SUSPICIOUS; // 요청 경로에서는 스캔하지 않음 (정리는 evictIdle 주기 호출)
+            }
+            state = shard.computeIfAbsent(key, k -> new State(now));
+        }
+        long suspiciousUntil = state.suspiciousUntil.get();
+        if (suspiciousUntil - now > 0) {
+            return Decision.SUSPICIOUS;
+        }
+        while (true) {
+            long tat = state.theoreticalArrival.get();
+            long start = tat - now > 0 ? tat : now;
+            if (start - now > burstTolerance) {
+                // 동시에 한도를 넘긴 요청 중 하나만 TRIPPED
+                return state.suspiciousUntil.compareAndSet(suspiciousUntil, now + suspicionNanos)
+                        ? Decision.TRIPPED : Decision.SUSPICIOUS;
+            }
+            if (state.theoreticalArrival.compareAndSet(tat, start + emissionInterval)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찼고 의심 상태도 아닌 키를 제거
+     * @return 제거한 키 수
+     */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        int removed = 0;
+        for (ConcurrentHashMap<String, State> shard : shards) {
+            removed += evictIdle(shard, now);
+        }
+        return removed;
+    }
+
+    private static int evictIdle(ConcurrentHashMap<String, State> shard, long now) {
+        int before = shard.size();
+        shard.values().removeIf(state -> state.isIdle(now));
+        return Math.max(0, before - shard.size());
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, State> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, State> shardFor(String key) {
+        int h = key.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+}
@@ -0,0 +1,175 @@
+package backend.fitmate.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * 캐시 적중/미스/저장/삭제 횟수와 미스 시 로딩 시간을 기록하는 데코레이터
+ *
+ * 표준 cache.gets{result=hit|miss}, cache.puts, cache.evictions 지표로 노출하므로
+ * 캐시 이름별 적중률을 바로 계산할 수 있습니다. 적중은 L1/L2 구분 없이 로더를 호출하지 않은 조회입니다.
+ */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer loadTimer;
+
+    MeteredCache(Cache delegate, MeterRegistry registry, Iterable<Tag> tags) {
+        this.delegate = delegate;
+        this.loadTimer = Timer.builder("fitmate.cache.load")
+                .description("캐시 미스 시 원본 조회 시간")
+                .tag("cache", delegate.getName())
+                .tags(tags)
+                .register(registry);
+        new Binder(this, tags).bindTo(registry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return count(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Loader<T> loader = new Loader<>(valueLoader);
+        T value = delegate.get(key, loader);
+        if (!loader.loadedByCaller) {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private ValueWrapper count(ValueWrapper wrapper) {
+        (wrapper != null ? hits : misses).increment();
+        return wrapper;
+    }
+
+    /**
+     * 로딩 시간을 기록하고, 호출 스레드에서 실행된 로딩만 그 조회의 미스로 셉니다.
+     * SingleFlightCache 조기 갱신처럼 다른 스레드에서 실행된 로딩은 시간만 기록합니다. (조회 자체는 기존 값을 받은 적중)
+     */
+    private final class Loader<T> implements Callable<T> {
+
+        private final Thread caller = Thread.currentThread();
+        private final Callable<T> valueLoader;
+        private boolean loadedByCaller; // 호출 스레드에서만 쓰고 읽음
+
+        Loader(Callable<T> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (Thread.currentThread() == caller) {
+                loadedByCaller = true;
+                misses.increment();
+            }
+            return loadTimer.recordCallable(valueLoader);
+        }
+    }
+
+    private static class Binder extends CacheMeterBinder<MeteredCache> {
+
+        Binder(MeteredCache cache, Iterable<Tag> tags) {
+            super(cache, cache.getName(), Tags.of(tags));
+        }
+
+        @Override
+        protected Long size() {
+            return null; // Redis 키 개수는 조회 비용이 커서 노출하지 않음
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache().hits.sum();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache().misses.sum();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache().evictions.sum();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache().puts.sum();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
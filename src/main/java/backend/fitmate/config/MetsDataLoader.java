@@ -4,40 +4,57 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import backend.fitmate.Exercise.entity.Exercise;
 import backend.fitmate.Exercise.repository.ExerciseRepository;
+import backend.fitmate.Exercise.service.ExerciseCatalogCache;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 시드 CSV로 운동 테이블 재구성
+ *
+ * 기동 작업(exercise-catalog)으로 한 번만 실행됩니다. 삭제와 재삽입을 한 트랜잭션으로 묶어
+ * 기동 중 들어온 조회가 빈 테이블을 보지 않도록 합니다. 시드를 읽지 못하면 예외를 던져
+ * 기동 작업이 FAILED 로 기록되고 readiness 가 DOWN 으로 남습니다.
+ */
 @Component
 @Slf4j
-public class MetsDataLoader implements CommandLineRunner {
+public class MetsDataLoader {
 
     @Autowired
     private ExerciseRepository exerciseRepository;
 
-    @Override
-    public void run(String... args) throws Exception {
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ExerciseCatalogCache exerciseCatalogCache;
+
+    public void rebuildCatalog() {
+        rebuildCatalog(new ClassPathResource("exercises_seed.csv"));
+    }
+
+    void rebuildCatalog(Resource seed) {
         log.info("🔍 MET 데이터 로더 시작");
-        rebuildExercisesFromSeedCsv();
+        rebuildExercisesFromSeedCsv(seed);
         log.info("✅ 시드 CSV를 기반으로 운동 테이블 재구성 완료");
     }
 
-    private void rebuildExercisesFromSeedCsv() {
+    private void rebuildExercisesFromSeedCsv(Resource resource) {
         try {
-            ClassPathResource resource = new ClassPathResource("exercises_seed.csv");
             if (!resource.exists()) {
-                log.warn("⚠️ 시드 CSV 파일을 찾을 수 없습니다: exercises_seed.csv");
-                return;
+                throw new IllegalStateException("시드 CSV 파일을 찾을 수 없습니다: " + resource.getDescription());
             }
 
             List<SeedExercise> seedExercises = new ArrayList<>();
@@ -84,10 +101,7 @@ public class MetsDataLoader implements CommandLineRunner {
                 }
             }
 
-            log.info("🗑️ 기존 운동 데이터 삭제 중...");
-            exerciseRepository.deleteAll();
-
-            int created = 0;
+            List<Exercise> exercises = new ArrayList<>(seedExercises.size());
             for (SeedExercise s : seedExercises) {
                 Exercise ex = new Exercise();
                 ex.setName(s.name);
@@ -104,13 +118,19 @@ public class MetsDataLoader implements CommandLineRunner {
                 ex.setMusclesSecondary(s.secondaryMuscles);
                 ex.setDescription(s.description.isBlank() ? null : s.description);
 
-                exerciseRepository.save(ex);
-                created++;
+                exercises.add(ex);
             }
 
-            log.info("✅ 총 {}개 운동을 시드 CSV에서 생성 완료", created);
+            transactionTemplate.executeWithoutResult(status -> {
+                log.info("🗑️ 기존 운동 데이터 삭제 중...");
+                exerciseRepository.deleteAll(); // 컬렉션 테이블까지 함께 삭제 (deleteAllInBatch 는 FK 위반)
+                exerciseRepository.saveAll(exercises);
+            });
+            exerciseCatalogCache.evictAll();
+
+            log.info("✅ 총 {}개 운동을 시드 CSV에서 생성 완료", exercises.size());
         } catch (IOException e) {
-            log.error("❌ 시드 CSV 로드 실패: {}", e.getMessage());
+            throw new UncheckedIOException("시드 CSV 로드 실패", e);
         }
     }
 
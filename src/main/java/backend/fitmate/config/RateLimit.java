@@ -10,6 +10,7 @@ import java.lang.annotation.Target;
  * 
  * @param bucketName 사용할 Bucket의 이름 (Bean 이름과 일치해야 함)
  * @param keyGenerator Rate Limiting 키를 생성하는 방법 (기본값: IP 기반)
+ * @param key KeyType.CUSTOM 일 때 메서드 인자에 대한 SpEL 표현식 (예: "#request['email']")
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -26,6 +27,12 @@ public @interface RateLimit {
      * 기본값은 IP 기반
      */
     KeyType keyType() default KeyType.IP;
+
+    /**
+     * KeyType.CUSTOM 에서 사용할 SpEL 표현식
+     * 파라미터는 #이름 또는 #p0/#a0 로 참조하며, 결과가 null 이면 IP 기반으로 대체
+     */
+    String key() default "";
     
     /**
      * Rate Limiting 키 생성 방법을 정의하는 enum
@@ -34,6 +41,6 @@ public @interface RateLimit {
         IP,        // IP 주소 기반
         USER_ID,   // 사용자 ID 기반 (인증된 사용자)
         SESSION,   // 세션 기반
-        CUSTOM     // 커스텀 키 (별도 구현 필요)
+        CUSTOM     // 커스텀 키 (key 의 SpEL 표현식으로 생성)
     }
 } 
\ No newline at end of file
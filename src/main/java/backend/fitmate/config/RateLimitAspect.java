@@ -1,9 +1,11 @@
 package backend.fitmate.config;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,11 +13,18 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -23,15 +32,28 @@ import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 
 @Aspect
 @Component
 public class RateLimitAspect {
 
+    static final String KEY_PREFIX = "ratelimit:";
+    private static final int MAX_KEY_VALUE_LENGTH = 64;
+
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Around("@annotation(backend.fitmate.config.RateLimit)")
     public Object rateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
         System.out.println("=== RateLimitAspect 실행됨 ===");
@@ -57,8 +79,8 @@ public class RateLimitAspect {
         // ProxyManager 가져오기
         ProxyManager<String> proxyManager = applicationContext.getBean(ProxyManager.class);
 
-        // Rate Limiting 키 생성
-        String key = generateKey(rateLimitAnnotation.keyType());
+        // Rate Limiting 키 생성 (버킷 이름별 네임스페이스)
+        String key = generateKey(rateLimitAnnotation, method, joinPoint.getArgs());
         System.out.println("생성된 키: " + key);
 
         // 버킷 설정 생성
@@ -67,8 +89,14 @@ public class RateLimitAspect {
         // 동적으로 버킷 생성
         Bucket bucket = proxyManager.getProxy(key, () -> configuration);
 
-        // 토큰 소비 시도 및 결과 확인
+        // 토큰 소비 시도 및 결과 확인 (버킷별 허용/차단 횟수와 Redis 왕복 시간 기록)
+        Timer.Sample sample = Timer.start(meterRegistry);
         ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        sample.stop(Timer.builder("fitmate.ratelimit.check")
+                .description("Rate Limit 버킷 토큰 소비 시간")
+                .tag("bucket", rateLimitAnnotation.bucketName())
+                .tag("outcome", probe.isConsumed() ? "allowed" : "denied")
+                .register(meterRegistry));
 
         if (probe.isConsumed()) {
             // 허용된 경우 원래 메서드 실행
@@ -158,22 +186,50 @@ public class RateLimitAspect {
         }
     }
 
+    /**
+     * Redis 버킷 키: ratelimit:{버킷 이름}:{키 종류}:{값}
+     * 버킷마다 키를 분리해 같은 IP 라도 버킷 설정이 섞이지 않게 하고, 긴 값은 해시로 줄입니다.
+     */
+    static String bucketKey(String bucketName, String scope, String value) {
+        String bounded = value.length() > MAX_KEY_VALUE_LENGTH
+                ? DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8))
+                : value;
+        return KEY_PREFIX + bucketName + ":" + scope + ":" + bounded;
+    }
+
     /**
      * Rate Limiting 키를 생성합니다.
      */
-    private String generateKey(RateLimit.KeyType keyType) {
-        switch (keyType) {
-            case IP:
-                return getClientIpAddress();
+    private String generateKey(RateLimit rateLimit, Method method, Object[] args) {
+        String bucketName = rateLimit.bucketName();
+        switch (rateLimit.keyType()) {
             case USER_ID:
-                return getUserId();
+                return bucketKey(bucketName, "user", getUserId());
             case SESSION:
-                return getSessionId();
+                String sessionId = getSessionId();
+                // 세션이 없는 클라이언트마다 새 세션(=새 키)이 생기지 않도록 IP 로 대체
+                return sessionId != null ? bucketKey(bucketName, "session", sessionId)
+                        : bucketKey(bucketName, "ip", getClientIpAddress());
             case CUSTOM:
-                return "custom-" + System.currentTimeMillis();
+                String custom = evaluateCustomKey(rateLimit, method, args);
+                return custom != null ? bucketKey(bucketName, "custom", custom)
+                        : bucketKey(bucketName, "ip", getClientIpAddress());
+            case IP:
             default:
-                return getClientIpAddress();
+                return bucketKey(bucketName, "ip", getClientIpAddress());
+        }
+    }
+
+    /**
+     * KeyType.CUSTOM 의 SpEL 표현식을 메서드 인자로 평가합니다. (파싱 결과는 표현식별로 재사용)
+     */
+    private String evaluateCustomKey(RateLimit rateLimit, Method method, Object[] args) {
+        if (!StringUtils.hasText(rateLimit.key())) {
+            throw new IllegalStateException("KeyType.CUSTOM 에는 key 표현식이 필요합니다: " + method);
         }
+        Expression expression = keyExpressions.computeIfAbsent(rateLimit.key(), expressionParser::parseExpression);
+        Object value = expression.getValue(new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer));
+        return value == null ? null : value.toString();
     }
 
     /**
@@ -205,15 +261,15 @@ public class RateLimitAspect {
     }
 
     /**
-     * 세션 ID를 가져옵니다.
+     * 세션 ID를 가져옵니다. (세션이 없으면 만들지 않고 null)
      */
     private String getSessionId() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes != null) {
-            HttpServletRequest request = attributes.getRequest();
-            return request.getSession().getId();
+            HttpSession session = attributes.getRequest().getSession(false);
+            return session != null ? session.getId() : null;
         }
-        return "no-session";
+        return null;
     }
 
     /**
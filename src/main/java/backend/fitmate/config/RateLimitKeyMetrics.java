@@ -0,0 +1,70 @@
+package backend.fitmate.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 에 살아 있는 Rate Limit 버킷 키 수 (fitmate.ratelimit.keys, 버킷 이름별)
+ *
+ * 스크랩마다 Redis 를 훑지 않도록 주기적으로 SCAN 한 결과를 게이지 값으로 보관합니다.
+ * 키가 만료 없이 계속 늘어나면 키 생성 방식이나 만료 설정을 확인해야 합니다.
+ */
+@Component
+@Slf4j
+public class RateLimitKeyMetrics {
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> liveKeys = new ConcurrentHashMap<>();
+
+    public RateLimitKeyMetrics(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(initialDelayString = "${ratelimit.metrics.scan-interval-ms:60000}",
+            fixedDelayString = "${ratelimit.metrics.scan-interval-ms:60000}")
+    public void refresh() {
+        Map<String, Long> counts = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().match(RateLimitAspect.KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                counts.merge(bucketName(cursor.next()), 1L, Long::sum);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Rate Limit 키 집계 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 이번에 보이지 않은 버킷은 0 으로 (모두 만료된 경우)
+        liveKeys.forEach((bucket, gauge) -> gauge.set(counts.getOrDefault(bucket, 0L)));
+        counts.forEach((bucket, count) -> gauge(bucket).set(count));
+    }
+
+    private AtomicLong gauge(String bucket) {
+        return liveKeys.computeIfAbsent(bucket, name -> meterRegistry.gauge("fitmate.ratelimit.keys",
+                Tags.of("bucket", name), new AtomicLong()));
+    }
+
+    /**
+     * ratelimit:{버킷 이름}:{키 종류}:{값} 에서 버킷 이름
+     */
+    static String bucketName(String key) {
+        int start = RateLimitAspect.KEY_PREFIX.length();
+        int end = key.indexOf(':', start);
+        return end < 0 ? key.substring(start) : key.substring(start, end);
+    }
+}
@@ -1,11 +1,13 @@
 package backend.fitmate.config;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.api.StatefulRedisConnection;
@@ -20,6 +22,9 @@ public class RateLimitingConfig {
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    @Value("${ratelimit.key-expiry-margin-seconds:10}")
+    private long keyExpiryMarginSeconds;
+
     @Bean
     public ProxyManager<String> proxyManager() {
         RedisClient redisClient = RedisClient.create("redis://" + redisHost + ":" + redisPort);
@@ -50,7 +55,11 @@ public class RateLimitingConfig {
         };
         
         StatefulRedisConnection<String, byte[]> connection = redisClient.connect(codec);
+        // 버킷이 가득 찰 때까지 걸리는 시간 + 여유 시간 뒤에 키가 만료되도록 설정
+        // (가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 동작이 같고, 스캔/공격 트래픽의 키가 Redis 에 쌓이지 않음)
         return io.github.bucket4j.redis.lettuce.Bucket4jLettuce.casBasedBuilder(connection)
+            .expirationAfterWrite(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(
+                Duration.ofSeconds(keyExpiryMarginSeconds)))
             .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,77 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 복제본 라우팅 (datasource.replica.urls 가 있을 때만)
+ *
+ * primary 는 기존 spring.datasource.* 설정 그대로 만들고, 복제본 풀은 primary 와 같은 크기로 만듭니다.
+ * 설정이 없으면 Boot 기본 DataSource 하나만 사용합니다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") List<String> urls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.sticky-seconds:5}") long stickySeconds,
+            @Value("${datasource.replica.sticky-max-users:100000}") long stickyMaxUsers) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties()); // useCursorFetch 등
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        log.info("🔀 읽기 전용 복제본 {}개 사용 (쓰기 후 {}초간 primary 고정)", replicas.size(), stickySeconds);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                new ReadYourWritesTracker(Duration.ofSeconds(stickySeconds), stickyMaxUsers), meterRegistry);
+    }
+
+    /**
+     * JPA 등이 사용하는 DataSource. 실제 커넥션은 첫 쿼리 시점(readOnly 플래그 설정 이후)에 라우팅
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
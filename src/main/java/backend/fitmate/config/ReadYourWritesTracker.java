@@ -0,0 +1,47 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 사용자별 마지막 쓰기 시각 (read-your-writes)
+ *
+ * 쓰기 트랜잭션을 커밋한 사용자는 stickyWindow 동안 읽기 전용 트랜잭션도 primary 로 보내
+ * 복제 지연 때문에 방금 저장한 기록이 보이지 않는 일을 막습니다. 항목은 윈도우가 지나면 자동으로 만료됩니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Long> lastWriteAt;
+
+    public ReadYourWritesTracker(Duration stickyWindow, long maxUsers) {
+        this.lastWriteAt = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    public void recordWrite(String user) {
+        lastWriteAt.put(user, System.currentTimeMillis());
+    }
+
+    public boolean isSticky(String user) {
+        return user != null && lastWriteAt.getIfPresent(user) != null;
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 (없으면 null, 스케줄러/비로그인 요청 등)
+     */
+    public static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
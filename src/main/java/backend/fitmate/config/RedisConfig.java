@@ -1,7 +1,12 @@
 package backend.fitmate.config;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
@@ -14,10 +19,14 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(name = "spring.data.redis.host")
@@ -58,19 +67,73 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (인스턴스 간 신호 전달용)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * 로컬 L1(Caffeine) + Redis L2 2단계 CacheManager
+     * L1은 cache.local.names에 지정한 캐시에만 적용됩니다.
+     * cache.refresh-ahead.names의 캐시는 미스 요청 병합 + XFetch 조기 갱신(SingleFlightCache)을 거칩니다.
+     * 가장 바깥의 MeteredCacheManager가 캐시별 적중률 지표를 기록합니다.
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     ObjectProvider<CompactCodec<?>> compactCodecs,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.value-serializer:compact}") String valueSerializer,
+                                     @Value("${cache.compression-threshold:512}") int compressionThreshold,
+                                     @Value("${cache.local.names:user}") Set<String> localCacheNames,
+                                     @Value("${cache.local.max-size:10000}") long localMaxSize,
+                                     @Value("${cache.local.ttl-seconds:30}") long localTtlSeconds,
+                                     @Value("${cache.refresh-ahead.names:user,dashboardStats}") Set<String> refreshAheadNames,
+                                     @Value("${cache.refresh-ahead.beta:1.0}") double refreshAheadBeta) {
+        // 등록된 DTO는 바이너리로, 그 외 값은 캐시별 기존 직렬화 방식 그대로 저장
+        List<CompactCodec<?>> codecs = "compact".equals(valueSerializer)
+                ? compactCodecs.orderedStream().toList()
+                : List.of();
+        RedisSerializer<Object> jsonValues = new CompactRedisSerializer(codecs,
+                new GenericJackson2JsonRedisSerializer(), compressionThreshold);
+        RedisSerializer<Object> jdkValues = new CompactRedisSerializer(codecs,
+                RedisSerializer.java(), compressionThreshold);
+
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30)) // 기본 TTL 30분
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .withCacheConfiguration("user", 
-                    RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)))
-                .withCacheConfiguration("oauth2", 
-                    RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(5)))
-                .build();
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonValues));
+
+        Map<String, Duration> ttls = Map.of(
+                "user", Duration.ofMinutes(1),
+                "oauth2", Duration.ofMinutes(5),
+                "dashboardStats", Duration.ofMinutes(5)); // 대시보드 주별 통계 (Object[] 행이므로 JDK 직렬화)
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+        ttls.forEach((name, ttl) -> builder.withCacheConfiguration(name,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(ttl)
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jdkValues))));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet(); // 빈으로 등록하지 않으므로 직접 초기화
+
+        Map<String, Duration> refreshAheadTtls = new HashMap<>();
+        for (String name : refreshAheadNames) {
+            refreshAheadTtls.put(name, ttls.getOrDefault(name, Duration.ofMinutes(30)));
+        }
+        CacheManager singleFlightCacheManager = new SingleFlightCacheManager(redisCacheManager,
+                refreshAheadTtls, refreshAheadBeta);
+
+        CacheManager twoLevelCacheManager = new TwoLevelCacheManager(singleFlightCacheManager, redisTemplate,
+                redisMessageListenerContainer, localCacheNames, localMaxSize, Duration.ofSeconds(localTtlSeconds));
+
+        // 캐시 이름별 적중/미스 지표 (cache.gets) 및 미스 로딩 시간 (fitmate.cache.load)
+        return new MeteredCacheManager(twoLevelCacheManager, meterRegistry, "cacheManager");
     }
-} 
\ No newline at end of file
+}
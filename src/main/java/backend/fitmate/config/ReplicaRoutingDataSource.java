@@ -0,0 +1,118 @@
+package backend.fitmate.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ *
+ * - 쓰기 가능 트랜잭션 / 트랜잭션 밖 호출: primary (커밋 시 사용자의 쓰기 시각 기록)
+ * - @Transactional(readOnly = true): 복제본 라운드로빈. 단, 최근에 쓴 사용자는 primary (ReadYourWritesTracker)
+ * - 복제본 연결 실패 시 primary 로 대체
+ *
+ * 트랜잭션의 readOnly 플래그는 커넥션을 얻은 뒤에 설정되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.tracker = tracker;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = ReadYourWritesTracker.currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.recordWrite(user);
+                    }
+                });
+            }
+            return route(PRIMARY, "write");
+        }
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "no-replica");
+        }
+        if (tracker.isSticky(user)) {
+            return route(PRIMARY, "sticky");
+        }
+        return route(REPLICA_PREFIX + Math.floorMod(next.getAndIncrement(), replicas.size()), "read");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            log.warn("⚠️ 복제본({}) 연결 실패, primary 로 대체: {}", key, e.getMessage());
+            route(PRIMARY, "fallback");
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private String route(String key, String reason) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("fitmate.datasource.route",
+                    "target", key.startsWith(REPLICA_PREFIX) ? "replica" : PRIMARY, "reason", reason).increment();
+        }
+        return key;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
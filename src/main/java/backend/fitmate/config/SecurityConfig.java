@@ -3,9 +3,7 @@ package backend.fitmate.config;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +26,10 @@ import backend.fitmate.User.entity.User;
 import backend.fitmate.User.repository.UserRepository;
 import backend.fitmate.User.service.UserService;
 import backend.fitmate.service.CustomUserDetailsService;
+import backend.fitmate.service.GoogleCalendarClientCache;
+import backend.fitmate.service.GoogleTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -42,11 +44,16 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final RedisTemplate<String, Object> redisTemplate;
     private final OAuth2AuthorizedClientService clientService;
+    private final GoogleCalendarClientCache calendarClientCache;
+    private final GoogleTokenStore googleTokenStore;
+    private final MeterRegistry meterRegistry;
     
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(authz -> authz
+                // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨 (STATELESS라 컨텍스트가 없음)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 인증이 필요없는 공개 엔드포인트들
                 .requestMatchers(
                     "/api/auth/login", 
@@ -62,6 +69,8 @@ public class SecurityConfig {
                 ).permitAll()
                 // OAuth2 관련 경로
                 .requestMatchers("/oauth2/**", "/login/oauth2/**", "/error").permitAll()
+                // 헬스 체크 / Prometheus 수집 (nginx 로는 노출되지 않음)
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 // 나머지는 모두 인증 필요 (profile, logout, update-* 등)
                 .anyRequest().authenticated()
             )
@@ -71,7 +80,7 @@ public class SecurityConfig {
                 )
                 .successHandler(oAuth2AuthenticationSuccessHandler())
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, userRepository),
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, userRepository, meterRegistry),
                     UsernamePasswordAuthenticationFilter.class)
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -201,16 +210,9 @@ public class SecurityConfig {
                             String refreshToken = client.getRefreshToken() != null ? client.getRefreshToken().getTokenValue() : null;
                             
                             // Redis에 Google 토큰 저장
-                            String key = "google_token:" + user.getGoogleOAuthId();
-                            Map<String, String> tokenData = new HashMap<>();
-                            tokenData.put("access_token", accessToken);
-                            if (refreshToken != null) {
-                                tokenData.put("refresh_token", refreshToken);
-                            }
-                            tokenData.put("timestamp", String.valueOf(System.currentTimeMillis()));
-                            
-                            redisTemplate.opsForHash().putAll(key, tokenData);
-                            redisTemplate.expire(key, 3600, TimeUnit.SECONDS); // 1시간 TTL
+                            googleTokenStore.save(user.getGoogleOAuthId(), accessToken, refreshToken,
+                                    client.getAccessToken().getExpiresAt());
+                            calendarClientCache.invalidate(user.getGoogleOAuthId());
                             
                             System.err.println("🚀 Google 토큰 Redis 저장 완료: " + user.getGoogleOAuthId());
                         } else {
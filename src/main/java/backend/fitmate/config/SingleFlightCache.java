@@ -0,0 +1,190 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 스탬피드 방지 데코레이터 (@Cacheable(sync = true) 경로)
+ *
+ * 같은 키의 동시 미스는 진행 중인 CompletableFuture 하나를 공유하여 로더를 한 번만 실행합니다.
+ * 값은 계산 시간과 만료 시각을 담은 CachedValue로 저장하고, 조회 시 XFetch 조건
+ * (now - computeMillis * beta * ln(rand) >= expiresAt)을 만족하면 만료 전에 백그라운드에서 미리 갱신합니다.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final double beta;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(Cache delegate, Duration ttl, double beta, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper stored = delegate.get(key);
+        if (stored == null) {
+            return null;
+        }
+        return stored.get() instanceof CachedValue entry ? new SimpleValueWrapper(entry.value()) : stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " <- " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = delegate.get(key);
+        if (stored != null) {
+            if (!(stored.get() instanceof CachedValue entry)) {
+                return (T) stored.get(); // 메타데이터 없는 이전 항목
+            }
+            if (shouldRefreshEarly(entry, System.currentTimeMillis(), beta, ThreadLocalRandom.current().nextDouble())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return (T) join(running, key, valueLoader);
+        }
+        try {
+            Object value = loadAndStore(key, valueLoader, mine);
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 만료 전 갱신 여부 (XFetch). 계산이 오래 걸리는 값일수록 더 일찍 갱신됩니다.
+     */
+    static boolean shouldRefreshEarly(CachedValue entry, long now, double beta, double random) {
+        if (entry.computeMillis() <= 0) {
+            return false;
+        }
+        double gap = -entry.computeMillis() * beta * Math.log(Math.max(random, Double.MIN_VALUE));
+        return now + gap >= entry.expiresAtMillis();
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return; // 이미 다른 요청이 갱신 중
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.complete(loadAndStore(key, valueLoader, mine));
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                    log.warn("캐시 조기 갱신 실패 ({}, {}): {}", getName(), key, e.getMessage());
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader, CompletableFuture<Object> owner) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        // 로딩 중 evict된 경우 오래된 값을 다시 쓰지 않음
+        if (inFlight.get(key) == owner) {
+            delegate.put(key, new CachedValue(value, now - start, now + ttl.toMillis()));
+        }
+        return value;
+    }
+
+    private static Object join(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        delegate.put(key, new CachedValue(value, 0, now + ttl.toMillis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        ValueWrapper existing = delegate.putIfAbsent(key, new CachedValue(value, 0, now + ttl.toMillis()));
+        if (existing != null && existing.get() instanceof CachedValue entry) {
+            return new SimpleValueWrapper(entry.value());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        delegate.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * TTL이 지정된 캐시를 SingleFlightCache로 감싸는 CacheManager
+ *
+ * 조기 갱신은 가상 스레드에서 실행합니다. (TTL 미지정 캐시는 그대로 반환)
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> ttls;
+    private final double beta;
+    private final Executor refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public SingleFlightCacheManager(CacheManager delegate, Map<String, Duration> ttls, double beta) {
+        this.delegate = delegate;
+        this.ttls = ttls;
+        this.beta = beta;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        Duration ttl = ttls.get(name);
+        if (cache == null || ttl == null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, n -> new SingleFlightCache(cache, ttl, beta, refreshExecutor));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,25 @@
+package backend.fitmate.config;
+
+import java.util.List;
+
+/**
+ * 기동 시 한 번 실행할 작업
+ *
+ * 같은 이름으로 여러 번 등록되어도 한 번만 실행되며, dependsOn 의 작업이 모두 성공한 뒤에 시작합니다.
+ * required 작업이 모두 끝나야 readiness 가 UP 이 됩니다. (StartupTaskRunner)
+ */
+public record StartupTask(String name, List<String> dependsOn, boolean required, Action action) {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static StartupTask required(String name, Action action, String... dependsOn) {
+        return new StartupTask(name, List.of(dependsOn), true, action);
+    }
+
+    public static StartupTask optional(String name, Action action, String... dependsOn) {
+        return new StartupTask(name, List.of(dependsOn), false, action);
+    }
+}
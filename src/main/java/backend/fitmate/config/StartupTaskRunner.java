@@ -0,0 +1,170 @@
+package backend.fitmate.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 작업 그래프 실행기
+ *
+ * StartupTask 빈들을 이름으로 중복 제거하고, 의존 관계를 지키면서 독립 작업은 기동 전용 스레드에서 병렬로 실행합니다.
+ * 컨텍스트가 올라온 직후(ApplicationStartedEvent) 시작하므로 기동 자체를 막지 않으며,
+ * readiness 그룹에 포함된 이 헬스 인디케이터가 required 작업이 모두 끝날 때까지 OUT_OF_SERVICE 를 반환합니다.
+ */
+@Component("startupTasks")
+@Slf4j
+public class StartupTaskRunner implements HealthIndicator, ApplicationListener<ApplicationStartedEvent> {
+
+    enum State { PENDING, RUNNING, DONE, FAILED, SKIPPED }
+
+    private record TaskStatus(State state, long elapsedMs, String error) {
+    }
+
+    private final Map<String, StartupTask> tasks = new LinkedHashMap<>();
+    private final Map<String, TaskStatus> statuses = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private CompletableFuture<Void> completion;
+
+    public StartupTaskRunner(ObjectProvider<StartupTask> declared,
+            @Value("${startup.tasks.concurrency:2}") int concurrency) {
+        for (StartupTask task : declared.orderedStream().toList()) {
+            if (tasks.putIfAbsent(task.name(), task) != null) {
+                log.info("⏭️ 기동 작업 중복 등록 무시: {}", task.name());
+            }
+        }
+        validate();
+        tasks.keySet().forEach(name -> statuses.put(name, new TaskStatus(State.PENDING, 0, null)));
+        this.executor = Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("startup-", 1).factory());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        start();
+    }
+
+    /**
+     * 모든 작업을 예약합니다. 여러 번 호출해도 한 번만 실행됩니다.
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (completion != null) {
+            return completion;
+        }
+        long started = System.currentTimeMillis();
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        tasks.keySet().forEach(name -> schedule(name, futures));
+
+        completion = CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null);
+        completion.thenRun(() -> {
+            executor.shutdown();
+            log.info("✅ 기동 작업 완료 ({}ms): {}", System.currentTimeMillis() - started, health().getDetails());
+        });
+        return completion;
+    }
+
+    private CompletableFuture<Void> schedule(String name, Map<String, CompletableFuture<Void>> futures) {
+        CompletableFuture<Void> existing = futures.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        StartupTask task = tasks.get(name);
+        CompletableFuture<?>[] dependencies = task.dependsOn().stream()
+                .map(dependency -> schedule(dependency, futures))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(dependencies).handleAsync((ignored, error) -> {
+            if (error != null) {
+                statuses.put(name, new TaskStatus(State.SKIPPED, 0, "선행 작업 실패"));
+                throw new CompletionException(error);
+            }
+            execute(task);
+            return null;
+        }, executor);
+        futures.put(name, future);
+        return future;
+    }
+
+    private void execute(StartupTask task) {
+        statuses.put(task.name(), new TaskStatus(State.RUNNING, 0, null));
+        long start = System.currentTimeMillis();
+        try {
+            task.action().run();
+            statuses.put(task.name(), new TaskStatus(State.DONE, System.currentTimeMillis() - start, null));
+        } catch (Exception e) {
+            statuses.put(task.name(), new TaskStatus(State.FAILED, System.currentTimeMillis() - start, e.getMessage()));
+            log.error("❌ 기동 작업 실패: {}", task.name(), e);
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public Health health() {
+        boolean ready = true;
+        boolean failed = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (StartupTask task : tasks.values()) {
+            TaskStatus status = statuses.get(task.name());
+            details.put(task.name(), status.error() == null
+                    ? status.state() + " (" + status.elapsedMs() + "ms)"
+                    : status.state() + ": " + status.error());
+            if (task.required()) {
+                ready &= status.state() == State.DONE;
+                failed |= status.state() == State.FAILED || status.state() == State.SKIPPED;
+            }
+        }
+        Health.Builder builder = failed ? Health.down() : ready ? Health.up() : Health.outOfService();
+        return builder.withDetails(details).build();
+    }
+
+    /**
+     * 없는 작업에 대한 의존과 순환 의존을 기동 시점에 바로 거부합니다.
+     */
+    private void validate() {
+        Set<String> visited = new HashSet<>();
+        for (String name : tasks.keySet()) {
+            visit(name, visited, new ArrayList<>());
+        }
+    }
+
+    private void visit(String name, Set<String> visited, List<String> path) {
+        if (path.contains(name)) {
+            throw new IllegalStateException("기동 작업 순환 의존: " + String.join(" → ", path) + " → " + name);
+        }
+        if (!visited.add(name)) {
+            return;
+        }
+        path.add(name);
+        for (String dependency : tasks.get(name).dependsOn()) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalStateException("기동 작업 " + name + " 의 선행 작업이 없습니다: " + dependency);
+            }
+            visit(dependency, visited, path);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,112 @@
+package backend.fitmate.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 로컬(L1, Caffeine) + Redis(L2) 2단계 캐시
+ *
+ * 조회는 L1 → L2 순서로 하고, L2에서 찾은 값은 L1에 채웁니다.
+ * 쓰기/삭제는 L2에 반영한 뒤 다른 노드의 L1도 비우도록 무효화 메시지를 발행합니다.
+ * L1 키는 RedisCache와 같이 key.toString() 기준입니다. (노드 간 메시지로 키를 전달하기 위함)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                  Cache remote, TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = key.toString();
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            local.put(localKey, new SimpleValueWrapper(loaded.get()));
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " <- " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 노드의 동시 요청은 Caffeine이 키별로 한 번만 로딩
+        ValueWrapper wrapper = local.get(key.toString(),
+                k -> new SimpleValueWrapper(remote.get(key, valueLoader)));
+        return (T) wrapper.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key.toString(), new SimpleValueWrapper(value));
+        manager.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key.toString());
+        manager.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishEvict(name, null);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 처리 (L1만 비움)
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+}
@@ -0,0 +1,105 @@
+package backend.fitmate.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis CacheManager 앞에 노드 로컬 L1 캐시(Caffeine, W-TinyLFU)를 두는 CacheManager
+ *
+ * localCacheNames에 포함된 캐시만 2단계로 동작하고, 나머지는 Redis 캐시를 그대로 사용합니다.
+ * 쓰기/삭제 시 Redis Pub/Sub으로 무효화 메시지를 발행하여 다른 노드의 L1을 비웁니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache-invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Set<String> localCacheNames;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, RedisTemplate<String, Object> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer, Set<String> localCacheNames,
+                                long localMaxSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localCacheNames = localCacheNames;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !localCacheNames.contains(name)) {
+            return remote;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(n,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl) // L2 TTL보다 짧게 유지
+                        .build(),
+                remote, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드의 L1 무효화 요청 발행 (key가 null이면 캐시 전체)
+     */
+    void publishEvict(String cacheName, String key) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.warn("캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (payload == null) {
+            return;
+        }
+        String[] parts = payload.toString().split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return; // 자기 자신이 발행한 메시지
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
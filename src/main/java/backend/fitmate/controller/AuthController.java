@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -20,10 +21,14 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import backend.fitmate.User.dto.UserSnapshot;
 import backend.fitmate.User.entity.User;
+import backend.fitmate.User.service.CalorieEngine;
+import backend.fitmate.User.service.UserReadService;
 import backend.fitmate.User.service.UserService;
 import backend.fitmate.config.JwtTokenProvider;
 import backend.fitmate.config.RateLimit;
+import backend.fitmate.service.EmailVerificationService;
 import jakarta.servlet.http.HttpServletRequest;
 
 
@@ -32,11 +37,18 @@ import jakarta.servlet.http.HttpServletRequest;
 @CrossOrigin(origins = "${app.frontend.url}", allowCredentials = "true")
 public class AuthController {
 
-    // @Autowired
-    // private EmailVerificationService emailVerificationService;
+    // 이메일 인증은 문자 인증으로 대체되어 spring.mail.host 설정 시에만 사용 가능
+    @Autowired
+    private ObjectProvider<EmailVerificationService> emailVerificationService;
     
     @Autowired
     private UserService userService;
+
+    @Autowired
+    private UserReadService userReadService;
+
+    @Autowired
+    private CalorieEngine calorieEngine;
     
 
     
@@ -220,11 +232,13 @@ public class AuthController {
         }
     }
 
-    // 이메일 인증 기능을 문자 인증으로 대체하여 주석처리
-    /*
     @PostMapping("/send-verification-email")
     @RateLimit(bucketName = "emailVerificationBucket", keyType = RateLimit.KeyType.IP)
     public ResponseEntity<?> sendVerificationEmail(@RequestBody Map<String, String> request) {
+        EmailVerificationService emailVerification = emailVerificationService.getIfAvailable();
+        if (emailVerification == null) {
+            return emailVerificationDisabled();
+        }
         String email = request.get("email");
         
         if (email == null || email.trim().isEmpty()) {
@@ -243,7 +257,7 @@ public class AuthController {
             return ResponseEntity.badRequest().body(response);
         }
 
-        boolean sent = emailVerificationService.sendVerificationEmail(email);
+        boolean sent = emailVerification.sendVerificationEmail(email);
         
         Map<String, Object> response = new HashMap<>();
         if (sent) {
@@ -256,13 +270,14 @@ public class AuthController {
         
         return ResponseEntity.ok(response);
     }
-    */
 
-    // 이메일 인증 코드 검증 기능 주석처리
-    /*
     @PostMapping("/verify-email-code")
     @RateLimit(bucketName = "emailVerificationBucket", keyType = RateLimit.KeyType.IP)
     public ResponseEntity<?> verifyEmailCode(@RequestBody Map<String, String> request) {
+        EmailVerificationService emailVerification = emailVerificationService.getIfAvailable();
+        if (emailVerification == null) {
+            return emailVerificationDisabled();
+        }
         String email = request.get("email");
         String code = request.get("code");
         
@@ -273,7 +288,7 @@ public class AuthController {
             return ResponseEntity.badRequest().body(response);
         }
 
-        boolean verified = emailVerificationService.verifyCode(email, code);
+        boolean verified = emailVerification.verifyCode(email, code);
         
         if (verified) {
             // 이메일 인증 완료 처리
@@ -290,13 +305,14 @@ public class AuthController {
             return ResponseEntity.badRequest().body(response);
         }
     }
-    */
 
-    // 이메일 인증 코드 재발송 기능 주석처리
-    /*
     @PostMapping("/resend-verification-email")
     @RateLimit(bucketName = "emailVerificationBucket", keyType = RateLimit.KeyType.IP)
     public ResponseEntity<?> resendVerificationEmail(@RequestBody Map<String, String> request) {
+        EmailVerificationService emailVerification = emailVerificationService.getIfAvailable();
+        if (emailVerification == null) {
+            return emailVerificationDisabled();
+        }
         String email = request.get("email");
         
         if (email == null || email.trim().isEmpty()) {
@@ -306,7 +322,7 @@ public class AuthController {
             return ResponseEntity.badRequest().body(response);
         }
 
-        boolean sent = emailVerificationService.resendVerificationEmail(email);
+        boolean sent = emailVerification.resendVerificationEmail(email);
         
         Map<String, Object> response = new HashMap<>();
         if (sent) {
@@ -319,7 +335,13 @@ public class AuthController {
         
         return ResponseEntity.ok(response);
     }
-    */
+
+    private static ResponseEntity<?> emailVerificationDisabled() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "이메일 인증이 비활성화되어 있습니다. 문자 인증을 이용해주세요.");
+        return ResponseEntity.status(503).body(response);
+    }
 
     @GetMapping("/check-email")
     public ResponseEntity<?> checkEmail(@RequestParam String email) {
@@ -388,7 +410,7 @@ public class AuthController {
                 System.err.println("🔍 Profile API - JWT 토큰 추출 중 예외: " + e.getMessage());
             }
             
-            User user = null;
+            UserSnapshot user = null;
             String pictureFromToken = null;
             String provider = null;
             String oauthId = null;
@@ -407,26 +429,28 @@ public class AuthController {
                     if (provider != null && !"local".equals(provider) && oauthId != null) {
                         // 소셜 로그인 정보로 사용자 조회
                         System.out.println("소셜 로그인 사용자 조회 시도: " + provider + " / " + oauthId);
-                        user = userService.findByOAuth2ProviderAndOAuth2Id(provider, oauthId)
+                        user = userReadService.findIdByOAuth(provider, oauthId)
+                                .flatMap(userReadService::findById)
                                 .orElse(null);
                         
                         if (user != null) {
-                            System.out.println("소셜 로그인 사용자 찾음: " + user.getId() + " / " + user.getEmail());
+                            System.out.println("소셜 로그인 사용자 찾음: " + user.id() + " / " + user.email());
                         } else {
                             System.out.println("소셜 로그인 사용자를 찾을 수 없음");
                             // 캐시 문제일 수 있으므로 직접 DB 조회 시도
                             System.out.println("캐시 문제 가능성, 직접 DB 조회 시도");
-                            user = userService.findByOAuth2ProviderAndOAuth2Id(provider, oauthId)
+                            user = userReadService.findIdByOAuth(provider, oauthId)
+                                    .flatMap(userReadService::findById)
                                     .orElse(null);
                             if (user != null) {
-                                System.out.println("직접 DB 조회로 사용자 찾음: " + user.getId());
+                                System.out.println("직접 DB 조회로 사용자 찾음: " + user.id());
                             }
                         }
                     } else if ("local".equals(provider)) {
                         // 일반 로그인은 사용자 ID로 조회
                         String userId = authentication.getName();
                         System.out.println("일반 로그인 사용자 조회: " + userId);
-                        user = userService.findById(Long.parseLong(userId))
+                        user = userReadService.findById(Long.parseLong(userId))
                                 .orElse(null);
                     }
                 } catch (Exception e) {
@@ -451,19 +475,20 @@ public class AuthController {
                         String authOAuthId = parts[1];
                         System.out.println("OAuth2 식별자 분해: provider=" + authProvider + ", oauthId=" + authOAuthId);
                         
-                        user = userService.findByOAuth2ProviderAndOAuth2Id(authProvider, authOAuthId)
+                        user = userReadService.findIdByOAuth(authProvider, authOAuthId)
+                                .flatMap(userReadService::findById)
                                 .orElse(null);
                         if (user != null) {
-                            System.out.println("OAuth2 식별자로 사용자 찾음: " + user.getId());
+                            System.out.println("OAuth2 식별자로 사용자 찾음: " + user.id());
                         }
                     }
                 } else {
                     // 숫자인 경우 user ID로 시도
                     try {
                         Long userId = Long.parseLong(authName);
-                        user = userService.findById(userId).orElse(null);
+                        user = userReadService.findById(userId).orElse(null);
                         if (user != null) {
-                            System.out.println("User ID로 사용자 찾음: " + user.getId());
+                            System.out.println("User ID로 사용자 찾음: " + user.id());
                         }
                     } catch (NumberFormatException e) {
                         // 숫자가 아닌 경우 oauthId일 가능성이 있음
@@ -471,10 +496,11 @@ public class AuthController {
                         
                         // 현재 로그인한 provider 정보가 있다면 시도
                         if (provider != null && authName != null) {
-                            user = userService.findByOAuth2ProviderAndOAuth2Id(provider, authName)
+                            user = userReadService.findIdByOAuth(provider, authName)
+                                    .flatMap(userReadService::findById)
                                     .orElse(null);
                             if (user != null) {
-                                System.out.println("Provider + authName으로 사용자 찾음: " + user.getId());
+                                System.out.println("Provider + authName으로 사용자 찾음: " + user.id());
                             }
                         }
                     }
@@ -491,41 +517,41 @@ public class AuthController {
             }
             
             Map<String, Object> userData = new HashMap<>();
-            userData.put("id", user.getId());
-            userData.put("email", user.getEmail());
-            userData.put("name", user.getName());
+            userData.put("id", user.id());
+            userData.put("email", user.email());
+            userData.put("name", user.name());
             
             // Provider 정보 설정 - JWT 토큰에서 가져온 provider 우선 사용
-            String finalProvider = provider != null ? provider : user.getOauthProvider();
+            String finalProvider = provider != null ? provider : user.oauthProvider();
             if (finalProvider == null || finalProvider.isEmpty()) {
                 finalProvider = "local"; // 기본값으로 local 설정
             }
             userData.put("provider", finalProvider);
             
             // 추가 정보 포함
-            userData.put("height", user.getHeight());
-            userData.put("weight", user.getWeight());
-            userData.put("age", user.getAge());
-            userData.put("gender", user.getGender());
-            userData.put("phoneNumber", user.getPhoneNumber());
-            userData.put("birthDate", user.getBirthDate());
+            userData.put("height", user.height());
+            userData.put("weight", user.weight());
+            userData.put("age", user.age());
+            userData.put("gender", user.gender());
+            userData.put("phoneNumber", user.phoneNumber());
+            userData.put("birthDate", user.birthDate());
 
             // 프로필 사진 우선순위: JWT 토큰 > DB 저장된 이미지 > null
-            String profileImage = pictureFromToken != null ? pictureFromToken : user.getProfileImage();
+            String profileImage = pictureFromToken != null ? pictureFromToken : user.profileImage();
             userData.put("picture", profileImage);
             
             System.out.println("=== 최종 사용자 정보 ===");
-            System.out.println("User ID: " + user.getId());
-            System.out.println("Email: " + user.getEmail());
-            System.out.println("Name: " + user.getName());
+            System.out.println("User ID: " + user.id());
+            System.out.println("Email: " + user.email());
+            System.out.println("Name: " + user.name());
             System.out.println("Provider: " + finalProvider);
-            System.out.println("OAuth ID: " + user.getOauthId());
-            System.out.println("Height: " + user.getHeight());
-            System.out.println("Weight: " + user.getWeight());
-            System.out.println("Age: " + user.getAge());
-            System.out.println("Gender: " + user.getGender());
-            System.out.println("Phone Number: " + user.getPhoneNumber());
-            System.out.println("Birth Date: " + user.getBirthDate());
+            System.out.println("OAuth ID: " + user.oauthId());
+            System.out.println("Height: " + user.height());
+            System.out.println("Weight: " + user.weight());
+            System.out.println("Age: " + user.age());
+            System.out.println("Gender: " + user.gender());
+            System.out.println("Phone Number: " + user.phoneNumber());
+            System.out.println("Birth Date: " + user.birthDate());
             System.out.println("Picture: " + profileImage);
             
             Map<String, Object> response = new HashMap<>();
@@ -634,6 +660,9 @@ public class AuthController {
 
             // 사용자 정보 저장
             userService.save(user);
+            if (weight != null) {
+                calorieEngine.invalidateWeight(user.getId()); // 신체 기록이 없는 사용자는 프로필 체중으로 계산
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -1,10 +1,12 @@
 package backend.fitmate.controller;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -33,16 +35,19 @@ import com.google.api.services.calendar.model.Event;
 
 import backend.fitmate.User.entity.User;
 import backend.fitmate.User.service.UserService;
+import backend.fitmate.service.CalendarBatchPublisher;
 import backend.fitmate.service.CalendarService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/calendar")
 @CrossOrigin(origins = "${app.frontend.url}", allowCredentials = "true")
 @RequiredArgsConstructor
+@Slf4j
 public class CalendarController {
 
     private final UserService userService;
@@ -53,6 +58,8 @@ public class CalendarController {
 
     private final CalendarService calendarService;
 
+    private static final int MAX_BATCH_WORKOUTS = 500;
+
     /**
      * 간단한 테스트 엔드포인트
      */
@@ -330,13 +337,9 @@ public class CalendarController {
      * 다가오는 이벤트 목록을 가져옵니다.
      */
     @GetMapping("/events")
-    public ResponseEntity<?> getUpcomingEvents(@RequestParam(defaultValue = "10") int maxResults) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
-            List<Event> events = calendarService.getUpcomingEvents(maxResults);
+    public CompletableFuture<ResponseEntity<?>> getUpcomingEvents(@RequestParam(defaultValue = "10") int maxResults) {
+        return withGoogleAccount("캘린더 이벤트를 가져오는 중 오류가 발생했습니다: ", googleOAuthId -> {
+            List<Event> events = calendarService.getUpcomingEvents(googleOAuthId, maxResults);
             
             // Google Calendar Event를 프론트엔드 친화적 형태로 변환
             List<Map<String, Object>> formattedEvents = events.stream().map(event -> {
@@ -374,11 +377,7 @@ public class CalendarController {
             }).toList();
             
             return ResponseEntity.ok(formattedEvents);
-        } catch (IOException | GeneralSecurityException e) {
-            System.err.println("CalendarController 오류: " + e.getMessage());
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "캘린더 이벤트를 가져오는 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        });
     }
     
     /**
@@ -406,12 +405,8 @@ public class CalendarController {
      * 새로운 이벤트를 생성합니다.
      */
     @PostMapping("/events")
-    public ResponseEntity<?> createEvent(@RequestBody Map<String, Object> eventData) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
+    public CompletableFuture<ResponseEntity<?>> createEvent(@RequestBody Map<String, Object> eventData) {
+        return withGoogleAccount("이벤트 생성 중 오류가 발생했습니다: ", googleOAuthId -> {
             String summary = (String) eventData.get("summary");
             String description = (String) eventData.get("description");
             String location = (String) eventData.get("location");
@@ -425,85 +420,53 @@ public class CalendarController {
             DateTime startDateTime = new DateTime(startDateTimeStr);
             DateTime endDateTime = new DateTime(endDateTimeStr);
 
-            Event createdEvent = calendarService.createEvent(summary, description, location, 
+            Event createdEvent = calendarService.createEvent(googleOAuthId, summary, description, location, 
                     startDateTime, endDateTime, attendeeEmails);
             
             return ResponseEntity.ok(createdEvent);
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "이벤트 생성 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        });
     }
 
     /**
      * 특정 이벤트를 가져옵니다.
      */
     @GetMapping("/events/{eventId}")
-    public ResponseEntity<?> getEvent(@PathVariable String eventId) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
-            Event event = calendarService.getEvent(eventId);
-            return ResponseEntity.ok(event);
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "이벤트를 가져오는 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<?>> getEvent(@PathVariable String eventId) {
+        return withGoogleAccount("이벤트를 가져오는 중 오류가 발생했습니다: ",
+                googleOAuthId -> ResponseEntity.ok(calendarService.getEvent(googleOAuthId, eventId)));
     }
 
     /**
      * 이벤트를 업데이트합니다.
      */
     @PutMapping("/events/{eventId}")
-    public ResponseEntity<?> updateEvent(@PathVariable String eventId, @RequestBody Event updatedEvent) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
-            Event event = calendarService.updateEvent(eventId, updatedEvent);
-            return ResponseEntity.ok(event);
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "이벤트 업데이트 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<?>> updateEvent(@PathVariable String eventId, @RequestBody Event updatedEvent) {
+        return withGoogleAccount("이벤트 업데이트 중 오류가 발생했습니다: ",
+                googleOAuthId -> ResponseEntity.ok(calendarService.updateEvent(googleOAuthId, eventId, updatedEvent)));
     }
 
     /**
      * 이벤트를 삭제합니다.
      */
     @DeleteMapping("/events/{eventId}")
-    public ResponseEntity<?> deleteEvent(@PathVariable String eventId) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
-            calendarService.deleteEvent(eventId);
+    public CompletableFuture<ResponseEntity<?>> deleteEvent(@PathVariable String eventId) {
+        return withGoogleAccount("이벤트 삭제 중 오류가 발생했습니다: ", googleOAuthId -> {
+            calendarService.deleteEvent(googleOAuthId, eventId);
             return ResponseEntity.ok(Map.of("message", "이벤트가 성공적으로 삭제되었습니다."));
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "이벤트 삭제 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        });
     }
 
     /**
      * 특정 날짜 범위의 이벤트를 가져옵니다.
      */
     @GetMapping("/events/range")
-    public ResponseEntity<?> getEventsInRange(@RequestParam String startTime, 
-                                            @RequestParam String endTime) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
+    public CompletableFuture<ResponseEntity<?>> getEventsInRange(@RequestParam String startTime, 
+                                                               @RequestParam String endTime) {
+        return withGoogleAccount("날짜 범위 이벤트를 가져오는 중 오류가 발생했습니다: ", googleOAuthId -> {
             DateTime startDateTime = new DateTime(startTime);
             DateTime endDateTime = new DateTime(endTime);
             
-            List<Event> events = calendarService.getEventsInRange(startDateTime, endDateTime);
+            List<Event> events = calendarService.getEventsInRange(googleOAuthId, startDateTime, endDateTime);
             
             // Google Calendar Event를 프론트엔드 친화적 형태로 변환
             List<Map<String, Object>> formattedEvents = events.stream().map(event -> {
@@ -541,22 +504,15 @@ public class CalendarController {
             }).toList();
             
             return ResponseEntity.ok(formattedEvents);
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "날짜 범위 이벤트를 가져오는 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        });
     }
 
     /**
      * 운동 일정을 캘린더에 추가합니다.
      */
     @PostMapping("/workout")
-    public ResponseEntity<?> createWorkoutEvent(@RequestBody Map<String, Object> workoutData) {
-        if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
-        }
-
-        try {
+    public CompletableFuture<ResponseEntity<?>> createWorkoutEvent(@RequestBody Map<String, Object> workoutData) {
+        return withGoogleAccount("운동 일정 생성 중 오류가 발생했습니다: ", googleOAuthId -> {
             String workoutName = (String) workoutData.get("name");
             String description = (String) workoutData.get("description");
             String location = (String) workoutData.get("location");
@@ -572,39 +528,139 @@ public class CalendarController {
             DateTime startDateTime = new DateTime(startTime);
             DateTime endDateTime = new DateTime(endTime);
 
-            Event createdEvent = calendarService.createEvent(summary, description, location, 
+            Event createdEvent = calendarService.createEvent(googleOAuthId, summary, description, location, 
                     startDateTime, endDateTime, attendeeEmails);
             
             return ResponseEntity.ok(createdEvent);
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "운동 일정 생성 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        });
+    }
+
+    /**
+     * 운동 프로그램(여러 운동 일정)을 배치 요청으로 한 번에 캘린더에 등록/수정합니다.
+     * 각 항목에 eventId가 있으면 기존 일정을 수정합니다.
+     */
+    @PostMapping("/workouts/batch")
+    public CompletableFuture<ResponseEntity<?>> createWorkoutEventsBatch(@RequestBody Map<String, Object> requestBody) {
+        return withGoogleAccountAsync("운동 프로그램 일정 등록 중 오류가 발생했습니다: ", googleOAuthId -> {
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> workouts = (List<Map<String, Object>>) requestBody.get("workouts");
+            if (workouts == null || workouts.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        ResponseEntity.badRequest().body(Map.of("error", "등록할 운동 일정이 없습니다.")));
+            }
+            if (workouts.size() > MAX_BATCH_WORKOUTS) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                        .body(Map.of("error", "한 번에 등록할 수 있는 운동 일정은 최대 " + MAX_BATCH_WORKOUTS + "개입니다.")));
+            }
+
+            List<CalendarBatchPublisher.BatchItem> items = new ArrayList<>();
+            for (int i = 0; i < workouts.size(); i++) {
+                Map<String, Object> workout = workouts.get(i);
+                
+                @SuppressWarnings("unchecked")
+                List<String> attendeeEmails = (List<String>) workout.get("attendeeEmails");
+
+                // 운동 일정용 요약 생성 (단건 등록과 동일)
+                String summary = "🏋️ " + workout.get("name") + " 운동";
+                Event event = calendarService.buildEvent(summary,
+                        (String) workout.get("description"),
+                        (String) workout.get("location"),
+                        new DateTime((String) workout.get("startTime")),
+                        new DateTime((String) workout.get("endTime")),
+                        attendeeEmails);
+                items.add(new CalendarBatchPublisher.BatchItem(i, (String) workout.get("eventId"), event));
+            }
+
+            return calendarService.publishBatch(googleOAuthId, items).thenApply(result -> {
+                List<Map<String, Object>> failures = new ArrayList<>();
+                result.failed().forEach((index, error) -> failures.add(Map.of("index", index, "error", error)));
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", result.failed().isEmpty());
+                response.put("requested", workouts.size());
+                response.put("succeeded", result.succeeded().size());
+                response.put("events", new ArrayList<>(result.succeeded().values()));
+                response.put("failures", failures);
+                return ResponseEntity.ok(response);
+            });
+        });
     }
 
     /**
      * 캘린더 연결 상태를 확인합니다.
      */
     @GetMapping("/status")
-    public ResponseEntity<?> getCalendarStatus() {
+    public CompletableFuture<ResponseEntity<?>> getCalendarStatus() {
         if (!isAuthenticated()) {
-            return ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다."));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다.")));
         }
 
-        try {
-            // 간단한 테스트로 캘린더 서비스가 정상 작동하는지 확인
-            List<Event> events = calendarService.getUpcomingEvents(1);
-            return ResponseEntity.ok(Map.of(
-                "connected", true,
-                "provider", "google",
-                "message", "캘린더가 정상적으로 연결되어 있습니다."
-            ));
-        } catch (IOException | GeneralSecurityException e) {
-            return ResponseEntity.ok(Map.of(
-                "connected", false,
-                "provider", "google",
-                "message", "캘린더 연결에 실패했습니다: " + e.getMessage()
-            ));
+        return calendarService.resolveGoogleOAuthIdAsync()
+                .<ResponseEntity<?>>thenApply(googleOAuthId -> {
+                    try {
+                        // 간단한 테스트로 캘린더 서비스가 정상 작동하는지 확인
+                        calendarService.getUpcomingEvents(googleOAuthId, 1);
+                        return ResponseEntity.ok(Map.of(
+                            "connected", true,
+                            "provider", "google",
+                            "message", "캘린더가 정상적으로 연결되어 있습니다."
+                        ));
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> ResponseEntity.ok(Map.of(
+                    "connected", false,
+                    "provider", "google",
+                    "message", "캘린더 연결에 실패했습니다: " + unwrap(e).getMessage()
+                )));
+    }
+
+    @FunctionalInterface
+    private interface CalendarCall {
+        ResponseEntity<?> apply(String googleOAuthId) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCalendarCall {
+        CompletableFuture<ResponseEntity<?>> apply(String googleOAuthId) throws IOException;
+    }
+
+    /**
+     * 현재 사용자의 Google 계정 확인(연동 직후라면 완료 대기) 후 캘린더 작업을 실행합니다.
+     * 대기 중에는 요청 스레드를 반환하고, 연동이 완료되면 비동기로 응답합니다.
+     */
+    private CompletableFuture<ResponseEntity<?>> withGoogleAccount(String errorMessage, CalendarCall call) {
+        return withGoogleAccountAsync(errorMessage, googleOAuthId -> CompletableFuture.completedFuture(call.apply(googleOAuthId)));
+    }
+
+    /**
+     * withGoogleAccount 와 같지만, 작업 자체도 비동기로 완료되는 경우 (배치 등록 등)
+     */
+    private CompletableFuture<ResponseEntity<?>> withGoogleAccountAsync(String errorMessage, AsyncCalendarCall call) {
+        if (!isAuthenticated()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(401).body(Map.of("error", "OAuth2 인증이 필요합니다.")));
         }
+
+        return calendarService.resolveGoogleOAuthIdAsync()
+                .<ResponseEntity<?>>thenCompose(googleOAuthId -> {
+                    try {
+                        return call.apply(googleOAuthId);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    log.error("CalendarController 오류: {}", cause.getMessage(), cause);
+                    return ResponseEntity.internalServerError()
+                            .body(Map.of("error", errorMessage + cause.getMessage()));
+                });
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
     }
 } 
\ No newline at end of file
@@ -10,37 +10,51 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.fitmate.User.dto.TrendSeries;
+import backend.fitmate.User.dto.UserSnapshot;
 import backend.fitmate.User.entity.BodyRecord;
 import backend.fitmate.User.entity.User;
 import backend.fitmate.User.entity.WorkoutRecord;
-import backend.fitmate.User.repository.UserRepository;
 import backend.fitmate.User.service.BodyRecordService;
+import backend.fitmate.User.service.HistoryExportService;
+import backend.fitmate.User.service.UserReadService;
 import backend.fitmate.User.service.UserService;
 import backend.fitmate.User.service.WorkoutRecordService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/mypage")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
+@Slf4j
 public class MyPageController {
 
+    private static final ObjectMapper ERROR_WRITER = new ObjectMapper();
+
     private final UserService userService;
+    private final UserReadService userReadService;
     private final WorkoutRecordService workoutRecordService;
     private final BodyRecordService bodyRecordService;
-    private final UserRepository userRepository;
+    private final HistoryExportService historyExportService;
 
     /**
      * 마이페이지 대시보드 데이터 조회
@@ -51,7 +65,7 @@ public class MyPageController {
             Map<String, Object> dashboardData = new HashMap<>();
             
             // 사용자 정보
-            Optional<User> userOpt = userService.findById(userId);
+            Optional<UserSnapshot> userOpt = userReadService.findById(userId);
             if (userOpt.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
@@ -99,7 +113,8 @@ public class MyPageController {
             @PathVariable Long userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(defaultValue = "daily") String period) {
+            @RequestParam(defaultValue = "daily") String period,
+            @RequestParam(defaultValue = "rows") String format) {
         try {
             // 로깅 추가
             System.out.println("=== Trends API 호출 ===");
@@ -109,7 +124,7 @@ public class MyPageController {
             System.out.println("period: " + period);
             
             // 사용자 존재 여부 확인
-            if (!userService.findById(userId).isPresent()) {
+            if (!userReadService.findById(userId).isPresent()) {
                 System.err.println("=== 사용자 없음 ===");
                 System.err.println("userId " + userId + "를 찾을 수 없습니다.");
                 return ResponseEntity.notFound().build();
@@ -161,35 +176,43 @@ public class MyPageController {
                 return ResponseEntity.badRequest().body(Map.of("error", "시작 날짜가 종료 날짜보다 늦습니다."));
             }
             
-            Map<String, Object> trendsData = new HashMap<>();
+            List<Object[]> weightTrend;
+            List<Object[]> bodyFatTrend;
+            List<Object[]> muscleMassTrend;
             
             switch (period) {
-                case "daily":
-                    // 일별: 계산된 범위(기본 최근 5일)
-                    trendsData.put("weightTrend", bodyRecordService.getWeightTrend(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("bodyFatTrend", bodyRecordService.getBodyFatTrend(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("muscleMassTrend", bodyRecordService.getMuscleMassTrend(userId, calculatedStartDate, calculatedEndDate));
-                    break;
-                    
                 case "weekly":
                     // 주별: 계산된 범위(기본 최근 4주)
-                    trendsData.put("weightTrend", bodyRecordService.getWeightTrendWeekly(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("bodyFatTrend", bodyRecordService.getBodyFatTrendWeekly(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("muscleMassTrend", bodyRecordService.getMuscleMassTrendWeekly(userId, calculatedStartDate, calculatedEndDate));
+                    weightTrend = bodyRecordService.getWeightTrendWeekly(userId, calculatedStartDate, calculatedEndDate);
+                    bodyFatTrend = bodyRecordService.getBodyFatTrendWeekly(userId, calculatedStartDate, calculatedEndDate);
+                    muscleMassTrend = bodyRecordService.getMuscleMassTrendWeekly(userId, calculatedStartDate, calculatedEndDate);
                     break;
                     
                 case "monthly":
                     // 월별: 계산된 범위(기본 최근 3개월)
-                    trendsData.put("weightTrend", bodyRecordService.getWeightTrendMonthly(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("bodyFatTrend", bodyRecordService.getBodyFatTrendMonthly(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("muscleMassTrend", bodyRecordService.getMuscleMassTrendMonthly(userId, calculatedStartDate, calculatedEndDate));
+                    weightTrend = bodyRecordService.getWeightTrendMonthly(userId, calculatedStartDate, calculatedEndDate);
+                    bodyFatTrend = bodyRecordService.getBodyFatTrendMonthly(userId, calculatedStartDate, calculatedEndDate);
+                    muscleMassTrend = bodyRecordService.getMuscleMassTrendMonthly(userId, calculatedStartDate, calculatedEndDate);
                     break;
                     
                 default:
-                    // 기본값: 일별 (계산된 범위 적용)
-                    trendsData.put("weightTrend", bodyRecordService.getWeightTrend(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("bodyFatTrend", bodyRecordService.getBodyFatTrend(userId, calculatedStartDate, calculatedEndDate));
-                    trendsData.put("muscleMassTrend", bodyRecordService.getMuscleMassTrend(userId, calculatedStartDate, calculatedEndDate));
+                    // 일별 및 기본값: 계산된 범위(기본 최근 5일)
+                    weightTrend = bodyRecordService.getWeightTrend(userId, calculatedStartDate, calculatedEndDate);
+                    bodyFatTrend = bodyRecordService.getBodyFatTrend(userId, calculatedStartDate, calculatedEndDate);
+                    muscleMassTrend = bodyRecordService.getMuscleMassTrend(userId, calculatedStartDate, calculatedEndDate);
+            }
+            
+            Map<String, Object> trendsData = new HashMap<>();
+            if ("columnar".equals(format)) {
+                // 컬럼 형태: {dates:[epochDay...], values:[...]}
+                trendsData.put("weightTrend", TrendSeries.fromRows(weightTrend));
+                trendsData.put("bodyFatTrend", TrendSeries.fromRows(bodyFatTrend));
+                trendsData.put("muscleMassTrend", TrendSeries.fromRows(muscleMassTrend));
+            } else {
+                // 기존 행 형태: [[date, value], ...] (프론트엔드 하위 호환)
+                trendsData.put("weightTrend", weightTrend);
+                trendsData.put("bodyFatTrend", bodyFatTrend);
+                trendsData.put("muscleMassTrend", muscleMassTrend);
             }
             
             System.out.println("=== 응답 데이터 ===");
@@ -270,7 +293,7 @@ public class MyPageController {
             Map<String, Object> report = new HashMap<>();
             
             // 사용자 정보
-            Optional<User> userOpt = userService.findById(userId);
+            Optional<UserSnapshot> userOpt = userReadService.findById(userId);
             if (userOpt.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
@@ -315,10 +338,63 @@ public class MyPageController {
         }
     }
 
+    /**
+     * 전체 운동/신체 기록 내보내기 (본인 또는 관리자, format=csv|ndjson)
+     * 응답은 스트리밍으로 쓰므로 기록이 많아도 서버 메모리 사용량이 일정합니다.
+     */
+    @GetMapping("/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable Long userId,
+            @RequestParam(name = "format", defaultValue = "csv") String format) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return exportError(401, "인증이 필요합니다");
+        }
+
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority() != null && a.getAuthority().contains("ROLE_ADMIN"));
+        if (!isAdmin && !String.valueOf(userId).equals(authentication.getName())) {
+            return exportError(403, "본인 기록만 내보낼 수 있습니다");
+        }
+
+        HistoryExportService.Format exportFormat = HistoryExportService.Format.parse(format);
+        if (exportFormat == null) {
+            return exportError(400, "지원하지 않는 형식입니다 (csv, ndjson)");
+        }
+        if (userReadService.findById(userId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            long start = System.currentTimeMillis();
+            long rows = historyExportService.export(userId, exportFormat, out);
+            log.info("📤 기록 내보내기 완료: 사용자 {}, {} {}행, {}ms", userId, exportFormat, rows,
+                    System.currentTimeMillis() - start);
+        };
+        String filename = "fitmate-history-" + userId + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 스트리밍 응답 타입을 유지하면서 다른 API 와 같은 형태의 JSON 오류 본문을 보냄
+     */
+    private static ResponseEntity<StreamingResponseBody> exportError(int status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(ERROR_WRITER.writeValueAsBytes(response)));
+    }
+
     @GetMapping("/{userId}/records-room")
     public ResponseEntity<Map<String, Object>> getRecordsRoomSummary(@PathVariable Long userId) {
         try {
-            if (userService.findById(userId).isEmpty()) {
+            if (userReadService.findById(userId).isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
@@ -414,7 +490,8 @@ public class MyPageController {
     public ResponseEntity<?> searchUsers(
             @RequestParam(name = "q", required = false) String q,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "after", required = false) Long after) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             Map<String, Object> response = new HashMap<>();
@@ -433,30 +510,23 @@ public class MyPageController {
             return ResponseEntity.status(403).body(response);
         }
 
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
-
-        // 간단한 검색: 이메일 또는 이름에 q가 포함되는 사용자
-        Page<User> resultPage;
-        if (!StringUtils.hasText(q)) {
-            resultPage = userRepository.findAll(pageable);
-        } else {
-            // repository에 동적 메소드가 없으므로 메모리 필터링 (데이터가 많아지면 Specification/Query 필요)
-            Page<User> all = userRepository.findAll(pageable);
-            List<User> filtered = all.getContent().stream()
-                .filter(u -> (u.getEmail() != null && u.getEmail().toLowerCase().contains(q.toLowerCase()))
-                          || (u.getName() != null && u.getName().toLowerCase().contains(q.toLowerCase())))
-                .collect(Collectors.toList());
-            resultPage = new org.springframework.data.domain.PageImpl<>(filtered, pageable, filtered.size());
+        int pageSize = Math.min(Math.max(size, 1), 100);
+
+        // keyset 페이징: after(마지막으로 받은 id)가 있으면 offset 없이 다음 id부터 조회
+        if (after != null) {
+            List<User> users = userService.searchUsersAfter(q, after, pageSize);
+            Map<String, Object> body = new HashMap<>();
+            body.put("content", toSearchContent(users));
+            body.put("size", pageSize);
+            body.put("nextCursor", users.size() == pageSize ? users.get(users.size() - 1).getId() : null);
+            body.put("success", true);
+            return ResponseEntity.ok(body);
         }
 
-        List<Map<String, Object>> content = resultPage.getContent().stream().map(u -> {
-            Map<String, Object> m = new HashMap<>();
-            m.put("id", u.getId());
-            m.put("email", u.getEmail());
-            m.put("name", u.getName());
-            m.put("birthDate", u.getBirthDate());
-            return m;
-        }).collect(Collectors.toList());
+        // 이메일 또는 이름이 q로 시작하는 사용자 (소문자 컬럼 인덱스 사용, totalElements는 전체 기준)
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize, Sort.by("id"));
+        Page<User> resultPage = userService.searchUsers(q, pageable);
+        List<Map<String, Object>> content = toSearchContent(resultPage.getContent());
 
         Map<String, Object> body = new HashMap<>();
         body.put("content", content);
@@ -464,7 +534,19 @@ public class MyPageController {
         body.put("size", resultPage.getSize());
         body.put("totalElements", resultPage.getTotalElements());
         body.put("totalPages", resultPage.getTotalPages());
+        body.put("nextCursor", resultPage.hasNext() && !content.isEmpty() ? content.get(content.size() - 1).get("id") : null);
         body.put("success", true);
         return ResponseEntity.ok(body);
     }
-} 
\ No newline at end of file
+
+    private List<Map<String, Object>> toSearchContent(List<User> users) {
+        return users.stream().map(u -> {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", u.getId());
+            m.put("email", u.getEmail());
+            m.put("name", u.getName());
+            m.put("birthDate", u.getBirthDate());
+            return m;
+        }).collect(Collectors.toList());
+    }
+}
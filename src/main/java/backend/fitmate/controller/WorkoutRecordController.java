@@ -1,10 +1,17 @@
 package backend.fitmate.controller;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,18 +22,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.service.CalorieRecomputeService;
+import backend.fitmate.User.service.WorkoutImportService;
 import backend.fitmate.User.service.WorkoutRecordService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/workout-records")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
+@Slf4j
 public class WorkoutRecordController {
 
     private final WorkoutRecordService workoutRecordService;
+    private final CalorieRecomputeService calorieRecomputeService;
+    private final WorkoutImportService workoutImportService;
 
     /**
      * 운동 기록 저장
@@ -175,4 +189,139 @@ public class WorkoutRecordController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 과거 운동 기록 칼로리 일괄 재계산 시작 (관리자 전용, 백그라운드 실행)
+     */
+    @PostMapping("/calories/recompute")
+    public ResponseEntity<Map<String, Object>> startCalorieRecompute() {
+        ResponseEntity<Map<String, Object>> denied = requireAdmin();
+        if (denied != null) {
+            return denied;
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        if (calorieRecomputeService.start() == null) {
+            response.put("success", false);
+            response.put("message", "이미 재계산이 진행 중입니다");
+            return ResponseEntity.status(409).body(response);
+        }
+        response.put("success", true);
+        response.put("message", "칼로리 재계산을 시작했습니다");
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 칼로리 일괄 재계산 상태 (관리자 전용)
+     */
+    @GetMapping("/calories/recompute")
+    public ResponseEntity<Map<String, Object>> getCalorieRecomputeStatus() {
+        ResponseEntity<Map<String, Object>> denied = requireAdmin();
+        if (denied != null) {
+            return denied;
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("running", calorieRecomputeService.isRunning());
+        response.put("lastResult", calorieRecomputeService.getLastResult());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * CSV 운동 기록 가져오기 시작 (본인 또는 관리자, 백그라운드 실행)
+     * 진행 상황은 GET /{userId}/import/{jobId} 로 확인
+     */
+    @PostMapping("/{userId}/import")
+    public ResponseEntity<Map<String, Object>> importWorkoutRecords(
+            @PathVariable Long userId,
+            @RequestParam("file") MultipartFile file) {
+        ResponseEntity<Map<String, Object>> denied = requireSelfOrAdmin(userId);
+        if (denied != null) {
+            return denied;
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        if (file.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "빈 파일입니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("workout-import-", ".csv");
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            log.error("❌ 가져오기 파일 저장 실패", e);
+            response.put("success", false);
+            response.put("message", "파일을 저장하지 못했습니다");
+            return ResponseEntity.internalServerError().body(response);
+        }
+
+        String jobId = workoutImportService.start(userId, tempFile);
+        if (jobId == null) {
+            response.put("success", false);
+            response.put("message", "가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요");
+            return ResponseEntity.status(429).body(response);
+        }
+        response.put("success", true);
+        response.put("jobId", jobId);
+        response.put("message", "가져오기를 시작했습니다");
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * CSV 가져오기 진행 상황 (status: QUEUED, RUNNING, DONE, FAILED)
+     */
+    @GetMapping("/{userId}/import/{jobId}")
+    public ResponseEntity<Map<String, Object>> getImportProgress(
+            @PathVariable Long userId,
+            @PathVariable String jobId) {
+        ResponseEntity<Map<String, Object>> denied = requireSelfOrAdmin(userId);
+        if (denied != null) {
+            return denied;
+        }
+
+        Map<Object, Object> progress = workoutImportService.getProgress(jobId);
+        Map<String, Object> response = new HashMap<>();
+        if (progress.isEmpty() || !String.valueOf(userId).equals(progress.get("userId"))) {
+            response.put("success", false);
+            response.put("message", "가져오기 작업을 찾을 수 없습니다");
+            return ResponseEntity.status(404).body(response);
+        }
+        progress.forEach((key, value) -> response.put(key.toString(), value));
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> requireAdmin() {
+        return requireSelfOrAdmin(null);
+    }
+
+    /**
+     * userId 가 null 이면 관리자만, 아니면 본인 또는 관리자만 허용. 허용 시 null
+     */
+    private ResponseEntity<Map<String, Object>> requireSelfOrAdmin(Long userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "인증이 필요합니다");
+            return ResponseEntity.status(401).body(response);
+        }
+
+        if (userId != null && userId.toString().equals(authentication.getName())) {
+            return null;
+        }
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority() != null && a.getAuthority().contains("ROLE_ADMIN"));
+        if (!isAdmin) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", userId == null ? "관리자만 접근 가능합니다" : "본인의 기록만 가져올 수 있습니다");
+            return ResponseEntity.status(403).body(response);
+        }
+        return null;
+    }
+}
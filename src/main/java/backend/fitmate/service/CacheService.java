@@ -9,6 +9,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import backend.fitmate.User.dto.UserSnapshot;
 import backend.fitmate.User.entity.User;
 
 @Service
@@ -22,10 +23,10 @@ public class CacheService {
     private static final String OAUTH2_CACHE_PREFIX = "oauth2:";
     private static final String SESSION_CACHE_PREFIX = "session:";
 
-    // 사용자 정보 캐싱
+    // 사용자 정보 캐싱 ("user" 캐시는 UserSnapshot만 저장)
     @Cacheable(value = "user", key = "#userId")
-    public User getUserById(Long userId) {
-        // 실제로는 UserService에서 조회
+    public UserSnapshot getUserById(Long userId) {
+        // 실제로는 UserReadService에서 조회
         return null;
     }
 
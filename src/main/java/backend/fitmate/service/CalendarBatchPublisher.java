@@ -0,0 +1,294 @@
+package backend.fitmate.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google Calendar 일괄 이벤트 등록/수정
+ *
+ * 이벤트를 최대 50개 단위의 배치 요청으로 묶어 전송합니다. 요청마다 최대 concurrency 개의 가상 스레드가
+ * 배치를 나눠 순서대로 보내므로, 한 사용자의 느린 응답이나 백오프가 다른 사용자의 일괄 등록을 막지 않고
+ * 호출한 스레드도 결과를 기다리며 점유되지 않습니다.
+ * 429/5xx 및 rate limit 오류가 난 하위 요청만 모아 지수 백오프 후 다시 배치로 보냅니다.
+ * 신규 이벤트는 클라이언트에서 ID를 부여하므로, 재시도 시 409(이미 존재)는 이전 시도에서 생성된 것으로 보고
+ * 서버의 이벤트를 조회해 결과로 사용합니다.
+ */
+@Component
+@Slf4j
+public class CalendarBatchPublisher {
+
+    private static final int MAX_BATCH_SIZE = 50; // Calendar API 배치 요청당 최대 하위 요청 수
+    private static final long MAX_BACKOFF_MS = 16_000;
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+
+    public CalendarBatchPublisher(
+            @Value("${calendar.batch.concurrency:2}") int concurrency,
+            @Value("${calendar.batch.max-attempts:4}") int maxAttempts,
+            @Value("${calendar.batch.initial-backoff-ms:500}") long initialBackoffMs) {
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    /**
+     * 배치 대상 항목. eventId가 있으면 수정, 없으면 신규 등록
+     */
+    public record BatchItem(int index, String eventId, Event event) {
+        boolean isUpdate() {
+            return eventId != null && !eventId.isBlank();
+        }
+    }
+
+    /**
+     * 처리 결과 (입력 index 기준 정렬)
+     */
+    public record BatchResult(Map<Integer, Event> succeeded, Map<Integer, String> failed) {
+    }
+
+    public CompletableFuture<BatchResult> publish(Calendar client, List<BatchItem> items) {
+        List<List<BatchItem>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_BATCH_SIZE) {
+            chunks.add(prepare(items.subList(from, Math.min(from + MAX_BATCH_SIZE, items.size()))));
+        }
+
+        int lanes = Math.min(concurrency, chunks.size());
+        List<CompletableFuture<BatchResult>> futures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            List<List<BatchItem>> laneChunks = new ArrayList<>();
+            for (int i = lane; i < chunks.size(); i += lanes) {
+                laneChunks.add(chunks.get(i));
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> publishChunks(client, laneChunks), batchExecutor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            Map<Integer, Event> succeeded = new TreeMap<>();
+            Map<Integer, String> failed = new TreeMap<>();
+            for (CompletableFuture<BatchResult> future : futures) {
+                BatchResult partial = future.join();
+                succeeded.putAll(partial.succeeded());
+                failed.putAll(partial.failed());
+            }
+            log.info("캘린더 일괄 등록 완료: 성공 {}건, 실패 {}건", succeeded.size(), failed.size());
+            return new BatchResult(succeeded, failed);
+        });
+    }
+
+    private BatchResult publishChunks(Calendar client, List<List<BatchItem>> chunks) {
+        Map<Integer, Event> succeeded = new TreeMap<>();
+        Map<Integer, String> failed = new TreeMap<>();
+        try {
+            for (List<BatchItem> chunk : chunks) {
+                BatchResult partial = publishChunk(client, chunk);
+                succeeded.putAll(partial.succeeded());
+                failed.putAll(partial.failed());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(new IOException("캘린더 일괄 등록이 중단되었습니다.", e));
+        }
+        return new BatchResult(succeeded, failed);
+    }
+
+    /**
+     * 신규 이벤트에 ID를 미리 부여 (base32hex 범위의 UUID 16진수)
+     */
+    private List<BatchItem> prepare(List<BatchItem> chunk) {
+        List<BatchItem> prepared = new ArrayList<>(chunk.size());
+        for (BatchItem item : chunk) {
+            if (!item.isUpdate() && item.event().getId() == null) {
+                item.event().setId(UUID.randomUUID().toString().replace("-", ""));
+            }
+            prepared.add(item);
+        }
+        return prepared;
+    }
+
+    private BatchResult publishChunk(Calendar client, List<BatchItem> chunk) throws InterruptedException {
+        Map<Integer, Event> succeeded = new TreeMap<>();
+        Map<Integer, String> failed = new TreeMap<>();
+
+        List<BatchItem> pending = chunk;
+        long retryAfterMs = 0;
+        for (int attempt = 0; attempt < maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(backoff(attempt, retryAfterMs));
+            }
+
+            boolean lastAttempt = attempt == maxAttempts - 1;
+            boolean retrying = attempt > 0;
+            List<BatchItem> retry = new ArrayList<>();
+            List<BatchItem> conflicts = new ArrayList<>();
+            long[] retryAfterHint = { 0 };
+
+            try {
+                BatchRequest batch = client.batch();
+                for (BatchItem item : pending) {
+                    JsonBatchCallback<Event> callback = new JsonBatchCallback<>() {
+                        @Override
+                        public void onSuccess(Event event, HttpHeaders responseHeaders) {
+                            succeeded.put(item.index(), event);
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                            if (retrying && !item.isUpdate() && error.getCode() == 409) {
+                                // 이전 시도에서 실제로는 생성된 경우
+                                conflicts.add(item);
+                            } else if (!lastAttempt && isRetryable(error)) {
+                                retry.add(item);
+                                retryAfterHint[0] = Math.max(retryAfterHint[0], retryAfterMillis(responseHeaders));
+                            } else {
+                                failed.put(item.index(), error.getCode() + " " + error.getMessage());
+                            }
+                        }
+                    };
+
+                    if (item.isUpdate()) {
+                        client.events().update("primary", item.eventId(), item.event())
+                                .setSendUpdates("all")
+                                .queue(batch, callback);
+                    } else {
+                        client.events().insert("primary", item.event())
+                                .setSendUpdates("all")
+                                .queue(batch, callback);
+                    }
+                }
+                batch.execute();
+            } catch (IOException e) {
+                // 배치 전체 전송 실패: 결과를 받지 못한 항목만 다시 시도
+                log.warn("캘린더 배치 요청 실패 (시도 {}/{}): {}", attempt + 1, maxAttempts, e.getMessage());
+                retry.clear();
+                conflicts.clear();
+                for (BatchItem item : pending) {
+                    if (!succeeded.containsKey(item.index()) && !failed.containsKey(item.index())) {
+                        if (lastAttempt) {
+                            failed.put(item.index(), "배치 요청 실패: " + e.getMessage());
+                        } else {
+                            retry.add(item);
+                        }
+                    }
+                }
+            }
+
+            if (!conflicts.isEmpty()) {
+                fetchCreated(client, conflicts, succeeded, failed, retry, lastAttempt);
+            }
+            if (!retry.isEmpty()) {
+                log.info("캘린더 배치 재시도 예정: {}건 (시도 {}/{})", retry.size(), attempt + 1, maxAttempts);
+            }
+            pending = retry;
+            retryAfterMs = retryAfterHint[0];
+        }
+
+        return new BatchResult(succeeded, failed);
+    }
+
+    /**
+     * 이미 생성된 이벤트를 서버에서 조회해 성공 결과로 기록 (조회 실패 시 다음 시도에서 다시 등록 → 409 → 조회)
+     */
+    private void fetchCreated(Calendar client, List<BatchItem> conflicts, Map<Integer, Event> succeeded,
+                              Map<Integer, String> failed, List<BatchItem> retry, boolean lastAttempt) {
+        try {
+            BatchRequest batch = client.batch();
+            for (BatchItem item : conflicts) {
+                client.events().get("primary", item.event().getId()).queue(batch, new JsonBatchCallback<>() {
+                    @Override
+                    public void onSuccess(Event event, HttpHeaders responseHeaders) {
+                        succeeded.put(item.index(), event);
+                    }
+
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        retryOrFail(item, error.getCode() + " " + error.getMessage(), failed, retry, lastAttempt);
+                    }
+                });
+            }
+            batch.execute();
+        } catch (IOException e) {
+            for (BatchItem item : conflicts) {
+                if (!succeeded.containsKey(item.index()) && !failed.containsKey(item.index())) {
+                    retryOrFail(item, "생성된 이벤트 조회 실패: " + e.getMessage(), failed, retry, lastAttempt);
+                }
+            }
+        }
+    }
+
+    private static void retryOrFail(BatchItem item, String error, Map<Integer, String> failed,
+                                    List<BatchItem> retry, boolean lastAttempt) {
+        if (lastAttempt) {
+            failed.put(item.index(), error);
+        } else if (!retry.contains(item)) {
+            retry.add(item);
+        }
+    }
+
+    private static boolean isRetryable(GoogleJsonError error) {
+        int code = error.getCode();
+        if (code == 429 || code >= 500) {
+            return true;
+        }
+        if (code == 403 && error.getErrors() != null) {
+            return error.getErrors().stream().anyMatch(info -> RATE_LIMIT_REASONS.contains(info.getReason()));
+        }
+        return false;
+    }
+
+    private static long retryAfterMillis(HttpHeaders headers) {
+        if (headers == null) {
+            return 0;
+        }
+        String retryAfter = headers.getFirstHeaderStringValue("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 지수 백오프 + jitter (Retry-After가 더 길면 그 값을 따름)
+     */
+    long backoff(int attempt, long retryAfterMs) {
+        long exponential = Math.min(MAX_BACKOFF_MS, initialBackoffMs << (attempt - 1));
+        long jittered = exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+        return Math.max(jittered, Math.min(retryAfterMs, MAX_BACKOFF_MS));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+    }
+}
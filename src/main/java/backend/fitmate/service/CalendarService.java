@@ -1,16 +1,14 @@
 package backend.fitmate.service;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
@@ -20,30 +18,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.google.api.client.auth.oauth2.BearerToken;
-import com.google.api.client.auth.oauth2.Credential;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.CalendarScopes;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventAttendee;
 import com.google.api.services.calendar.model.EventDateTime;
-import com.google.api.services.calendar.model.Events;
 
 import backend.fitmate.User.entity.User;
 import backend.fitmate.User.service.UserService;
 import backend.fitmate.config.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 public class CalendarService {
 
-    private static final String APPLICATION_NAME = "FitMate Calendar API";
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final String LINK_REQUIRED_MESSAGE = "Google 캘린더 연동이 필요합니다. 설정에서 캘린더를 연동해주세요.";
     private static final List<String> SCOPES = Arrays.asList(
         CalendarScopes.CALENDAR,
         CalendarScopes.CALENDAR_EVENTS
@@ -64,96 +56,68 @@ public class CalendarService {
     private JwtTokenProvider jwtTokenProvider;
     
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private GoogleTokenStore googleTokenStore;
+    
+    @Autowired
+    private GoogleCalendarClientCache calendarClientCache;
+    
+    @Autowired
+    private CalendarSyncService calendarSyncService;
+    
+    @Autowired
+    private GoogleLinkNotifier googleLinkNotifier;
+    
+    @Autowired
+    private CalendarBatchPublisher calendarBatchPublisher;
+    
+    // 캘린더 연동 직후 DB 반영을 기다리는 최대 시간
+    @Value("${calendar.link-wait-timeout-ms:5000}")
+    private long linkWaitTimeoutMs;
 
     public CalendarService(OAuth2AuthorizedClientService clientService) {
         this.clientService = clientService;
     }
 
-    /**
-     * 사용자 정보를 재시도 로직으로 조회 (DB 업데이트 대기 + 강제 DB 조회)
-     */
-    private User getUserWithRetry(Long userId, int maxRetries, int delayMs) {
-        for (int i = 0; i < maxRetries; i++) {
-            // 강제로 DB에서 최신 데이터 조회 (JPA 캐시 우회)
-            User user = userService.findByIdWithRefresh(userId).orElse(null);
-            
-            if (user != null && user.getGoogleOAuthId() != null) {
-                System.out.println("사용자 정보 조회 성공 (시도 " + (i + 1) + "회): Google OAuth ID = " + user.getGoogleOAuthId());
-                return user;
-            }
-            
-            if (i < maxRetries - 1) {
-                // 점진적 대기 시간 증가 (500ms → 750ms → 1000ms → 1250ms → 1500ms)
-                int currentDelay = delayMs + (i * 250);
-                System.out.println("Google OAuth ID 미설정, " + currentDelay + "ms 후 재시도... (시도 " + (i + 1) + "/" + maxRetries + ")");
-                try {
-                    Thread.sleep(currentDelay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        }
-        
-        // 최종 시도도 강제 DB 조회
-        User finalUser = userService.findByIdWithRefresh(userId).orElse(null);
-        System.out.println("사용자 정보 최종 조회 완료: userId=" + userId + ", googleOAuthId=" + 
-                          (finalUser != null ? finalUser.getGoogleOAuthId() : "사용자 없음"));
-        return finalUser;
-    }
-
     /**
      * Google OAuth2 토큰을 Redis에 저장
      */
     public void saveGoogleTokenToRedis(String googleOAuthId, String accessToken, String refreshToken) {
-        String key = "google_token:" + googleOAuthId;
-        
-        Map<String, String> tokenData = new HashMap<>();
-        tokenData.put("access_token", accessToken);
-        if (refreshToken != null) {
-            tokenData.put("refresh_token", refreshToken);
-        }
-        tokenData.put("timestamp", String.valueOf(System.currentTimeMillis()));
+        googleTokenStore.save(googleOAuthId, accessToken, refreshToken);
         
-        redisTemplate.opsForHash().putAll(key, tokenData);
-        redisTemplate.expire(key, 3600, TimeUnit.SECONDS); // 1시간 TTL
+        // 이전 토큰으로 만든 클라이언트 제거
+        calendarClientCache.invalidate(googleOAuthId);
         
-        System.out.println("Google 토큰 Redis 저장 완료: " + googleOAuthId);
+        log.info("Google 토큰 Redis 저장 완료: {}", googleOAuthId);
     }
-    
+
     /**
-     * Redis에서 Google OAuth2 토큰 조회
+     * 요청 컨텍스트 없이 (백그라운드 동기화 등) googleOAuthId로 클라이언트를 가져옵니다.
+     * 매번 저장된 토큰을 먼저 확인하고 그 토큰으로 만든 클라이언트만 재사용합니다.
+     * Redis에 토큰이 없거나 만료되었으면 null
      */
-    public Map<String, String> getGoogleTokenFromRedis(String googleOAuthId) {
-        String key = "google_token:" + googleOAuthId;
-        
-        Map<Object, Object> tokenData = redisTemplate.opsForHash().entries(key);
-        if (tokenData.isEmpty()) {
-            return null;
-        }
-        
-        Map<String, String> result = new HashMap<>();
-        tokenData.forEach((k, v) -> result.put(k.toString(), v.toString()));
-        
-        System.out.println("Google 토큰 Redis 조회 완료: " + googleOAuthId);
-        return result;
+    public Calendar getCalendarServiceFor(String googleOAuthId) {
+        return googleTokenStore.find(googleOAuthId)
+                .map(token -> calendarClientCache.getOrCreate(googleOAuthId, token.accessToken(), token.refreshToken(),
+                        token.expiresAt()))
+                .orElse(null);
     }
 
-    /**
-     * Google Calendar API 클라이언트를 생성합니다.
-     */
-    public Calendar getCalendarService() throws IOException, GeneralSecurityException {
-        final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-        return new Calendar.Builder(HTTP_TRANSPORT, JSON_FACTORY, getCredentials(HTTP_TRANSPORT))
-                .setApplicationName(APPLICATION_NAME)
-                .build();
+    private Calendar requireCalendarService(String googleOAuthId) throws IOException {
+        Calendar calendar = getCalendarServiceFor(googleOAuthId);
+        if (calendar == null) {
+            log.info("Redis에서 Google 토큰을 찾을 수 없음: {}", googleOAuthId);
+            throw new IOException(LINK_REQUIRED_MESSAGE);
+        }
+        return calendar;
     }
 
     /**
-     * JWT 기반으로 Google API 인증 정보를 생성합니다.
+     * 현재 요청 사용자의 googleOAuthId를 비동기로 확인합니다. (요청 스레드에서 호출)
+     *
+     * 캘린더 연동 직후에는 DB 반영 전에 요청이 도착할 수 있으므로, 아직 연동 정보가 없으면
+     * 연동 완료 신호(GoogleLinkNotifier)를 기다리는 future를 반환합니다. 대기 중에는 스레드를 점유하지 않습니다.
      */
-    private Credential getCredentials(final NetHttpTransport HTTP_TRANSPORT) throws IOException {
+    public CompletableFuture<String> resolveGoogleOAuthIdAsync() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         // OAuth2AuthenticationToken 처리 (캘린더 연동 직후)
@@ -165,54 +129,34 @@ public class CalendarService {
             );
             if (client != null) {
                 String accessToken = client.getAccessToken().getTokenValue();
-                Credential credential = new Credential(BearerToken.authorizationHeaderAccessMethod())
-                    .setAccessToken(accessToken);
-                if (client.getRefreshToken() != null) {
-                    credential.setRefreshToken(client.getRefreshToken().getTokenValue());
-                }
-                return credential;
+                String refreshToken = client.getRefreshToken() != null ? client.getRefreshToken().getTokenValue() : null;
+                Instant expiresAt = client.getAccessToken().getExpiresAt();
+                calendarClientCache.getOrCreate(oauth2Token.getName(), accessToken, refreshToken,
+                        expiresAt != null ? expiresAt.toEpochMilli() : Long.MAX_VALUE);
+                return CompletableFuture.completedFuture(oauth2Token.getName());
             }
         }
         
-        // JWT 토큰에서 사용자 정보 추출하여 Redis에서 Google 토큰 조회
+        // JWT 토큰에서 사용자 ID 추출 후 연동 정보 확인 (미연동이면 연동 완료 대기)
         try {
             String jwt = extractJwtFromRequest();
             
             if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                
-                // 최신 사용자 정보 조회 (재시도 로직 포함 - 강화)
-                User user = getUserWithRetry(Long.parseLong(userId), 5, 500);
+                Long userId = Long.parseLong(jwtTokenProvider.getUserIdFromToken(jwt));
                 
-                if (user != null && user.getGoogleOAuthId() != null) {
-                    System.out.println("회원정보에서 구글 OAuth ID 확인: " + user.getGoogleOAuthId());
-                    
-                    // Redis에서 Google 토큰 조회
-                    Map<String, String> tokenData = getGoogleTokenFromRedis(user.getGoogleOAuthId());
-                    
-                    if (tokenData != null && tokenData.get("access_token") != null) {
-                        System.out.println("Redis에서 Google 토큰 조회 성공");
-                        
-                        Credential credential = new Credential(BearerToken.authorizationHeaderAccessMethod())
-                            .setAccessToken(tokenData.get("access_token"));
-                        
-                        if (tokenData.get("refresh_token") != null) {
-                            credential.setRefreshToken(tokenData.get("refresh_token"));
-                        }
-                        
-                        return credential;
-                    } else {
-                        System.out.println("Redis에서 Google 토큰을 찾을 수 없음: " + user.getGoogleOAuthId());
-                    }
-                } else {
-                    System.out.println("사용자의 구글 OAuth ID가 설정되지 않음 (재시도 완료 후에도)");
-                }
+                return googleLinkNotifier.await(userId,
+                        () -> userService.findByIdWithRefresh(userId).map(User::getGoogleOAuthId).orElse(null),
+                        linkWaitTimeoutMs)
+                    .exceptionallyCompose(e -> {
+                        log.info("사용자의 구글 OAuth ID가 설정되지 않음 (대기 시간 초과): userId={}", userId);
+                        return CompletableFuture.failedFuture(new IOException(LINK_REQUIRED_MESSAGE));
+                    });
             }
         } catch (Exception e) {
-            System.err.println("JWT 토큰 처리 중 오류: " + e.getMessage());
+            log.warn("JWT 토큰 처리 중 오류: {}", e.getMessage());
         }
         
-        throw new IOException("Google 캘린더 연동이 필요합니다. 설정에서 캘린더를 연동해주세요.");
+        return CompletableFuture.failedFuture(new IOException(LINK_REQUIRED_MESSAGE));
     }
     
     /**
@@ -228,63 +172,47 @@ public class CalendarService {
     }
 
     /**
-     * 사용자의 캘린더에서 이벤트 목록을 가져옵니다.
+     * 로컬 미러가 아직 없으면 즉시 동기화하고, 조회 시각을 기록합니다.
+     * 이후 변경분은 백그라운드 동기화(CalendarSyncJob)가 반영합니다.
      */
-    public List<Event> getUpcomingEvents(int maxResults) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
-        
-        DateTime now = new DateTime(System.currentTimeMillis());
-        System.out.println("=== Google Calendar API 호출 ===");
-        System.out.println("현재 시간: " + now);
-        System.out.println("최대 결과 수: " + maxResults);
-        
-        Events events = service.events().list("primary")
-                .setMaxResults(maxResults)
-                .setTimeMin(now)
-                .setOrderBy("startTime")
-                .setSingleEvents(true)
-                .execute();
-
-        List<Event> eventList = events.getItems();
-        System.out.println("가져온 이벤트 수: " + eventList.size());
-        
-        // 첫 번째 이벤트의 상세 정보 출력
-        if (!eventList.isEmpty()) {
-            Event firstEvent = eventList.get(0);
-            System.out.println("=== 첫 번째 이벤트 상세 정보 ===");
-            System.out.println("ID: " + firstEvent.getId());
-            System.out.println("Summary: " + firstEvent.getSummary());
-            System.out.println("Description: " + firstEvent.getDescription());
-            System.out.println("Location: " + firstEvent.getLocation());
-            System.out.println("Start: " + firstEvent.getStart());
-            System.out.println("End: " + firstEvent.getEnd());
-            System.out.println("HTML Link: " + firstEvent.getHtmlLink());
-            
-            // 시작 시간과 종료 시간의 상세 정보
-            if (firstEvent.getStart() != null) {
-                System.out.println("Start DateTime: " + firstEvent.getStart().getDateTime());
-                System.out.println("Start Date: " + firstEvent.getStart().getDate());
-                System.out.println("Start TimeZone: " + firstEvent.getStart().getTimeZone());
-            }
-            
-            if (firstEvent.getEnd() != null) {
-                System.out.println("End DateTime: " + firstEvent.getEnd().getDateTime());
-                System.out.println("End Date: " + firstEvent.getEnd().getDate());
-                System.out.println("End TimeZone: " + firstEvent.getEnd().getTimeZone());
-            }
+    private void ensureMirror(String googleOAuthId) throws IOException {
+        if (!calendarSyncService.markAccessed(googleOAuthId)) {
+            calendarSyncService.sync(googleOAuthId, requireCalendarService(googleOAuthId));
         }
+    }
+
+    /**
+     * 사용자의 캘린더에서 이벤트 목록을 가져옵니다. (로컬 미러 조회)
+     */
+    public List<Event> getUpcomingEvents(String googleOAuthId, int maxResults) throws IOException {
+        ensureMirror(googleOAuthId);
 
+        List<Event> eventList = calendarSyncService.findUpcoming(googleOAuthId, maxResults);
+        log.debug("미러에서 조회한 이벤트 수: {}", eventList.size());
         return eventList;
     }
 
     /**
      * 새로운 이벤트를 생성합니다.
      */
-    public Event createEvent(String summary, String description, String location, 
+    public Event createEvent(String googleOAuthId, String summary, String description, String location, 
                            DateTime startDateTime, DateTime endDateTime, 
-                           List<String> attendeeEmails) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
+                           List<String> attendeeEmails) throws IOException {
+        Calendar service = requireCalendarService(googleOAuthId);
+        Event event = buildEvent(summary, description, location, startDateTime, endDateTime, attendeeEmails);
 
+        Event created = service.events().insert("primary", event)
+                .setSendUpdates("all")
+                .execute();
+        calendarSyncService.applyEvent(googleOAuthId, created);
+        return created;
+    }
+
+    /**
+     * 이벤트 객체를 구성합니다. (Asia/Seoul 기준)
+     */
+    public Event buildEvent(String summary, String description, String location,
+                            DateTime startDateTime, DateTime endDateTime, List<String> attendeeEmails) {
         Event event = new Event()
                 .setSummary(summary)
                 .setDescription(description)
@@ -308,50 +236,62 @@ public class CalendarService {
             event.setAttendees(attendees);
         }
 
-        return service.events().insert("primary", event)
-                .setSendUpdates("all")
-                .execute();
+        return event;
+    }
+
+    /**
+     * 여러 이벤트를 배치 요청으로 등록/수정하고 결과를 로컬 미러에 반영합니다. (호출 스레드를 점유하지 않음)
+     */
+    public CompletableFuture<CalendarBatchPublisher.BatchResult> publishBatch(String googleOAuthId,
+            List<CalendarBatchPublisher.BatchItem> items) throws IOException {
+        return calendarBatchPublisher.publish(requireCalendarService(googleOAuthId), items).thenApply(result -> {
+            for (Event event : result.succeeded().values()) {
+                calendarSyncService.applyEvent(googleOAuthId, event);
+            }
+            return result;
+        });
     }
 
     /**
      * 특정 이벤트를 가져옵니다.
      */
-    public Event getEvent(String eventId) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
-        return service.events().get("primary", eventId).execute();
+    public Event getEvent(String googleOAuthId, String eventId) throws IOException {
+        Optional<Event> mirrored = calendarSyncService.findEvent(googleOAuthId, eventId);
+        if (mirrored.isPresent()) {
+            return mirrored.get();
+        }
+        return requireCalendarService(googleOAuthId).events().get("primary", eventId).execute();
     }
 
     /**
      * 이벤트를 업데이트합니다.
      */
-    public Event updateEvent(String eventId, Event updatedEvent) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
-        return service.events().update("primary", eventId, updatedEvent)
+    public Event updateEvent(String googleOAuthId, String eventId, Event updatedEvent) throws IOException {
+        Event updated = requireCalendarService(googleOAuthId).events().update("primary", eventId, updatedEvent)
                 .setSendUpdates("all")
                 .execute();
+        calendarSyncService.applyEvent(googleOAuthId, updated);
+        return updated;
     }
 
     /**
      * 이벤트를 삭제합니다.
      */
-    public void deleteEvent(String eventId) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
-        service.events().delete("primary", eventId).execute();
+    public void deleteEvent(String googleOAuthId, String eventId) throws IOException {
+        requireCalendarService(googleOAuthId).events().delete("primary", eventId).execute();
+        calendarSyncService.removeEvent(googleOAuthId, eventId);
     }
 
     /**
      * 특정 날짜 범위의 이벤트를 가져옵니다.
+     * 미러 보관 구간(최근 N일) 안이면 로컬 미러에서, 그 이전에서 시작하면 Google에서 직접 조회합니다.
      */
-    public List<Event> getEventsInRange(DateTime startTime, DateTime endTime) throws IOException, GeneralSecurityException {
-        Calendar service = getCalendarService();
-        
-        Events events = service.events().list("primary")
-                .setTimeMin(startTime)
-                .setTimeMax(endTime)
-                .setOrderBy("startTime")
-                .setSingleEvents(true)
-                .execute();
-
-        return events.getItems();
+    public List<Event> getEventsInRange(String googleOAuthId, DateTime startTime, DateTime endTime) throws IOException {
+        ensureMirror(googleOAuthId);
+        if (calendarSyncService.covers(googleOAuthId, startTime)) {
+            return calendarSyncService.findInRange(googleOAuthId, startTime, endTime);
+        }
+        log.debug("미러 보관 구간 이전 범위, Google에서 직접 조회: {} ({} ~ {})", googleOAuthId, startTime, endTime);
+        return calendarSyncService.fetchRange(requireCalendarService(googleOAuthId), startTime, endTime);
     }
-} 
\ No newline at end of file
+}
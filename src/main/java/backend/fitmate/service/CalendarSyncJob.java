@@ -0,0 +1,54 @@
+package backend.fitmate.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import com.google.api.services.calendar.Calendar;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 캘린더를 조회한 사용자들의 로컬 미러를 주기적으로 증분 동기화하는 Quartz 잡
+ */
+@DisallowConcurrentExecution
+@Slf4j
+public class CalendarSyncJob extends QuartzJobBean {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private CalendarSyncService calendarSyncService;
+
+    @Value("${calendar.sync.active-window-hours:24}")
+    private int activeWindowHours;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        List<String> googleOAuthIds = calendarSyncService.findActiveUsers(LocalDateTime.now().minusHours(activeWindowHours));
+        int synced = 0;
+
+        for (String googleOAuthId : googleOAuthIds) {
+            Calendar client = calendarService.getCalendarServiceFor(googleOAuthId);
+            if (client == null) {
+                continue; // Redis 토큰 만료 → 다음 로그인/연동 시 갱신
+            }
+            try {
+                calendarSyncService.sync(googleOAuthId, client);
+                synced++;
+            } catch (Exception e) {
+                log.warn("캘린더 백그라운드 동기화 실패: {} - {}", googleOAuthId, e.getMessage());
+            }
+        }
+
+        if (!googleOAuthIds.isEmpty()) {
+            log.info("캘린더 백그라운드 동기화: 대상 {}명, 완료 {}명", googleOAuthIds.size(), synced);
+        }
+    }
+}
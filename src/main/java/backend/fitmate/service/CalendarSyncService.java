@@ -0,0 +1,286 @@
+package backend.fitmate.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.services.calendar.model.Events;
+
+import backend.fitmate.User.entity.CalendarEventMirror;
+import backend.fitmate.User.entity.CalendarSyncState;
+import backend.fitmate.User.repository.CalendarEventMirrorRepository;
+import backend.fitmate.User.repository.CalendarSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google Calendar 증분 동기화 및 로컬 이벤트 미러 조회
+ *
+ * 최초 동기화는 최근 N일 이후 이벤트 전체를 가져오고, 이후에는 nextSyncToken으로 변경분만 가져옵니다.
+ * 미러는 전체 동기화 시작 시각(windowStartMillis) 이후만 보관하므로, 그 이전 범위는 Google에서 직접 조회합니다.
+ * syncToken이 만료되면(410 Gone) 미러를 비우고 전체 동기화를 다시 수행합니다.
+ * 모든 페이지를 받은 뒤 미러 삭제/반영과 syncToken 저장을 한 트랜잭션으로 처리하므로,
+ * 조회하는 쪽에서 비었거나 일부만 채워진 미러를 보지 않고 중간 실패 시에는 이전 미러가 그대로 남습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarSyncService {
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final String CALENDAR_ID = "primary";
+    private static final int PAGE_SIZE = 250;
+    private static final long ACCESS_TOUCH_INTERVAL_MINUTES = 10;
+
+    private final CalendarEventMirrorRepository mirrorRepository;
+    private final CalendarSyncStateRepository syncStateRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 같은 사용자에 대한 스케줄러/요청 동기화가 겹치지 않도록 사용자별 잠금 (사용 중이 아닌 잠금은 GC 로 정리)
+    private final LoadingCache<String, Object> syncLocks = Caffeine.newBuilder()
+            .weakValues()
+            .build(googleOAuthId -> new Object());
+
+    private record Fetched(List<Event> events, String nextSyncToken, boolean fullSync, long windowStart) {
+    }
+
+    @Value("${calendar.sync.initial-window-days:30}")
+    private int initialWindowDays = 30;
+
+    /**
+     * 사용자의 캘린더를 동기화합니다. (syncToken이 있으면 증분, 없으면 전체)
+     */
+    public void sync(String googleOAuthId, Calendar client) throws IOException {
+        synchronized (syncLocks.get(googleOAuthId)) {
+            CalendarSyncState state = syncStateRepository.findById(googleOAuthId)
+                    .orElseGet(() -> {
+                        CalendarSyncState created = new CalendarSyncState(googleOAuthId);
+                        created.setLastAccessedAt(LocalDateTime.now());
+                        return created;
+                    });
+            // 보관 구간이 기록되기 전에 만든 미러는 한 번 전체 동기화해서 구간을 확정
+            if (state.getWindowStartMillis() == null) {
+                state.setSyncToken(null);
+            }
+
+            Fetched fetched = fetchWithFallback(state, client);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> apply(state, fetched));
+            log.info("캘린더 동기화 완료: {}, 변경 이벤트 수={}", googleOAuthId, fetched.events().size());
+        }
+    }
+
+    private Fetched fetchWithFallback(CalendarSyncState state, Calendar client) throws IOException {
+        try {
+            return fetch(state, client);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != 410) {
+                throw e;
+            }
+            log.info("캘린더 syncToken 만료, 전체 동기화 재시도: {}", state.getGoogleOAuthId());
+            state.setSyncToken(null);
+            return fetch(state, client);
+        }
+    }
+
+    /**
+     * 모든 페이지를 받아옵니다. (DB 는 건드리지 않음)
+     */
+    private Fetched fetch(CalendarSyncState state, Calendar client) throws IOException {
+        boolean fullSync = state.getSyncToken() == null;
+        long windowStart = System.currentTimeMillis() - initialWindowDays * 24L * 60 * 60 * 1000;
+
+        List<Event> received = new ArrayList<>();
+        String pageToken = null;
+        String nextSyncToken = null;
+        do {
+            Calendar.Events.List request = client.events().list(CALENDAR_ID)
+                    .setSingleEvents(true)
+                    .setMaxResults(PAGE_SIZE)
+                    .setPageToken(pageToken);
+            if (fullSync) {
+                request.setTimeMin(new DateTime(windowStart));
+            } else {
+                request.setSyncToken(state.getSyncToken());
+            }
+
+            Events events = request.execute();
+            if (events.getItems() != null) {
+                received.addAll(events.getItems());
+            }
+            pageToken = events.getNextPageToken();
+            nextSyncToken = events.getNextSyncToken();
+        } while (pageToken != null);
+
+        return new Fetched(received, nextSyncToken, fullSync, windowStart);
+    }
+
+    /**
+     * 받아온 변경분과 새 syncToken 을 반영 (트랜잭션 안에서 호출)
+     */
+    private void apply(CalendarSyncState state, Fetched fetched) {
+        String googleOAuthId = state.getGoogleOAuthId();
+        if (fetched.fullSync()) {
+            mirrorRepository.deleteByGoogleOAuthId(googleOAuthId);
+            state.setWindowStartMillis(fetched.windowStart());
+        }
+        for (Event event : fetched.events()) {
+            applyEvent(googleOAuthId, event);
+        }
+        state.setSyncToken(fetched.nextSyncToken());
+        state.setLastSyncedAt(LocalDateTime.now());
+        syncStateRepository.save(state);
+    }
+
+    /**
+     * 이벤트 변경분을 미러에 반영합니다. (취소된 이벤트는 삭제)
+     */
+    public void applyEvent(String googleOAuthId, Event event) {
+        if (event == null || event.getId() == null) {
+            return;
+        }
+        if ("cancelled".equals(event.getStatus())) {
+            mirrorRepository.deleteByGoogleOAuthIdAndEventId(googleOAuthId, event.getId());
+            return;
+        }
+
+        CalendarEventMirror mirror = mirrorRepository.findByGoogleOAuthIdAndEventId(googleOAuthId, event.getId())
+                .orElseGet(CalendarEventMirror::new);
+        mirror.setGoogleOAuthId(googleOAuthId);
+        mirror.setEventId(event.getId());
+        mirror.setStartMillis(toMillis(event.getStart()));
+        mirror.setEndMillis(toMillis(event.getEnd()));
+        try {
+            mirror.setEventJson(JSON_FACTORY.toString(event));
+        } catch (IOException e) {
+            throw new IllegalStateException("캘린더 이벤트 직렬화 실패: " + event.getId(), e);
+        }
+        mirror.setUpdatedAt(LocalDateTime.now());
+        mirrorRepository.save(mirror);
+    }
+
+    public void removeEvent(String googleOAuthId, String eventId) {
+        mirrorRepository.deleteByGoogleOAuthIdAndEventId(googleOAuthId, eventId);
+    }
+
+    /**
+     * 조회 시각을 기록하고, 미러가 한 번이라도 동기화되었는지 반환합니다.
+     */
+    public boolean markAccessed(String googleOAuthId) {
+        CalendarSyncState state = syncStateRepository.findById(googleOAuthId).orElse(null);
+        if (state == null) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (state.getLastAccessedAt() == null
+                || state.getLastAccessedAt().isBefore(now.minusMinutes(ACCESS_TOUCH_INTERVAL_MINUTES))) {
+            state.setLastAccessedAt(now);
+            syncStateRepository.save(state);
+        }
+        return state.getLastSyncedAt() != null;
+    }
+
+    /**
+     * 백그라운드 동기화 대상 (최근 조회 사용자)
+     */
+    public List<String> findActiveUsers(LocalDateTime since) {
+        return syncStateRepository.findByLastAccessedAtAfter(since).stream()
+                .map(CalendarSyncState::getGoogleOAuthId)
+                .toList();
+    }
+
+    public List<Event> findUpcoming(String googleOAuthId, int maxResults) {
+        return toEvents(mirrorRepository.findUpcoming(googleOAuthId, System.currentTimeMillis(),
+                PageRequest.of(0, Math.max(1, maxResults))));
+    }
+
+    public List<Event> findInRange(String googleOAuthId, DateTime startTime, DateTime endTime) {
+        return toEvents(mirrorRepository.findInRange(googleOAuthId, startTime.getValue(), endTime.getValue()));
+    }
+
+    /**
+     * 미러가 startTime 이후의 이벤트를 빠짐없이 보관하고 있는지 (전체 동기화 구간 안인지)
+     */
+    public boolean covers(String googleOAuthId, DateTime startTime) {
+        return syncStateRepository.findById(googleOAuthId)
+                .map(CalendarSyncState::getWindowStartMillis)
+                .map(windowStart -> startTime.getValue() >= windowStart)
+                .orElse(false);
+    }
+
+    /**
+     * 미러 보관 구간 밖의 범위를 Google에서 직접 조회합니다. (미러에는 반영하지 않음)
+     */
+    public List<Event> fetchRange(Calendar client, DateTime startTime, DateTime endTime) throws IOException {
+        List<Event> received = new ArrayList<>();
+        String pageToken = null;
+        do {
+            Events events = client.events().list(CALENDAR_ID)
+                    .setTimeMin(startTime)
+                    .setTimeMax(endTime)
+                    .setSingleEvents(true)
+                    .setOrderBy("startTime")
+                    .setMaxResults(PAGE_SIZE)
+                    .setPageToken(pageToken)
+                    .execute();
+            if (events.getItems() != null) {
+                received.addAll(events.getItems());
+            }
+            pageToken = events.getNextPageToken();
+        } while (pageToken != null);
+        return received;
+    }
+
+    public Optional<Event> findEvent(String googleOAuthId, String eventId) {
+        return mirrorRepository.findByGoogleOAuthIdAndEventId(googleOAuthId, eventId).map(this::toEvent);
+    }
+
+    private List<Event> toEvents(List<CalendarEventMirror> mirrors) {
+        List<Event> events = new ArrayList<>(mirrors.size());
+        for (CalendarEventMirror mirror : mirrors) {
+            events.add(toEvent(mirror));
+        }
+        return events;
+    }
+
+    private Event toEvent(CalendarEventMirror mirror) {
+        try {
+            return JSON_FACTORY.fromString(mirror.getEventJson(), Event.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("캘린더 이벤트 역직렬화 실패: " + mirror.getEventId(), e);
+        }
+    }
+
+    /**
+     * 시간 지정 이벤트는 dateTime, 종일 이벤트는 date(UTC 자정) 기준
+     */
+    private static Long toMillis(EventDateTime eventDateTime) {
+        if (eventDateTime == null) {
+            return null;
+        }
+        if (eventDateTime.getDateTime() != null) {
+            return eventDateTime.getDateTime().getValue();
+        }
+        if (eventDateTime.getDate() != null) {
+            return eventDateTime.getDate().getValue();
+        }
+        return null;
+    }
+}
@@ -1,35 +1,48 @@
 package backend.fitmate.service;
 
-// 이메일 인증 기능을 문자 인증으로 대체하여 주석처리
-/*
 import java.security.SecureRandom;
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import backend.fitmate.service.VerificationCodeStore.IssueResult;
+import backend.fitmate.service.VerificationCodeStore.VerifyResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 인증 코드 발송/검증
+ *
+ * 이메일 인증은 문자 인증으로 대체되어 기본 비활성화 상태입니다. (spring.mail.host 설정 시에만 등록)
+ * 코드 저장/검증/재발송 제한은 VerificationCodeStore가 담당합니다.
+ */
 @Service
+@ConditionalOnProperty(name = "spring.mail.host")
+@Slf4j
 public class EmailVerificationService {
 
+    private static final String CHANNEL = "email";
+    private static final int VERIFICATION_CODE_LENGTH = 6;
+
     @Autowired
-    private StringRedisTemplate redisTemplate;
+    private VerificationCodeStore verificationCodeStore;
 
     @Autowired
     private JavaMailSender mailSender;
 
-    private static final String VERIFICATION_PREFIX = "email_verification:";
-    private static final int VERIFICATION_CODE_LENGTH = 6;
-    private static final int VERIFICATION_EXPIRE_MINUTES = 5;
+    private final SecureRandom random = new SecureRandom();
 
     public boolean sendVerificationEmail(String email) {
         try {
             String verificationCode = generateVerificationCode();
-            String key = VERIFICATION_PREFIX + email;
-            redisTemplate.opsForValue().set(key, verificationCode, Duration.ofMinutes(VERIFICATION_EXPIRE_MINUTES));
+            IssueResult result = verificationCodeStore.issue(CHANNEL, email, verificationCode);
+            if (!result.issued()) {
+                log.info("이메일 인증 코드 재발송 제한: {} ({}초 후 가능)", email, result.retryAfterMillis() / 1000);
+                return false;
+            }
             sendEmail(email, verificationCode);
             return true;
         } catch (Exception e) {
@@ -40,30 +53,26 @@ public class EmailVerificationService {
 
     public boolean verifyCode(String email, String code) {
         try {
-            String key = VERIFICATION_PREFIX + email;
-            String storedCode = redisTemplate.opsForValue().get(key);
-            
-            if (storedCode != null && storedCode.equals(code)) {
-                redisTemplate.delete(key);
-                return true;
+            VerifyResult result = verificationCodeStore.verifyAndConsume(CHANNEL, email, code);
+            if (result == VerifyResult.LOCKED) {
+                log.info("이메일 인증 시도 횟수 초과, 코드 폐기: {}", email);
             }
-            return false;
+            return result == VerifyResult.VERIFIED;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
         }
     }
 
+    /**
+     * 재발송 (새 코드 발급 시 이전 코드는 함께 교체됨)
+     */
     public boolean resendVerificationEmail(String email) {
-        String key = VERIFICATION_PREFIX + email;
-        redisTemplate.delete(key);
         return sendVerificationEmail(email);
     }
 
     private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
         StringBuilder code = new StringBuilder();
-        
         for (int i = 0; i < VERIFICATION_CODE_LENGTH; i++) {
             code.append(random.nextInt(10));
         }
@@ -86,13 +95,10 @@ public class EmailVerificationService {
     }
 
     public Long getExpirationTime(String email) {
-        String key = VERIFICATION_PREFIX + email;
-        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        return verificationCodeStore.getExpirationSeconds(CHANNEL, email);
     }
 
     public boolean hasVerificationCode(String email) {
-        String key = VERIFICATION_PREFIX + email;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return verificationCodeStore.hasCode(CHANNEL, email);
     }
 }
-*/ 
\ No newline at end of file
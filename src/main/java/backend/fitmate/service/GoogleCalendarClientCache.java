@@ -0,0 +1,186 @@
+package backend.fitmate.service;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.api.client.auth.oauth2.BearerToken;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Google Calendar API 클라이언트 캐시
+ *
+ * 애플리케이션 전체에서 하나의 NetHttpTransport(TLS 컨텍스트, 커넥션 풀)를 공유하고,
+ * 사용자별 Calendar 클라이언트를 googleOAuthId 기준으로 LRU 방식으로 보관합니다.
+ * 클라이언트는 갱신할 수 없는 액세스 토큰을 감싸므로, 항목은 토큰 값이 같을 때만 재사용하고
+ * 토큰 만료 시각(여유 EXPIRY_SKEW_MILLIS)과 ttl 중 이른 시각에 만료됩니다. API 가 401 을 반환하면 항목을 제거합니다.
+ * 토큰 갱신/재연동 시에는 invalidate로 해당 사용자의 클라이언트를 제거해야 합니다.
+ */
+@Component
+public class GoogleCalendarClientCache {
+
+    private static final String APPLICATION_NAME = "FitMate Calendar API";
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    static final long EXPIRY_SKEW_MILLIS = 60_000;
+
+    private final HttpTransport httpTransport;
+    private final String rootUrl;
+    private final long ttlMillis;
+    private final Map<String, CachedClient> clients;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GoogleCalendarClientCache(
+            @Value("${calendar.client-cache.max-size:1000}") int maxSize,
+            @Value("${calendar.client-cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${calendar.api.root-url:" + Calendar.DEFAULT_ROOT_URL + "}") String rootUrl,
+            MeterRegistry meterRegistry)
+            throws GeneralSecurityException, IOException {
+        this(GoogleNetHttpTransport.newTrustedTransport(), maxSize, ttlSeconds, rootUrl, meterRegistry);
+    }
+
+    GoogleCalendarClientCache(HttpTransport httpTransport, int maxSize, long ttlSeconds, String rootUrl,
+                              MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.httpTransport = httpTransport;
+        this.rootUrl = rootUrl; // 테스트 시 로컬 스텁 서버로 교체 가능
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clients = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClient> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 공유 HTTP 전송 계층
+     */
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * 같은 액세스 토큰으로 만든 클라이언트가 있으면 재사용하고, 아니면 새로 만들어 보관합니다.
+     * @param tokenExpiresAt 액세스 토큰 만료 시각 (epoch ms)
+     * @return 토큰이 이미 만료되었으면 null
+     */
+    public synchronized Calendar getOrCreate(String googleOAuthId, String accessToken, String refreshToken,
+                                             long tokenExpiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, tokenExpiresAt - EXPIRY_SKEW_MILLIS);
+        if (expiresAt <= now) {
+            clients.remove(googleOAuthId);
+            return null;
+        }
+        CachedClient cached = clients.get(googleOAuthId);
+        if (cached != null && !cached.isExpired(now) && Objects.equals(cached.accessToken(), accessToken)) {
+            return cached.calendar();
+        }
+
+        Credential credential = new Credential(BearerToken.authorizationHeaderAccessMethod())
+                .setAccessToken(accessToken);
+        if (refreshToken != null) {
+            credential.setRefreshToken(refreshToken);
+        }
+        Calendar calendar = new Calendar.Builder(httpTransport, JSON_FACTORY, timed(credential, googleOAuthId, accessToken))
+                .setRootUrl(rootUrl)
+                .setApplicationName(APPLICATION_NAME)
+                .build();
+
+        clients.put(googleOAuthId, new CachedClient(calendar, accessToken, expiresAt));
+        return calendar;
+    }
+
+    /**
+     * 토큰 갱신/재연동 시 해당 사용자의 클라이언트 제거
+     */
+    public synchronized void invalidate(String googleOAuthId) {
+        if (googleOAuthId != null) {
+            clients.remove(googleOAuthId);
+        }
+    }
+
+    /**
+     * 해당 토큰으로 만든 클라이언트만 제거 (그 사이 새 토큰으로 교체된 항목은 유지)
+     */
+    private synchronized void invalidate(String googleOAuthId, String accessToken) {
+        CachedClient cached = clients.get(googleOAuthId);
+        if (cached != null && Objects.equals(cached.accessToken(), accessToken)) {
+            clients.remove(googleOAuthId);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        clients.clear();
+    }
+
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    /**
+     * Calendar API 호출(배치 포함) 응답 시간을 메서드/경로 템플릿/상태 코드별로 기록
+     *
+     * 재시도된 요청은 마지막 시도의 시간만 기록됩니다. 인증 헤더를 붙이는 Credential 인터셉터는 그대로 유지합니다.
+     * 401 응답(토큰 만료/철회)이면 이 토큰으로 만든 클라이언트를 캐시에서 제거합니다.
+     */
+    private HttpRequestInitializer timed(Credential credential, String googleOAuthId, String accessToken) {
+        return request -> {
+            credential.initialize(request);
+            HttpExecuteInterceptor authInterceptor = request.getInterceptor();
+            long[] startNanos = { 0 };
+            request.setInterceptor(r -> {
+                if (authInterceptor != null) {
+                    authInterceptor.intercept(r);
+                }
+                startNanos[0] = System.nanoTime();
+            });
+            request.setResponseInterceptor(response -> {
+                Timer.builder("fitmate.calendar.api")
+                        .description("Google Calendar API 호출 시간")
+                        .tag("method", request.getRequestMethod())
+                        .tag("operation", operation(request))
+                        .tag("status", String.valueOf(response.getStatusCode()))
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos[0], TimeUnit.NANOSECONDS);
+                if (response.getStatusCode() == 401) {
+                    invalidate(googleOAuthId, accessToken);
+                }
+            });
+        };
+    }
+
+    /**
+     * 캘린더/이벤트 ID를 제거한 경로 (지표 태그 카디널리티 제한)
+     */
+    static String operation(HttpRequest request) {
+        return request.getUrl().getRawPath()
+                .replaceAll("/calendars/[^/]+", "/calendars/{calendarId}")
+                .replaceAll("/events/[^/]+", "/events/{eventId}");
+    }
+
+    private record CachedClient(Calendar calendar, String accessToken, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package backend.fitmate.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google 계정 연동 완료 신호
+ *
+ * 캘린더 요청은 요청마다 CompletableFuture로 연동 완료를 기다리고(요청 스레드를 점유하지 않음),
+ * UserService의 연동 메서드가 커밋 이후 signalLinked로 완료시킵니다.
+ * OAuth 콜백과 캘린더 요청이 다른 인스턴스에서 처리될 수 있으므로 Redis Pub/Sub으로도 전파합니다.
+ */
+@Component
+@Slf4j
+public class GoogleLinkNotifier implements MessageListener {
+
+    public static final String CHANNEL = "google-link";
+
+    // 같은 사용자의 동시 요청이 서로의 시간 초과에 영향받지 않도록 요청마다 별도 future를 둠
+    private final Map<Long, Set<CompletableFuture<String>>> pending = new ConcurrentHashMap<>();
+    // 대기 중인 요청의 후속 처리(Google API 호출)가 완료 신호를 보낸 스레드에서 실행되지 않도록 분리
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public GoogleLinkNotifier(ObjectProvider<RedisTemplate<String, Object>> redisTemplate,
+                              ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        listenerContainer.ifAvailable(container -> container.addMessageListener(this, new ChannelTopic(CHANNEL)));
+    }
+
+    /**
+     * 사용자의 googleOAuthId를 기다립니다.
+     * 대기 등록 후 currentValue로 한 번 더 확인하므로, 등록 직전에 끝난 연동도 놓치지 않습니다.
+     */
+    public CompletableFuture<String> await(Long userId, Supplier<String> currentValue, long timeoutMs) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        pending.compute(userId, (k, waiters) -> {
+            Set<CompletableFuture<String>> set = waiters != null ? waiters : ConcurrentHashMap.newKeySet();
+            set.add(future);
+            return set;
+        });
+
+        String linked = currentValue.get();
+        if (linked != null) {
+            release(userId, future);
+            return CompletableFuture.completedFuture(linked);
+        }
+
+        log.info("Google 연동 완료 대기 등록: userId={}", userId);
+        return future
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((id, e) -> {
+                    if (e != null) {
+                        release(userId, future);
+                    }
+                });
+    }
+
+    // 이 요청의 future만 대기 목록에서 빼고, 남은 대기가 없으면 사용자 항목을 지움
+    private void release(Long userId, CompletableFuture<String> future) {
+        pending.computeIfPresent(userId, (k, waiters) -> {
+            waiters.remove(future);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    /**
+     * 연동 완료를 알립니다. 트랜잭션 안이면 커밋 이후에 전파합니다.
+     */
+    public void signalLinked(Long userId, String googleOAuthId) {
+        if (userId == null || googleOAuthId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(userId, googleOAuthId);
+                }
+            });
+        } else {
+            publish(userId, googleOAuthId);
+        }
+    }
+
+    private void publish(Long userId, String googleOAuthId) {
+        completeLocal(userId, googleOAuthId);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, userId + ":" + googleOAuthId);
+            } catch (Exception e) {
+                log.warn("Google 연동 신호 발행 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (payload == null) {
+            return;
+        }
+        String text = payload.toString();
+        int separator = text.indexOf(':');
+        if (separator > 0) {
+            completeLocal(Long.valueOf(text.substring(0, separator)), text.substring(separator + 1));
+        }
+    }
+
+    private void completeLocal(Long userId, String googleOAuthId) {
+        Set<CompletableFuture<String>> waiters = pending.remove(userId);
+        if (waiters != null) {
+            completionExecutor.execute(() -> waiters.forEach(future -> future.complete(googleOAuthId)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+    }
+}
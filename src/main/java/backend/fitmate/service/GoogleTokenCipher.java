@@ -0,0 +1,170 @@
+package backend.fitmate.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google 토큰 필드 봉투 암호화 (AES-256-GCM)
+ *
+ * 노드마다 데이터 키(DEK)를 만들어 마스터 키(KEK)로 감싼 뒤 Redis에 keyId로 저장하고,
+ * 토큰 값에는 keyId와 IV, 암호문만 기록합니다. 다른 노드의 DEK는 처음 사용할 때 풀어서 캐시합니다.
+ * DEK는 rotation 주기마다 새로 만들며, 감싼 DEK는 토큰 TTL보다 충분히 오래 보관합니다.
+ *
+ * 값 포맷: "e1:" + base64([keyId 4바이트][IV 12바이트][암호문+태그])
+ */
+@Slf4j
+class GoogleTokenCipher {
+
+    static final String PREFIX = "e1:";
+    private static final String DEK_KEY_PREFIX = "google_token_dek:";
+    private static final int KEY_ID_LENGTH = 4;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey kek;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration rotation;
+    private final Duration dekRetention;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, SecretKey> deks = new ConcurrentHashMap<>();
+
+    private volatile ActiveKey active;
+
+    private record ActiveKey(byte[] id, SecretKey key, long createdAt) {
+    }
+
+    GoogleTokenCipher(byte[] kek, RedisTemplate<String, Object> redisTemplate, Duration rotation, Duration dekRetention) {
+        this.kek = new SecretKeySpec(kek, "AES");
+        this.redisTemplate = redisTemplate;
+        this.rotation = rotation;
+        this.dekRetention = dekRetention;
+    }
+
+    String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        try {
+            ActiveKey key = activeKey();
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key.key(), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(key.id());
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            ByteBuffer buffer = ByteBuffer.allocate(KEY_ID_LENGTH + IV_LENGTH + ciphertext.length);
+            buffer.put(key.id()).put(iv).put(ciphertext);
+            return PREFIX + Base64.getEncoder().withoutPadding().encodeToString(buffer.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Google 토큰 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 암호화되지 않은 기존 값은 그대로 반환
+     */
+    String decrypt(String value) {
+        if (value == null || !value.startsWith(PREFIX)) {
+            return value;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value.substring(PREFIX.length())));
+            byte[] keyId = new byte[KEY_ID_LENGTH];
+            byte[] iv = new byte[IV_LENGTH];
+            buffer.get(keyId).get(iv);
+            byte[] ciphertext = new byte[buffer.remaining()];
+            buffer.get(ciphertext);
+
+            SecretKey dek = loadDek(keyId);
+            if (dek == null) {
+                return null; // DEK 만료: 재연동 필요
+            }
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, dek, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(keyId);
+            return new String(cipher.doFinal(ciphertext), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("Google 토큰 복호화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private ActiveKey activeKey() throws GeneralSecurityException {
+        ActiveKey current = active;
+        if (current != null && System.currentTimeMillis() - current.createdAt() < rotation.toMillis()) {
+            return current;
+        }
+        synchronized (this) {
+            current = active;
+            if (current != null && System.currentTimeMillis() - current.createdAt() < rotation.toMillis()) {
+                return current;
+            }
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256, random);
+            SecretKey dek = generator.generateKey();
+            byte[] keyId = new byte[KEY_ID_LENGTH];
+            random.nextBytes(keyId);
+
+            redisTemplate.opsForValue().set(DEK_KEY_PREFIX + HexFormat.of().formatHex(keyId),
+                    wrap(dek, keyId), dekRetention);
+            deks.put(HexFormat.of().formatHex(keyId), dek);
+            active = new ActiveKey(keyId, dek, System.currentTimeMillis());
+            return active;
+        }
+    }
+
+    private SecretKey loadDek(byte[] keyId) throws GeneralSecurityException {
+        String hex = HexFormat.of().formatHex(keyId);
+        SecretKey cached = deks.get(hex);
+        if (cached != null) {
+            return cached;
+        }
+        Object wrapped = redisTemplate.opsForValue().get(DEK_KEY_PREFIX + hex);
+        if (wrapped == null) {
+            return null;
+        }
+        SecretKey dek = unwrap(wrapped.toString(), keyId);
+        deks.put(hex, dek);
+        return dek;
+    }
+
+    private String wrap(SecretKey dek, byte[] keyId) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, kek, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(keyId);
+        byte[] wrapped = cipher.doFinal(dek.getEncoded());
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_LENGTH + wrapped.length).put(iv).put(wrapped).array());
+    }
+
+    private SecretKey unwrap(String value, byte[] keyId) throws GeneralSecurityException {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value));
+        byte[] iv = new byte[IV_LENGTH];
+        buffer.get(iv);
+        byte[] wrapped = new byte[buffer.remaining()];
+        buffer.get(wrapped);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, kek, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(keyId);
+        return new SecretKeySpec(cipher.doFinal(wrapped), "AES");
+    }
+}
@@ -0,0 +1,151 @@
+package backend.fitmate.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Google OAuth2 토큰 Redis 저장소 (google_token:{googleOAuthId} 해시)
+ *
+ * 저장은 HSET + EXPIRE를 Lua 스크립트 하나로 보내 왕복 1회로 처리하고, 조회는 HGETALL 1회입니다.
+ * 필드 값은 JSON이 아닌 문자열 그대로 저장합니다. (이전 JSON 문자열 항목도 읽을 수 있음)
+ * 조회 결과는 짧은 TTL의 로컬 캐시에 보관합니다. (다른 노드의 갱신은 로컬 TTL 안에서 늦게 반영될 수 있음)
+ * calendar.token-store.kek가 설정되면 토큰 필드를 봉투 암호화하여 저장합니다. (GoogleTokenCipher)
+ */
+@Component
+public class GoogleTokenStore {
+
+    private static final String KEY_PREFIX = "google_token:";
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+            + "return 1", Long.class);
+
+    /**
+     * expiresAt: 액세스 토큰 만료 시각 (epoch ms). 저장 시 알 수 없었으면 저장 시각 + 저장소 TTL
+     */
+    public record GoogleToken(String accessToken, String refreshToken, long timestamp, long expiresAt) {
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long ttlSeconds;
+    private final Cache<String, GoogleToken> localTokens;
+    private final GoogleTokenCipher cipher;
+
+    public GoogleTokenStore(RedisTemplate<String, Object> redisTemplate,
+                            @Value("${calendar.token-store.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${calendar.token-store.local-ttl-seconds:30}") long localTtlSeconds,
+                            @Value("${calendar.token-store.kek:}") String kek,
+                            @Value("${calendar.token-store.dek-rotation-hours:24}") long dekRotationHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.localTokens = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        // 감싼 DEK는 마지막으로 쓰인 뒤에도 토큰 TTL 동안은 남아 있어야 함
+        this.cipher = kek == null || kek.isBlank() ? null : new GoogleTokenCipher(Base64.getDecoder().decode(kek),
+                redisTemplate, Duration.ofHours(dekRotationHours),
+                Duration.ofHours(dekRotationHours).plusSeconds(ttlSeconds * 2));
+    }
+
+    public void save(String googleOAuthId, String accessToken, String refreshToken) {
+        save(googleOAuthId, accessToken, refreshToken, null);
+    }
+
+    /**
+     * 토큰 저장. refreshToken이 null이면 기존 refresh_token 필드를 유지합니다.
+     */
+    public void save(String googleOAuthId, String accessToken, String refreshToken, Instant expiresAt) {
+        long timestamp = System.currentTimeMillis();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add("access_token");
+        args.add(encode(accessToken));
+        if (refreshToken != null) {
+            args.add("refresh_token");
+            args.add(encode(refreshToken));
+        }
+        args.add("timestamp");
+        args.add(String.valueOf(timestamp));
+        args.add("expires_at");
+        args.add(String.valueOf(expiresAt != null ? expiresAt.toEpochMilli() : timestamp + ttlSeconds * 1000));
+
+        redisTemplate.execute(SAVE_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(KEY_PREFIX + googleOAuthId), args.toArray());
+        localTokens.invalidate(googleOAuthId);
+    }
+
+    public Optional<GoogleToken> find(String googleOAuthId) {
+        GoogleToken cached = localTokens.getIfPresent(googleOAuthId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        byte[] key = (KEY_PREFIX + googleOAuthId).getBytes(StandardCharsets.UTF_8);
+        Map<String, String> fields = new HashMap<>();
+        Map<byte[], byte[]> raw = redisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key));
+        if (raw != null) {
+            raw.forEach((field, value) -> fields.put(new String(field, StandardCharsets.UTF_8),
+                    unquote(new String(value, StandardCharsets.UTF_8))));
+        }
+        String accessToken = decode(fields.get("access_token"));
+        if (accessToken == null) {
+            return Optional.empty();
+        }
+        String timestamp = fields.get("timestamp");
+        String expiresAt = fields.get("expires_at");
+        long savedAt = timestamp != null ? Long.parseLong(timestamp) : 0L;
+        GoogleToken token = new GoogleToken(accessToken, decode(fields.get("refresh_token")), savedAt,
+                expiresAt != null ? Long.parseLong(expiresAt) : savedAt + ttlSeconds * 1000);
+        localTokens.put(googleOAuthId, token);
+        return Optional.of(token);
+    }
+
+    public void invalidateLocal(String googleOAuthId) {
+        localTokens.invalidate(googleOAuthId);
+    }
+
+    private String encode(String value) {
+        return cipher != null ? cipher.encrypt(value) : value;
+    }
+
+    private String decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (cipher == null) {
+            return value.startsWith(GoogleTokenCipher.PREFIX) ? null : value; // 키 없이 암호문을 토큰으로 쓰지 않음
+        }
+        return cipher.decrypt(value);
+    }
+
+    /**
+     * 이전 버전이 JSON 직렬화기로 저장한 문자열("...") 처리
+     */
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
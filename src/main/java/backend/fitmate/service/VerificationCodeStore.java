@@ -0,0 +1,158 @@
+package backend.fitmate.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 코드 Redis 저장소 (이메일/문자 공용)
+ *
+ * 발급, 검증+소모, 시도 횟수 증가를 각각 Lua 스크립트 하나로 원자적으로 실행하여 요청당 왕복 1회로 처리합니다.
+ * 동시에 여러 검증 요청이 와도 코드는 한 번만 소모되고, 실패 횟수가 maxAttempts에 도달하면 코드를 폐기합니다.
+ * 발급은 대상별 슬라이딩 윈도우(ZSET)로 재발송 횟수를 제한합니다.
+ * 코드는 원문 대신 서버 비밀키로 계산한 HMAC-SHA256 값으로 저장합니다. (6자리 코드는 키 없이 전수 대입 가능하므로 단순 해시 사용 안 함)
+ *
+ * 키: verification:{channel:target} (해시: code, attempts), verification:{channel:target}:sends (ZSET)
+ */
+@Component
+public class VerificationCodeStore {
+
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', tonumber(ARGV[3]) - tonumber(ARGV[4]))
+            if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[5]) then
+              local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+              local wait = tonumber(oldest[2]) + tonumber(ARGV[4]) - tonumber(ARGV[3])
+              return -math.max(wait, 1)
+            end
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HGET', KEYS[1], 'code')
+            if not stored then
+              return -1
+            end
+            if stored == ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              return 1
+            end
+            local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            if attempts >= tonumber(ARGV[2]) then
+              redis.call('DEL', KEYS[1])
+              return -2
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 발급 결과. 재발송 제한에 걸리면 issued = false, retryAfterMillis 이후 다시 시도 가능
+     */
+    public record IssueResult(boolean issued, long retryAfterMillis) {
+    }
+
+    public enum VerifyResult {
+        VERIFIED,
+        MISMATCH,
+        EXPIRED, // 코드 없음 또는 만료
+        LOCKED // 실패 횟수 초과로 폐기됨
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final long codeTtlSeconds;
+    private final int maxAttempts;
+    private final long resendWindowMillis;
+    private final int maxSendsPerWindow;
+    private final SecretKeySpec hmacKey;
+
+    public VerificationCodeStore(StringRedisTemplate redisTemplate,
+                                 @Value("${verification.hmac-secret}") String hmacSecret,
+                                 @Value("${verification.code-ttl-seconds:300}") long codeTtlSeconds,
+                                 @Value("${verification.max-attempts:5}") int maxAttempts,
+                                 @Value("${verification.resend.window-seconds:600}") long resendWindowSeconds,
+                                 @Value("${verification.resend.max:3}") int maxSendsPerWindow) {
+        this.redisTemplate = redisTemplate;
+        this.codeTtlSeconds = codeTtlSeconds;
+        this.maxAttempts = maxAttempts;
+        this.resendWindowMillis = resendWindowSeconds * 1000;
+        this.maxSendsPerWindow = maxSendsPerWindow;
+        this.hmacKey = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    /**
+     * 새 코드 발급 (이전 코드와 시도 횟수는 초기화)
+     */
+    public IssueResult issue(String channel, String target, String code) {
+        String key = key(channel, target);
+        Long result = redisTemplate.execute(ISSUE_SCRIPT, List.of(key, key + ":sends"),
+                hash(target, code),
+                String.valueOf(codeTtlSeconds),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(resendWindowMillis),
+                String.valueOf(maxSendsPerWindow),
+                UUID.randomUUID().toString());
+        if (result != null && result < 0) {
+            return new IssueResult(false, -result);
+        }
+        return new IssueResult(true, 0);
+    }
+
+    /**
+     * 코드 검증. 일치하면 즉시 소모되어 같은 코드로 다시 성공할 수 없습니다.
+     */
+    public VerifyResult verifyAndConsume(String channel, String target, String code) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(channel, target)),
+                hash(target, code), String.valueOf(maxAttempts));
+        if (result == null) {
+            return VerifyResult.EXPIRED;
+        }
+        return switch (result.intValue()) {
+            case 1 -> VerifyResult.VERIFIED;
+            case 0 -> VerifyResult.MISMATCH;
+            case -2 -> VerifyResult.LOCKED;
+            default -> VerifyResult.EXPIRED;
+        };
+    }
+
+    /**
+     * 남은 유효 시간 (초). 코드가 없으면 -2
+     */
+    public Long getExpirationSeconds(String channel, String target) {
+        return redisTemplate.getExpire(key(channel, target));
+    }
+
+    public boolean hasCode(String channel, String target) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(channel, target)));
+    }
+
+    private static String key(String channel, String target) {
+        // 해시 태그로 코드 키와 발송 기록 키를 같은 슬롯에 둠 (클러스터에서도 스크립트 실행 가능)
+        return "verification:{" + channel + ":" + target.trim().toLowerCase() + "}";
+    }
+
+    private String hash(String target, String code) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256"); // Mac 은 스레드 안전하지 않으므로 호출마다 생성
+            mac.init(hmacKey);
+            byte[] bytes = mac.doFinal((target.trim().toLowerCase() + ":" + code.trim()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
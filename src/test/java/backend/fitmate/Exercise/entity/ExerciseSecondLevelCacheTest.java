@@ -0,0 +1,86 @@
+package backend.fitmate.Exercise.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * application.properties 의 2차 캐시 설정과 hibernate-jcache.conf 로 H2 위에 SessionFactory 를 띄워
+ * 모든 영역이 선언되어 있는지(미선언 시 기동 실패)와 두 번째 조회가 2차 캐시에서 처리되는지 확인합니다.
+ */
+class ExerciseSecondLevelCacheTest {
+
+    private static final String PREFIX = "spring.jpa.properties.";
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Configuration configuration = new Configuration().addAnnotatedClass(Exercise.class);
+        Properties application = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/application.properties")) {
+            application.load(in);
+        }
+        for (String name : application.stringPropertyNames()) {
+            if (name.startsWith(PREFIX + "hibernate.cache.") || name.startsWith(PREFIX + "hibernate.javax.cache.")) {
+                configuration.setProperty(name.substring(PREFIX.length()), application.getProperty(name));
+            }
+        }
+        sessionFactory = configuration
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:exercise-l2;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.generate_statistics", "true")
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void secondLoadIsServedFromSecondLevelCache() {
+        Long id = sessionFactory.fromTransaction(session -> {
+            Exercise exercise = new Exercise();
+            exercise.setName("Squat");
+            exercise.setMuscles(List.of("quadriceps"));
+            session.persist(exercise);
+            return exercise.getId();
+        });
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        sessionFactory.inSession(session -> session.find(Exercise.class, id).getMuscles().size());
+        long statementsAfterFirstLoad = statistics.getPrepareStatementCount();
+        sessionFactory.inSession(session -> session.find(Exercise.class, id).getMuscles().size());
+
+        assertEquals(statementsAfterFirstLoad, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Exercise.CACHE_REGION).getHitCount());
+        assertEquals(1, statistics.getCollectionStatistics(Exercise.class.getName() + ".muscles").getCacheHitCount());
+    }
+
+    @Test
+    void facetQueryIsServedFromQueryCache() {
+        Statistics statistics = sessionFactory.getStatistics();
+        for (int i = 0; i < 2; i++) {
+            sessionFactory.inSession(session -> session
+                    .createSelectionQuery("select distinct e.category from Exercise e", String.class)
+                    .setCacheable(true)
+                    .setCacheRegion(Exercise.FACETS_CACHE_REGION)
+                    .list());
+        }
+
+        assertEquals(1, statistics.getQueryRegionStatistics(Exercise.FACETS_CACHE_REGION).getHitCount());
+    }
+}
@@ -0,0 +1,115 @@
+package backend.fitmate.Exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import backend.fitmate.Exercise.controller.ExerciseController;
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.Exercise.repository.ExerciseRepository;
+
+class ExerciseCatalogSnapshotTest {
+
+    private final ExerciseRepository repository = mock(ExerciseRepository.class);
+    private final ExerciseCatalogSnapshot snapshots = new ExerciseCatalogSnapshot(repository,
+            mock(PlatformTransactionManager.class));
+
+    private static Exercise exercise(long id, String name, double mets) {
+        Exercise exercise = new Exercise();
+        exercise.setId(id);
+        exercise.setName(name);
+        exercise.setKoreanName(name);
+        exercise.setCategory("하체");
+        exercise.setMuscles(List.of("대퇴사두근"));
+        exercise.setMusclesSecondary(List.of());
+        exercise.setMets(mets);
+        return exercise;
+    }
+
+    @Test
+    void serializesOncePerVersionAndChangesVersionWithContent() throws IOException {
+        when(repository.findAll()).thenReturn(new ArrayList<>(List.of(exercise(2, "런지", 4.0), exercise(1, "스쿼트", 5.5))));
+
+        ExerciseCatalogSnapshot.Snapshot first = snapshots.current();
+        assertSame(first, snapshots.current());
+        verify(repository, times(1)).findAll();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(first.json(), gzip.readAllBytes());
+        }
+
+        // 같은 내용이면 재적재 후에도 같은 버전
+        snapshots.invalidate();
+        assertEquals(first.version(), snapshots.current().version());
+
+        when(repository.findAll()).thenReturn(List.of(exercise(1, "스쿼트", 6.0)));
+        snapshots.invalidate();
+        assertNotEquals(first.version(), snapshots.current().version());
+    }
+
+    @Test
+    void endpointServesPrecompressedBodyWithStrongEtag() throws Exception {
+        when(repository.findAll()).thenReturn(List.of(exercise(1, "스쿼트", 5.5)));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ExerciseController(null, snapshots)).build();
+        String version = snapshots.current().version();
+
+        mvc.perform(get("/api/exercise-information/catalog").header("Accept-Encoding", "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"" + version + "-gz\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+
+        mvc.perform(get("/api/exercise-information/catalog").param("v", version))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+
+        mvc.perform(get("/api/exercise-information/catalog").header("If-None-Match", "\"" + version + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void conditionalGetMatchesChosenRepresentationAndHonoursQValues() throws Exception {
+        when(repository.findAll()).thenReturn(List.of(exercise(1, "스쿼트", 5.5)));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ExerciseController(null, snapshots)).build();
+        String version = snapshots.current().version();
+
+        mvc.perform(get("/api/exercise-information/catalog").header("Accept-Encoding", "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", "\"" + version + "\""));
+
+        mvc.perform(get("/api/exercise-information/catalog").header("Accept-Encoding", "br, *;q=0.5"))
+                .andExpect(header().string("Content-Encoding", "gzip"));
+
+        // 압축본의 ETag 로는 비압축 표현을 304 처리하지 않음
+        mvc.perform(get("/api/exercise-information/catalog").header("If-None-Match", "\"" + version + "-gz\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + version + "\""));
+
+        mvc.perform(get("/api/exercise-information/catalog")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", "\"other\", W/\"" + version + "-gz\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + version + "-gz\""))
+                .andExpect(header().string("Vary", "Accept-Encoding"));
+    }
+}
@@ -0,0 +1,39 @@
+package backend.fitmate.User.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class TrendSeriesSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void serializesParallelColumns() throws Exception {
+        List<Object[]> rows = List.of(
+                new Object[] { LocalDate.of(2024, 1, 1), 70.5 },
+                new Object[] { "2024-01-08", new BigDecimal("70.25") },
+                new Object[] { "2024-02", null });
+
+        String json = objectMapper.writeValueAsString(TrendSeries.fromRows(rows));
+
+        long jan1 = LocalDate.of(2024, 1, 1).toEpochDay();
+        long jan8 = LocalDate.of(2024, 1, 8).toEpochDay();
+        long feb1 = LocalDate.of(2024, 2, 1).toEpochDay();
+        assertEquals("{\"dates\":[" + jan1 + "," + jan8 + "," + feb1 + "],\"values\":[70.5,70.25,null]}", json);
+    }
+
+    @Test
+    void emptyRowsProduceEmptyColumns() throws Exception {
+        assertEquals("{\"dates\":[],\"values\":[]}", objectMapper.writeValueAsString(TrendSeries.fromRows(List.of())));
+    }
+}
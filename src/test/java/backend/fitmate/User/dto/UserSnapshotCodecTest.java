@@ -0,0 +1,39 @@
+package backend.fitmate.User.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import backend.fitmate.User.entity.User;
+import backend.fitmate.config.CompactRedisSerializer;
+
+class UserSnapshotCodecTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(
+            List.of(new UserSnapshotCodec()), RedisSerializer.java(), 512);
+
+    @Test
+    void snapshotRoundTripsWithoutPassword() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("user@fitmate.com");
+        user.setPassword("$2a$10$secret-hash");
+        user.setName("홍길동");
+        user.setOauthProvider("google");
+        user.setOauthId("g-7");
+        user.setHeight("175");
+
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        byte[] bytes = serializer.serialize(Optional.of(snapshot));
+
+        assertEquals(Optional.of(snapshot), serializer.deserialize(bytes));
+        assertEquals("ROLE_USER", snapshot.role());
+        assertFalse(new String(bytes, StandardCharsets.ISO_8859_1).contains("secret-hash"));
+    }
+}
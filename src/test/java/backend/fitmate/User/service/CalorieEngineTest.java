@@ -0,0 +1,118 @@
+package backend.fitmate.User.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import backend.fitmate.Exercise.entity.Exercise;
+import backend.fitmate.Exercise.repository.ExerciseRepository;
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.User;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.UserRepository;
+
+class CalorieEngineTest {
+
+    private final ExerciseRepository exerciseRepository = mock(ExerciseRepository.class);
+    private final BodyRecordRepository bodyRecordRepository = mock(BodyRecordRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CalorieEngine engine = new CalorieEngine(exerciseRepository, bodyRecordRepository, userRepository);
+
+    private static Exercise exercise(String name, String koreanName, double mets) {
+        Exercise exercise = new Exercise();
+        exercise.setName(name);
+        exercise.setKoreanName(koreanName);
+        exercise.setMets(mets);
+        return exercise;
+    }
+
+    private static BodyRecord bodyRecord(double weight) {
+        BodyRecord record = new BodyRecord();
+        record.setMeasureDate(LocalDate.of(2026, 1, 1));
+        record.setWeight(weight);
+        return record;
+    }
+
+    private static WorkoutRecord workout(String type, Integer duration, Integer calories) {
+        WorkoutRecord record = new WorkoutRecord();
+        record.setWorkoutType(type);
+        record.setDuration(duration);
+        record.setCalories(calories);
+        return record;
+    }
+
+    @Test
+    void fillsCaloriesFromMetsAndLatestBodyWeight() {
+        when(exerciseRepository.findAll()).thenReturn(List.of(exercise("Bench Press", "벤치 프레스", 6.0)));
+        when(bodyRecordRepository.findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(1L))
+                .thenReturn(Optional.of(bodyRecord(80.0)));
+
+        WorkoutRecord record = workout("benchpress", 45, 999);
+        assertTrue(engine.apply(record, 1L));
+        assertEquals(360, record.getCalories()); // 6.0 × 80kg × 0.75h
+
+        WorkoutRecord korean = workout("벤치프레스", 30, null);
+        assertTrue(engine.apply(korean, 1L));
+        assertEquals(240, korean.getCalories());
+
+        verify(exerciseRepository, times(1)).findAll();
+        verify(bodyRecordRepository, times(1)).findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(1L);
+    }
+
+    @Test
+    void fallsBackToProfileWeightAndKeepsClientValueWhenUnresolved() {
+        when(exerciseRepository.findAll()).thenReturn(List.of(exercise("Running", "달리기", 8.0)));
+        when(bodyRecordRepository.findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(2L))
+                .thenReturn(Optional.empty());
+        User user = new User();
+        user.setWeight("70");
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+
+        WorkoutRecord running = workout("Running", 60, null);
+        assertTrue(engine.apply(running, 2L));
+        assertEquals(560, running.getCalories());
+
+        WorkoutRecord unknown = workout("요가", 60, 150);
+        assertFalse(engine.apply(unknown, 2L));
+        assertEquals(150, unknown.getCalories());
+    }
+
+    @Test
+    void reloadsAfterInvalidation() {
+        when(exerciseRepository.findAll())
+                .thenReturn(List.of(exercise("Squat", "스쿼트", 5.0)))
+                .thenReturn(List.of(exercise("Squat", "스쿼트", 5.5)));
+        when(bodyRecordRepository.findFirstByUserIdAndWeightIsNotNullOrderByMeasureDateDesc(3L))
+                .thenReturn(Optional.of(bodyRecord(60.0)))
+                .thenReturn(Optional.of(bodyRecord(62.0)));
+
+        assertEquals(5.0, engine.resolveMets("squat"));
+        assertEquals(60.0, engine.resolveWeight(3L));
+
+        engine.invalidateExercises();
+        engine.invalidateWeight(3L);
+
+        assertEquals(5.5, engine.resolveMets("squat"));
+        assertEquals(62.0, engine.resolveWeight(3L));
+    }
+
+    @Test
+    void calculateRejectsMissingInputs() {
+        assertNull(CalorieEngine.calculate(null, 70.0, 30));
+        assertNull(CalorieEngine.calculate(5.0, null, 30));
+        assertNull(CalorieEngine.calculate(5.0, 70.0, 0));
+        assertEquals(175, CalorieEngine.calculate(5.0, 70.0, 30));
+    }
+}
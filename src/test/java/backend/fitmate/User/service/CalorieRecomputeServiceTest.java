@@ -0,0 +1,146 @@
+package backend.fitmate.User.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+
+class CalorieRecomputeServiceTest {
+
+    private final WorkoutRecordRepository workoutRecordRepository = mock(WorkoutRecordRepository.class);
+    private final BodyRecordRepository bodyRecordRepository = mock(BodyRecordRepository.class);
+    private final CalorieEngine calorieEngine = mock(CalorieEngine.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("dashboardStats");
+
+    CalorieRecomputeServiceTest() {
+        when(calorieEngine.resolveMets("스쿼트")).thenReturn(6.0);
+    }
+
+    private CalorieRecomputeService service(int parallelism, int usersPerTask) {
+        return new CalorieRecomputeService(workoutRecordRepository, bodyRecordRepository, calorieEngine,
+                cacheManager, mock(PlatformTransactionManager.class), parallelism, usersPerTask);
+    }
+
+    private static WorkoutRecord workout(String date, Integer calories) {
+        WorkoutRecord record = new WorkoutRecord();
+        record.setWorkoutDate(LocalDate.parse(date));
+        record.setWorkoutType("스쿼트");
+        record.setDuration(60);
+        record.setCalories(calories);
+        return record;
+    }
+
+    private static BodyRecord body(String date, double weight) {
+        BodyRecord record = new BodyRecord();
+        record.setMeasureDate(LocalDate.parse(date));
+        record.setWeight(weight);
+        return record;
+    }
+
+    @Test
+    void usesWeightAsOfEachWorkoutDate() throws Exception {
+        WorkoutRecord beforeFirstWeight = workout("2026-03-05", null);
+        WorkoutRecord betweenChanges = workout("2026-03-15", null);
+        WorkoutRecord onChangeDay = workout("2026-03-20", null);
+        WorkoutRecord afterLastChange = workout("2026-03-25", null);
+        when(workoutRecordRepository.findDistinctUserIds()).thenReturn(List.of(1L));
+        when(workoutRecordRepository.findByUserIdOrderByWorkoutDateDesc(1L))
+                .thenReturn(List.of(afterLastChange, onChangeDay, betweenChanges, beforeFirstWeight));
+        when(bodyRecordRepository.findByUserIdOrderByMeasureDateDesc(1L))
+                .thenReturn(List.of(body("2026-03-20", 70.0), body("2026-03-10", 80.0)));
+
+        CalorieRecomputeService.Result result = service(2, 16).start().get(5, TimeUnit.SECONDS);
+
+        // 첫 체중 기록 이전은 가장 오래된 체중, 그 외에는 운동 날짜 기준 직전 체중
+        assertEquals(480, beforeFirstWeight.getCalories());
+        assertEquals(480, betweenChanges.getCalories());
+        assertEquals(420, onChangeDay.getCalories());
+        assertEquals(420, afterLastChange.getCalories());
+        assertEquals(4, result.updated());
+        verify(calorieEngine, never()).resolveWeight(anyLong());
+    }
+
+    @Test
+    void evictsDashboardStatsOnlyWhenCaloriesChange() throws Exception {
+        Cache stats = cacheManager.getCache("dashboardStats");
+        for (long userId = 1; userId <= 2; userId++) {
+            stats.put("weekly:" + userId, "stale");
+            stats.put("comparison:" + userId, "stale");
+        }
+        when(workoutRecordRepository.findDistinctUserIds()).thenReturn(List.of(1L, 2L));
+        when(workoutRecordRepository.findByUserIdOrderByWorkoutDateDesc(1L))
+                .thenReturn(List.of(workout("2026-03-01", 100)));
+        when(workoutRecordRepository.findByUserIdOrderByWorkoutDateDesc(2L))
+                .thenReturn(List.of(workout("2026-03-01", 420)));
+        when(bodyRecordRepository.findByUserIdOrderByMeasureDateDesc(anyLong())).thenReturn(List.of());
+        when(calorieEngine.resolveWeight(anyLong())).thenReturn(70.0);
+
+        CalorieRecomputeService.Result result = service(2, 16).start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, result.updated());
+        assertNull(stats.get("weekly:1"));
+        assertNull(stats.get("comparison:1"));
+        // 칼로리가 그대로인 사용자의 통계는 유지
+        assertNotNull(stats.get("weekly:2"));
+        assertNotNull(stats.get("comparison:2"));
+    }
+
+    @Test
+    void splitsUsersAcrossForkJoinWorkersAndAddsUpTotals() throws Exception {
+        List<Long> userIds = new ArrayList<>(LongStream.rangeClosed(1, 40).boxed().toList());
+        Set<String> workers = ConcurrentHashMap.newKeySet();
+        when(workoutRecordRepository.findDistinctUserIds()).thenReturn(userIds);
+        when(bodyRecordRepository.findByUserIdOrderByMeasureDateDesc(anyLong())).thenReturn(List.of());
+        when(calorieEngine.resolveWeight(anyLong())).thenReturn(70.0);
+        when(calorieEngine.resolveMets("알 수 없는 운동")).thenReturn(null);
+        for (Long userId : userIds) {
+            when(workoutRecordRepository.findByUserIdOrderByWorkoutDateDesc(userId)).thenAnswer(invocation -> {
+                workers.add(Thread.currentThread().getName());
+                if (userId == 7L) {
+                    throw new IllegalStateException("lock timeout");
+                }
+                WorkoutRecord record = workout("2026-03-01", null);
+                record.setWorkoutType(userId == 8L ? "알 수 없는 운동" : "스쿼트");
+                return List.of(record);
+            });
+        }
+        CalorieRecomputeService service = service(4, 3);
+
+        CalorieRecomputeService.Result result = service.start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(40, result.users());
+        assertEquals(39, result.scanned());
+        assertEquals(38, result.updated());
+        assertEquals(1, result.unresolved());
+        assertEquals(1, result.failedUsers());
+        for (Long userId : userIds) {
+            verify(workoutRecordRepository, times(1)).findByUserIdOrderByWorkoutDateDesc(userId);
+        }
+        assertTrue(workers.stream().allMatch(name -> name.startsWith("calorie-recompute-")), workers.toString());
+        assertEquals(result, service.getLastResult());
+    }
+}
@@ -0,0 +1,119 @@
+package backend.fitmate.User.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.fitmate.User.entity.BodyRecord;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import jakarta.persistence.EntityManager;
+
+class HistoryExportServiceTest {
+
+    private final WorkoutRecordRepository workoutRecordRepository = mock(WorkoutRecordRepository.class);
+    private final BodyRecordRepository bodyRecordRepository = mock(BodyRecordRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final HistoryExportService service = new HistoryExportService(workoutRecordRepository,
+            bodyRecordRepository, mock(PlatformTransactionManager.class));
+    private final AtomicInteger closedStreams = new AtomicInteger();
+
+    HistoryExportServiceTest() {
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+
+        WorkoutRecord workout = new WorkoutRecord();
+        workout.setWorkoutDate(LocalDate.of(2026, 3, 1));
+        workout.setWorkoutType("Bench Press");
+        workout.setDuration(45);
+        workout.setCalories(360);
+        workout.setDifficulty(WorkoutRecord.WorkoutDifficulty.HARD);
+        workout.setNotes("5x5, \"PR\"");
+        workout.setCreatedAt(LocalDateTime.of(2026, 3, 1, 7, 30));
+
+        BodyRecord body = new BodyRecord();
+        body.setMeasureDate(LocalDate.of(2026, 3, 2));
+        body.setWeight(80.5);
+
+        when(workoutRecordRepository.streamByUserId(1L))
+                .thenAnswer(invocation -> Stream.of(workout).onClose(closedStreams::incrementAndGet));
+        when(bodyRecordRepository.streamByUserId(1L))
+                .thenAnswer(invocation -> Stream.of(body).onClose(closedStreams::incrementAndGet));
+    }
+
+    @Test
+    void writesCsvWithEscapingAndClosesStreams() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.export(1L, HistoryExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(HistoryExportService.CSV_HEADER, lines[0]);
+        assertEquals("workout,2026-03-01,Bench Press,45,360,,HARD,,,,,,,\"5x5, \"\"PR\"\"\",2026-03-01T07:30", lines[1]);
+        assertEquals("body,2026-03-02,,,,,,,,,80.5,,,,", lines[2]);
+        assertEquals(2, closedStreams.get());
+        verify(entityManager, times(2)).detach(any());
+    }
+
+    @Test
+    void guardsCellsThatSpreadsheetsWouldRunAsFormulas() {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", HistoryExportService.csvEscape("=HYPERLINK(\"http://x\")"));
+        assertEquals("\"'+1\"", HistoryExportService.csvEscape("+1"));
+        assertEquals("\"'-5kg, 실패\"", HistoryExportService.csvEscape("-5kg, 실패"));
+        assertEquals("\"'@SUM(A1)\"", HistoryExportService.csvEscape("@SUM(A1)"));
+        assertEquals("\"'\tx\"", HistoryExportService.csvEscape("\tx"));
+        assertEquals("\"'\rx\"", HistoryExportService.csvEscape("\rx"));
+        assertEquals("\"''quoted\"", HistoryExportService.csvEscape("'quoted"));
+        assertEquals("a=b", HistoryExportService.csvEscape("a=b"));
+
+        assertEquals("=1+1", HistoryExportService.stripFormulaGuard("'=1+1"));
+        assertEquals("'quoted", HistoryExportService.stripFormulaGuard("''quoted"));
+        assertEquals("'hello", HistoryExportService.stripFormulaGuard("'hello"));
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(1L, HistoryExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode workout = mapper.readTree(lines[0]);
+        JsonNode body = mapper.readTree(lines[1]);
+        assertEquals("workout", workout.get("type").asText());
+        assertEquals(360, workout.get("calories").asInt());
+        assertTrue(workout.get("sets").isNull());
+        assertEquals("body", body.get("type").asText());
+        assertEquals(80.5, body.get("weight").asDouble());
+    }
+
+    @Test
+    void parsesFormat() {
+        assertEquals(HistoryExportService.Format.NDJSON, HistoryExportService.Format.parse("ndjson"));
+        assertEquals(HistoryExportService.Format.CSV, HistoryExportService.Format.parse(null));
+        assertNull(HistoryExportService.Format.parse("xml"));
+    }
+}
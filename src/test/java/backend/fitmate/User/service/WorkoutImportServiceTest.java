@@ -0,0 +1,255 @@
+package backend.fitmate.User.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.entity.WorkoutRecord.WorkoutDifficulty;
+import backend.fitmate.User.repository.BodyRecordRepository;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+import jakarta.persistence.EntityManager;
+
+class WorkoutImportServiceTest {
+
+    private final WorkoutRecordRepository workoutRecordRepository = mock(WorkoutRecordRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CalorieEngine calorieEngine = mock(CalorieEngine.class);
+    private final WorkoutImportService service = new WorkoutImportService(workoutRecordRepository, jdbcTemplate,
+            mock(PlatformTransactionManager.class), calorieEngine, mock(StringRedisTemplate.class),
+            mock(CacheManager.class), 2, 1, 1);
+
+    WorkoutImportServiceTest() {
+        when(calorieEngine.resolveWeight(1L)).thenReturn(80.0);
+        when(calorieEngine.resolveExercise("benchpress"))
+                .thenReturn(new CalorieEngine.ExerciseRef("Bench Press", 6.0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> insertedRows(int batches) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(batches)).batchUpdate(eq(WorkoutImportService.INSERT_SQL), captor.capture());
+        List<Object[]> rows = new ArrayList<>();
+        captor.getAllValues().forEach(rows::addAll);
+        return rows;
+    }
+
+    @Test
+    void importsExportedCsvInBatchesAndResolvesExercises() throws IOException {
+        String csv = "\uFEFF" + HistoryExportService.CSV_HEADER + "\n"
+                + "workout,2026-03-01,benchpress,45,,,HARD,5,5,100,,,,\"5x5, \"\"PR\"\"\",2026-03-01T07:30:00.123456789\n"
+                + "body,2026-03-02,,,,,,,,,80.5,,,\n"
+                + "workout,2026-03-02,요가,60,150,,보통,,,,,,,\"line1\nline2\"\r\n"
+                + "workout,2026-03-03,Running,30,,,,,,,,,,\n";
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+        List<String> progress = new ArrayList<>();
+
+        service.importCsv(1L, new StringReader(csv), counters, c -> progress.add(c.imported + "/" + c.processed));
+
+        List<Object[]> rows = insertedRows(2);
+        assertEquals(3, rows.size());
+        Object[] bench = rows.get(0);
+        assertEquals(Date.valueOf(LocalDate.of(2026, 3, 1)), bench[1]);
+        assertEquals("Bench Press", bench[2]);
+        assertEquals(360, bench[4]); // 6.0 METs × 80kg × 0.75h
+        assertEquals("HARD", bench[6]);
+        assertEquals(100.0, bench[9]);
+        assertEquals("5x5, \"PR\"", bench[10]);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2026, 3, 1, 7, 30, 0, 123456000)), bench[11]);
+
+        Object[] yoga = rows.get(1);
+        assertEquals(150, yoga[4]);
+        assertEquals(WorkoutDifficulty.MODERATE.name(), yoga[6]);
+        assertEquals("line1\nline2", yoga[10]);
+        // created_at 이 없으면 운동 날짜 0시 + 행 번호(4행) 마이크로초
+        assertEquals(Timestamp.valueOf(LocalDate.of(2026, 3, 2).atStartOfDay().plusNanos(4_000)), yoga[11]);
+
+        assertEquals(4, counters.processed);
+        assertEquals(3, counters.imported);
+        assertEquals(1, counters.skipped);
+        assertEquals(2, counters.unresolvedExercises);
+        assertEquals(List.of("2/3", "3/4"), progress);
+    }
+
+    @Test
+    void skipsExistingRowsKeepsRepeatedRowsAndReportsInvalidLines() throws IOException {
+        // 같은 파일의 4행을 이전에 가져온 기록
+        when(workoutRecordRepository.findRecordKeys(eq(1L), any()))
+                .thenReturn(List.<Object[]>of(new Object[] {
+                        LocalDate.of(2026, 3, 1), "Bench Press", LocalDateTime.of(2026, 3, 1, 0, 0, 0, 4_000) }));
+        String csv = "date,exercise,minutes\n"
+                + "2026-03-02,Squat,30\n"
+                + "2026-03-02,Squat,30\n"
+                + "2026-03-01,benchpress,45\n"
+                + "not-a-date,Squat,30\n"
+                + "2026-03-04,,30\n"
+                + "2026-03-05,Squat,abc\n";
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+
+        service.importCsv(1L, new StringReader(csv), counters, c -> { });
+
+        // created_at 이 없는 같은 내용의 행은 파일 안에서 합치지 않음
+        List<Object[]> rows = insertedRows(1);
+        assertEquals(2, rows.size());
+        assertEquals("Squat", rows.get(0)[2]);
+        assertEquals("Squat", rows.get(1)[2]);
+        assertEquals(1, counters.duplicates);
+        assertEquals(3, counters.invalid);
+        assertEquals(3, counters.errors.size());
+        assertTrue(counters.errors.get(0).startsWith("5행"));
+        assertTrue(counters.errors.get(2).contains("abc"));
+    }
+
+    @Test
+    void computedCaloriesReplaceFileValueWhenExerciseIsKnown() throws IOException {
+        String csv = "date,exercise,minutes,calories\n"
+                + "2026-03-01,benchpress,45,999\n"
+                + "2026-03-02,요가,60,150\n";
+
+        service.importCsv(1L, new StringReader(csv), new WorkoutImportService.Counters(), c -> { });
+
+        List<Object[]> rows = insertedRows(1);
+        assertEquals(360, rows.get(0)[4]);
+        assertEquals(150, rows.get(1)[4]); // 카탈로그에 없으면 파일 값 유지
+    }
+
+    @Test
+    void reimportingExportInsertsNothing() throws IOException {
+        WorkoutRecord squat = new WorkoutRecord();
+        squat.setWorkoutDate(LocalDate.of(2026, 3, 1));
+        squat.setWorkoutType("스쿼트"); // 저장된 이름이 카탈로그 이름과 다름
+        squat.setDuration(30);
+        squat.setCalories(200);
+        squat.setCreatedAt(LocalDateTime.of(2026, 3, 1, 8, 15, 0, 123_456_000));
+        WorkoutRecord bench = new WorkoutRecord();
+        bench.setWorkoutDate(LocalDate.of(2026, 3, 2));
+        bench.setWorkoutType("Bench Press");
+        bench.setDuration(45);
+        bench.setCreatedAt(LocalDateTime.of(2026, 3, 2, 7, 0));
+        CalorieEngine.ExerciseRef squatRef = new CalorieEngine.ExerciseRef("Squat", 5.0);
+        when(calorieEngine.resolveExercise("스쿼트")).thenReturn(squatRef);
+        when(calorieEngine.resolveExercise("Squat")).thenReturn(squatRef);
+        when(calorieEngine.resolveExercise("Bench Press"))
+                .thenReturn(new CalorieEngine.ExerciseRef("Bench Press", 6.0));
+        when(workoutRecordRepository.streamByUserId(1L)).thenReturn(Stream.of(squat, bench));
+        when(workoutRecordRepository.findRecordKeys(eq(1L), any())).thenReturn(List.of(
+                new Object[] { squat.getWorkoutDate(), squat.getWorkoutType(), squat.getCreatedAt() },
+                new Object[] { bench.getWorkoutDate(), bench.getWorkoutType(), bench.getCreatedAt() }));
+        HistoryExportService exporter = new HistoryExportService(workoutRecordRepository,
+                mock(BodyRecordRepository.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(exporter, "entityManager", mock(EntityManager.class));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(1L, HistoryExportService.Format.CSV, out);
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+
+        service.importCsv(1L, new StringReader(out.toString(StandardCharsets.UTF_8)), counters, c -> { });
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertEquals(0, counters.imported);
+        assertEquals(2, counters.duplicates);
+    }
+
+    @Test
+    void formulaGuardedCellsRoundTripThroughExport() throws IOException {
+        WorkoutRecord known = new WorkoutRecord();
+        known.setWorkoutDate(LocalDate.of(2026, 3, 1));
+        known.setWorkoutType("=HYPERLINK(\"http://x\")");
+        known.setDuration(30);
+        known.setNotes("-5kg");
+        known.setCreatedAt(LocalDateTime.of(2026, 3, 1, 8, 0));
+        WorkoutRecord added = new WorkoutRecord();
+        added.setWorkoutDate(LocalDate.of(2026, 3, 2));
+        added.setWorkoutType("@plank");
+        added.setDuration(10);
+        added.setNotes("'=1+1");
+        added.setCreatedAt(LocalDateTime.of(2026, 3, 2, 8, 0));
+        when(workoutRecordRepository.streamByUserId(1L)).thenReturn(Stream.of(known, added));
+        when(workoutRecordRepository.findRecordKeys(eq(1L), any())).thenReturn(List.<Object[]>of(
+                new Object[] { known.getWorkoutDate(), known.getWorkoutType(), known.getCreatedAt() }));
+        HistoryExportService exporter = new HistoryExportService(workoutRecordRepository,
+                mock(BodyRecordRepository.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(exporter, "entityManager", mock(EntityManager.class));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(1L, HistoryExportService.Format.CSV, out);
+        String exported = out.toString(StandardCharsets.UTF_8);
+        assertTrue(exported.contains("\"'=HYPERLINK(\"\"http://x\"\")\""), exported);
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+
+        service.importCsv(1L, new StringReader(exported), counters, c -> { });
+
+        // 수식 방지용 ' 를 떼어 낸 값으로 중복을 판단하고 저장
+        assertEquals(1, counters.duplicates);
+        List<Object[]> rows = insertedRows(1);
+        assertEquals(1, rows.size());
+        assertEquals("@plank", rows.get(0)[2]);
+        assertEquals("'=1+1", rows.get(0)[10]);
+    }
+
+    @Test
+    void rejectsOversizedRecordsWithoutBufferingThem() throws IOException {
+        String longNote = "x".repeat(2000) + "\n" + "y".repeat(2000);
+        String csv = "date,exercise,minutes,notes\n"
+                + "2026-03-01,Squat,30,\"" + longNote + "\"\n"
+                + "2026-03-02,Squat,30," + ",".repeat(300) + "\n"
+                + "2026-03-03,Squat,30,ok\n";
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+
+        service.importCsv(1L, new StringReader(csv), counters, c -> { });
+
+        List<Object[]> rows = insertedRows(1);
+        assertEquals(1, rows.size());
+        assertEquals("ok", rows.get(0)[10]);
+        assertEquals(3, counters.processed);
+        assertEquals(2, counters.invalid);
+        assertTrue(counters.errors.get(0).startsWith("2행: 필드가 너무 깁니다"), counters.errors.get(0));
+        // 여러 줄에 걸친 필드 뒤에도 줄 번호가 맞아야 함
+        assertTrue(counters.errors.get(1).startsWith("4행: 열이 너무 많습니다"), counters.errors.get(1));
+    }
+
+    @Test
+    void unterminatedQuoteStopsImport() {
+        String csv = "date,exercise,minutes,notes\n2026-03-01,Squat,30,\"" + "x".repeat(10_000);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.importCsv(1L,
+                new StringReader(csv), new WorkoutImportService.Counters(), c -> { }));
+        assertTrue(e.getMessage().startsWith("2행"), e.getMessage());
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() {
+        WorkoutImportService.Counters counters = new WorkoutImportService.Counters();
+
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(1L,
+                new StringReader("name,minutes\nSquat,30\n"), counters, c -> { }));
+        verify(jdbcTemplate, times(0)).batchUpdate(anyString(), anyList());
+    }
+}
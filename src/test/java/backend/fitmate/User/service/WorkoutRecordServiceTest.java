@@ -0,0 +1,71 @@
+package backend.fitmate.User.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.fitmate.User.entity.User;
+import backend.fitmate.User.entity.WorkoutRecord;
+import backend.fitmate.User.repository.WorkoutRecordRepository;
+
+class WorkoutRecordServiceTest {
+
+    private final WorkoutRecordRepository workoutRecordRepository = mock(WorkoutRecordRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("dashboardStats");
+    private final WorkoutRecordService service = new WorkoutRecordService(workoutRecordRepository, userService,
+            mock(CalorieEngine.class), cacheManager);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void dashboardStatsAreEvictedOnlyAfterCommit() {
+        Cache stats = cacheManager.getCache("dashboardStats");
+        stats.put("weekly:1", "stale");
+        stats.put("comparison:1", "stale");
+        User user = new User();
+        user.setId(1L);
+        when(userService.findById(1L)).thenReturn(Optional.of(user));
+        when(workoutRecordRepository.save(any(WorkoutRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.saveWorkoutRecord(1L, new WorkoutRecord());
+
+        // 커밋 전 조회가 이전 행을 다시 캐시하지 않도록 아직 지우지 않음
+        assertNotNull(stats.get("weekly:1"));
+        assertNotNull(stats.get("comparison:1"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNull(stats.get("weekly:1"));
+        assertNull(stats.get("comparison:1"));
+    }
+
+    @Test
+    void dashboardStatsAreEvictedImmediatelyWithoutTransaction() {
+        Cache stats = cacheManager.getCache("dashboardStats");
+        stats.put("weekly:2", "stale");
+        stats.put("comparison:2", "stale");
+
+        service.deleteAllByUserId(2L);
+
+        assertNull(stats.get("weekly:2"));
+        assertNull(stats.get("comparison:2"));
+    }
+}
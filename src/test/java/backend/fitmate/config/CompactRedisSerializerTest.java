@@ -0,0 +1,89 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactRedisSerializerTest {
+
+    record Profile(Long id, String email, String name, String role, String bio) {
+    }
+
+    static class ProfileCodec implements CompactCodec<Profile> {
+        @Override
+        public Class<Profile> type() {
+            return Profile.class;
+        }
+
+        @Override
+        public int typeId() {
+            return 100;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput out, Profile value) throws IOException {
+            CompactCodec.writeNullableLong(out, value.id());
+            CompactCodec.writeNullableString(out, value.email());
+            CompactCodec.writeNullableString(out, value.name());
+            CompactCodec.writeNullableString(out, value.role());
+            CompactCodec.writeNullableString(out, value.bio());
+        }
+
+        @Override
+        public Profile read(DataInput in, int version) throws IOException {
+            return new Profile(CompactCodec.readNullableLong(in), CompactCodec.readNullableString(in),
+                    CompactCodec.readNullableString(in), CompactCodec.readNullableString(in),
+                    CompactCodec.readNullableString(in));
+        }
+    }
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(List.of(new ProfileCodec()), json, 256);
+
+    private final Profile profile = new Profile(42L, "user@fitmate.com", "홍길동", "USER", null);
+
+    @Test
+    void roundTripsRegisteredTypesAndOptionals() {
+        assertEquals(profile, compact.deserialize(compact.serialize(profile)));
+        assertEquals(Optional.of(profile), compact.deserialize(compact.serialize(Optional.of(profile))));
+        assertEquals(Optional.empty(), compact.deserialize(compact.serialize(Optional.empty())));
+    }
+
+    @Test
+    void compressesLargePayloads() {
+        Profile large = new Profile(1L, "a@b.c", "n", "USER", "운동 기록 ".repeat(200));
+        byte[] bytes = compact.serialize(large);
+
+        assertEquals(1, bytes[1]); // LZ4 플래그
+        assertTrue(bytes.length < "운동 기록 ".repeat(200).getBytes().length);
+        assertEquals(large, compact.deserialize(bytes));
+    }
+
+    @Test
+    void unregisteredTypesAndExistingJsonEntriesUseFallback() {
+        Map<String, Object> other = new HashMap<>();
+        other.put("key", "value");
+        assertEquals(other, compact.deserialize(compact.serialize(other)));
+        assertEquals(other, compact.deserialize(json.serialize(other)));
+    }
+
+    @Test
+    void smallerThanJsonSerializer() {
+        assertTrue(compact.serialize(profile).length < json.serialize(profile).length);
+    }
+}
@@ -0,0 +1,124 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void allowsBurstThenMarksKeySuspiciousUntilWindowPasses() {
+        LocalRateLimiter limiter = new LocalRateLimiter(5, Duration.ofSeconds(10), Duration.ofSeconds(30), 100, 4);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("1.1.1.1", now));
+        }
+        assertFalse(limiter.tryAcquire("1.1.1.1", now));
+        assertTrue(limiter.tryAcquire("2.2.2.2", now));
+
+        // 토큰은 다시 찼지만 의심 기간(30초) 동안은 계속 false
+        assertFalse(limiter.tryAcquire("1.1.1.1", now + 20 * SECOND));
+        assertTrue(limiter.tryAcquire("1.1.1.1", now + 31 * SECOND));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        LocalRateLimiter limiter = new LocalRateLimiter(2, Duration.ofSeconds(2), Duration.ZERO, 100, 1);
+        long now = 1_000 * SECOND;
+
+        assertTrue(limiter.tryAcquire("ip", now));
+        assertTrue(limiter.tryAcquire("ip", now));
+        assertFalse(limiter.tryAcquire("ip", now));
+        assertTrue(limiter.tryAcquire("ip", now + SECOND));
+        assertFalse(limiter.tryAcquire("ip", now + SECOND));
+    }
+
+    @Test
+    void boundsTrackedKeysAndEvictsIdleOnes() {
+        LocalRateLimiter limiter = new LocalRateLimiter(10, Duration.ofSeconds(10), Duration.ofSeconds(5), 2, 1);
+        long now = 1_000 * SECOND;
+
+        assertTrue(limiter.tryAcquire("a", now));
+        assertTrue(limiter.tryAcquire("b", now));
+        assertFalse(limiter.tryAcquire("c", now)); // 가득 차면 새 키는 의심으로 처리
+        assertEquals(2, limiter.size());
+
+        assertEquals(0, limiter.evictIdle(now));
+        assertEquals(2, limiter.evictIdle(now + 2 * SECOND));
+        assertTrue(limiter.tryAcquire("c", now + 2 * SECOND));
+    }
+
+    @Test
+    void detectsStaticResourcesByExtension() {
+        assertTrue(GlobalRateLimitFilter.isStaticResource("/assets/index-3fa2.js"));
+        assertTrue(GlobalRateLimitFilter.isStaticResource("/favicon.ICO"));
+        assertFalse(GlobalRateLimitFilter.isStaticResource("/api/users/me"));
+        assertFalse(GlobalRateLimitFilter.isStaticResource("/api/v1.2/users"));
+    }
+
+    @Test
+    void tripsOncePerSuspicionPeriod() {
+        LocalRateLimiter limiter = new LocalRateLimiter(1, Duration.ofSeconds(10), Duration.ofSeconds(30), 100, 1);
+        long now = 1_000 * SECOND;
+
+        assertEquals(LocalRateLimiter.Decision.ALLOWED, limiter.acquire("ip", now));
+        assertEquals(LocalRateLimiter.Decision.TRIPPED, limiter.acquire("ip", now));
+        assertEquals(LocalRateLimiter.Decision.SUSPICIOUS, limiter.acquire("ip", now + SECOND));
+        assertEquals(LocalRateLimiter.Decision.ALLOWED, limiter.acquire("ip", now + 31 * SECOND));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void localAndEscalatedRequestsStayWithinGlobalCapacity() throws Exception {
+        // Redis 대신 같은 구성의 로컬 버킷으로 전역 버킷을 흉내냄
+        ProxyManager<String> proxyManager = mock(ProxyManager.class);
+        Bucket[] global = new Bucket[1];
+        when(proxyManager.getProxy(anyString(), any())).thenAnswer(invocation -> {
+            if (global[0] == null) {
+                BucketConfiguration configuration = ((Supplier<BucketConfiguration>) invocation.getArgument(1)).get();
+                LocalBucketBuilder builder = Bucket.builder();
+                for (Bandwidth bandwidth : configuration.getBandwidths()) {
+                    builder.addLimit(bandwidth);
+                }
+                global[0] = builder.build();
+            }
+            return mock(BucketProxy.class, delegatesTo(global[0]));
+        });
+        GlobalRateLimitFilter filter = new GlobalRateLimitFilter(proxyManager, new SimpleMeterRegistry(),
+                100, 50, 60, 60, 1000, 4);
+        AtomicInteger passed = new AtomicInteger();
+
+        for (int i = 0; i < 300; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+            request.setRemoteAddr("10.0.0.1");
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed.incrementAndGet());
+        }
+
+        assertEquals(100, passed.get());
+    }
+}
@@ -0,0 +1,71 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeteredCacheManagerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MeteredCacheManager manager = new MeteredCacheManager(
+            new ConcurrentMapCacheManager("user"), registry, "cacheManager");
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("cache", "user").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void countsHitsMissesAndLoads() {
+        Cache cache = manager.getCache("user");
+        assertSame(cache, manager.getCache("user"));
+
+        assertEquals("alice", cache.get(1L, () -> "alice")); // 미스 → 로딩
+        assertEquals("alice", cache.get(1L, () -> "other")); // 적중
+        assertEquals("alice", cache.get(1L).get());          // 적중
+        cache.get(2L);                                       // 미스
+        cache.evict(1L);
+
+        assertEquals(2, gets("hit"));
+        assertEquals(2, gets("miss"));
+        assertEquals(1, registry.get("fitmate.cache.load").tag("cache", "user").timer().count());
+        assertEquals(1, registry.get("cache.evictions").tag("cache", "user").functionCounter().count());
+    }
+
+    @Test
+    void earlyRefreshOnAnotherThreadCountsAsHit() throws Exception {
+        ConcurrentMapCache remote = new ConcurrentMapCache("user");
+        remote.put(1L, new CachedValue("old", 60_000, System.currentTimeMillis() + 1)); // 항상 조기 갱신 대상
+        ExecutorService refresher = Executors.newSingleThreadExecutor();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        Cache cache = new MeteredCache(new SingleFlightCache(remote, Duration.ofMinutes(1), 1.0, refresher),
+                registry, Tags.empty());
+        try {
+            assertEquals("old", cache.get(1L, () -> {
+                refreshed.countDown();
+                return "new";
+            }));
+            assertTrue(refreshed.await(1, TimeUnit.SECONDS));
+        } finally {
+            refresher.shutdown();
+            assertTrue(refresher.awaitTermination(1, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, gets("hit"));
+        assertEquals(0, gets("miss"));
+        assertEquals(1, registry.get("fitmate.cache.load").tag("cache", "user").timer().count());
+    }
+}
@@ -0,0 +1,91 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitAspectTest {
+
+    static class Target {
+        @RateLimit(bucketName = "loginBucket", keyType = RateLimit.KeyType.CUSTOM, key = "#request['email']")
+        public String login(Map<String, String> request) {
+            return "ok";
+        }
+
+        @RateLimit(bucketName = "loginBucket", keyType = RateLimit.KeyType.CUSTOM)
+        public String missingExpression() {
+            return "ok";
+        }
+
+        @RateLimit(bucketName = "signupBucket")
+        public String signup() {
+            return "ok";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final ProxyManager<String> proxyManager = mock(ProxyManager.class);
+
+    private Target proxy() {
+        BucketProxy bucket = mock(BucketProxy.class);
+        when(bucket.tryConsumeAndReturnRemaining(anyLong())).thenReturn(ConsumptionProbe.consumed(4, 0));
+        when(proxyManager.getProxy(anyString(), any())).thenReturn(bucket);
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(ProxyManager.class)).thenReturn(proxyManager);
+
+        RateLimitAspect aspect = new RateLimitAspect();
+        ReflectionTestUtils.setField(aspect, "applicationContext", applicationContext);
+        ReflectionTestUtils.setField(aspect, "meterRegistry", new SimpleMeterRegistry());
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Test
+    void customKeyIsEvaluatedFromArgumentsAndNamespacedByBucket() {
+        Target target = proxy();
+
+        assertEquals("ok", target.login(Map.of("email", "a@fitmate.test")));
+        assertEquals("ok", target.signup());
+
+        verify(proxyManager).getProxy(eq("ratelimit:loginBucket:custom:a@fitmate.test"), any());
+        verify(proxyManager).getProxy(eq("ratelimit:signupBucket:ip:unknown"), any());
+    }
+
+    @Test
+    void customKeyWithoutExpressionFails() {
+        Target target = proxy();
+
+        assertThrows(IllegalStateException.class, target::missingExpression);
+    }
+
+    @Test
+    void longKeyValuesAreHashed() {
+        String key = RateLimitAspect.bucketKey("loginBucket", "custom", "x".repeat(500));
+
+        assertTrue(key.startsWith("ratelimit:loginBucket:custom:"));
+        assertEquals("ratelimit:loginBucket:custom:".length() + 32, key.length());
+        assertEquals("loginBucket", RateLimitKeyMetrics.bucketName(key));
+    }
+}
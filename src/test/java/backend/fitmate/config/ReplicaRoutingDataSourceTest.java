@@ -0,0 +1,106 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica0Connection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final DataSource primary = dataSource(primaryConnection);
+    private final DataSource replica0 = dataSource(replica0Connection);
+    private final DataSource replica1 = dataSource(replica1Connection);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1),
+            new ReadYourWritesTracker(Duration.ofSeconds(5), 100), registry);
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinOverReplicas() throws SQLException {
+        beginTransaction(true);
+        assertSame(replica0Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+
+        beginTransaction(false);
+        assertSame(primaryConnection, routing.getConnection());
+
+        TransactionSynchronizationManager.clear();
+        assertSame(primaryConnection, routing.getConnection()); // 트랜잭션 밖
+    }
+
+    @Test
+    void userReadsStayOnPrimaryAfterTheirOwnWrite() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("writer@fitmate.com", null, List.of()));
+
+        beginTransaction(true);
+        assertSame(replica0Connection, routing.getConnection());
+
+        beginTransaction(false);
+        routing.getConnection();
+        commit();
+
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+
+        // 다른 사용자는 계속 복제본
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("reader@fitmate.com", null, List.of()));
+        assertSame(replica1Connection, routing.getConnection());
+        assertEquals(1.0, registry.counter("fitmate.datasource.route", "target", "primary", "reason", "sticky").count());
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnavailable() throws SQLException {
+        when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1.0, registry.counter("fitmate.datasource.route", "target", "primary", "reason", "fallback").count());
+    }
+}
@@ -0,0 +1,85 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class SingleFlightCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("user");
+    private final SingleFlightCache cache = new SingleFlightCache(remote, Duration.ofMinutes(1), 1.0, Runnable::run);
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "alice";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("alice", result.get(1, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertInstanceOf(CachedValue.class, remote.get(1L).get());
+        assertEquals("alice", cache.get(1L).get());
+    }
+
+    @Test
+    void xfetchRefreshesCloserToExpiryAndForSlowerLoads() {
+        long now = 1_000_000;
+        CachedValue fast = new CachedValue("v", 10, now + 60_000);
+        CachedValue slow = new CachedValue("v", 30_000, now + 60_000);
+        CachedValue nearExpiry = new CachedValue("v", 10, now + 5);
+
+        assertFalse(SingleFlightCache.shouldRefreshEarly(fast, now, 1.0, 0.5));
+        assertTrue(SingleFlightCache.shouldRefreshEarly(slow, now, 1.0, 0.05));
+        assertTrue(SingleFlightCache.shouldRefreshEarly(nearExpiry, now, 1.0, 0.5));
+        assertFalse(SingleFlightCache.shouldRefreshEarly(new CachedValue("v", 0, now), now - 1, 1.0, 0.001));
+    }
+
+    @Test
+    void earlyRefreshReplacesValueInBackground() {
+        remote.put(2L, new CachedValue("old", 60_000, System.currentTimeMillis() + 1));
+
+        assertEquals("old", cache.get(2L, () -> "new")); // 현재 값을 바로 반환
+        assertEquals("new", cache.get(2L).get()); // 갱신 결과 (동기 실행기)
+    }
+
+    @Test
+    void cachedValueRoundTripsThroughCompactSerializer() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(List.of(),
+                new GenericJackson2JsonRedisSerializer(), 512);
+        CachedValue entry = new CachedValue("alice", 12, 34);
+
+        assertEquals(entry, serializer.deserialize(serializer.serialize(entry)));
+        assertEquals(new CachedValue(null, 1, 2), serializer.deserialize(serializer.serialize(new CachedValue(null, 1, 2))));
+    }
+}
@@ -0,0 +1,99 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.io.ByteArrayResource;
+
+class StartupTaskRunnerTest {
+
+    private static StartupTaskRunner runner(StartupTask... tasks) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < tasks.length; i++) {
+            beanFactory.registerSingleton("task" + i, tasks[i]);
+        }
+        return new StartupTaskRunner(beanFactory.getBeanProvider(StartupTask.class), 2);
+    }
+
+    @Test
+    void duplicatesRunOnceAndDependenciesRunFirst() throws Exception {
+        AtomicInteger catalogRuns = new AtomicInteger();
+        List<String> order = new CopyOnWriteArrayList<>();
+        StartupTaskRunner runner = runner(
+                StartupTask.optional("test-data", () -> order.add("test-data"), "exercise-catalog"),
+                StartupTask.required("exercise-catalog", () -> { catalogRuns.incrementAndGet(); order.add("catalog"); }),
+                StartupTask.required("exercise-catalog", () -> catalogRuns.incrementAndGet()));
+
+        runner.start().get(5, TimeUnit.SECONDS);
+        runner.start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, catalogRuns.get());
+        assertEquals(List.of("catalog", "test-data"), order);
+        assertEquals(Status.UP, runner.health().getStatus());
+    }
+
+    @Test
+    void readinessWaitsForRequiredTasksOnly() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StartupTaskRunner runner = runner(
+                StartupTask.required("exercise-catalog", release::await),
+                StartupTask.optional("test-data", () -> { throw new IllegalStateException("boom"); }));
+
+        runner.start();
+        assertEquals(Status.OUT_OF_SERVICE, runner.health().getStatus());
+
+        release.countDown();
+        runner.start().get(5, TimeUnit.SECONDS);
+        assertEquals(Status.UP, runner.health().getStatus());
+    }
+
+    @Test
+    void failedRequiredTaskSkipsDependentsAndReportsDown() throws Exception {
+        AtomicInteger dependentRuns = new AtomicInteger();
+        StartupTaskRunner runner = runner(
+                StartupTask.required("exercise-catalog", () -> { throw new IllegalStateException("seed missing"); }),
+                StartupTask.optional("test-data", dependentRuns::incrementAndGet, "exercise-catalog"));
+
+        runner.start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, dependentRuns.get());
+        assertEquals(Status.DOWN, runner.health().getStatus());
+    }
+
+    @Test
+    void unreadableSeedCsvFailsCatalogTask() throws Exception {
+        MetsDataLoader loader = new MetsDataLoader();
+        ByteArrayResource unreadable = new ByteArrayResource(new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("disk error");
+            }
+        };
+        StartupTaskRunner runner = runner(
+                StartupTask.required("exercise-catalog", () -> loader.rebuildCatalog(unreadable)));
+
+        runner.start().get(5, TimeUnit.SECONDS);
+
+        assertEquals(Status.DOWN, runner.health().getStatus());
+    }
+
+    @Test
+    void rejectsCyclesAndUnknownDependencies() {
+        assertThrows(IllegalStateException.class, () -> runner(
+                StartupTask.required("a", () -> { }, "b"),
+                StartupTask.required("b", () -> { }, "a")));
+        assertThrows(IllegalStateException.class, () -> runner(
+                StartupTask.required("a", () -> { }, "missing")));
+    }
+}
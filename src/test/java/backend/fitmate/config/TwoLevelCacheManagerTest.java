@@ -0,0 +1,56 @@
+package backend.fitmate.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TwoLevelCacheManagerTest {
+
+    private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("user", "oauth2");
+    private final TwoLevelCacheManager manager = new TwoLevelCacheManager(
+            remote, null, null, Set.of("user"), 100, Duration.ofMinutes(1));
+
+    @Test
+    void onlyConfiguredCachesGetLocalLevel() {
+        assertInstanceOf(TwoLevelCache.class, manager.getCache("user"));
+        assertInstanceOf(ConcurrentMapCache.class, manager.getCache("oauth2"));
+    }
+
+    @Test
+    void readsAreServedFromLocalLevelAfterFirstLoad() {
+        Cache cache = manager.getCache("user");
+        remote.getCache("user").put(1L, "alice");
+
+        assertEquals("alice", cache.get(1L).get());
+
+        // L2에서 직접 지워도 L1에서 응답 (다른 노드의 무효화 메시지 전까지)
+        remote.getCache("user").evict(1L);
+        assertEquals("alice", cache.get(1L).get());
+
+        ((TwoLevelCache) cache).evictLocal("1");
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void loaderRunsOnceAndEvictClearsBothLevels() {
+        Cache cache = manager.getCache("user");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("bob", cache.get(2L, () -> { loads.incrementAndGet(); return "bob"; }));
+        assertEquals("bob", cache.get(2L, () -> { loads.incrementAndGet(); return "other"; }));
+        assertEquals(1, loads.get());
+
+        cache.evict(2L);
+        assertNull(cache.get(2L));
+        assertNull(remote.getCache("user").get(2L));
+    }
+}
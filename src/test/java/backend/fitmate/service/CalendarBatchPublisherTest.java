@@ -0,0 +1,149 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+
+/**
+ * 배치 응답을 순서대로 돌려주는 모의 전송 계층으로 재시도/백오프/409 처리를 검증합니다.
+ */
+class CalendarBatchPublisherTest {
+
+    private static final String BOUNDARY = "batch_test";
+
+    private final Deque<Object> responses = new ArrayDeque<>();
+    private final List<String> requestBodies = new ArrayList<>();
+    private final Calendar client = new Calendar.Builder(new MockHttpTransport() {
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    requestBodies.add(getContentAsString());
+                    Object next = responses.removeFirst();
+                    if (next instanceof IOException e) {
+                        throw e;
+                    }
+                    return (LowLevelHttpResponse) next;
+                }
+            };
+        }
+    }, GsonFactory.getDefaultInstance(), null).setApplicationName("test").build();
+
+    private static String part(int status, String json) {
+        return "--" + BOUNDARY + "\r\nContent-Type: application/http\r\n\r\n"
+                + "HTTP/1.1 " + status + " X\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n"
+                + json + "\r\n";
+    }
+
+    private static String event(String id, String summary) {
+        return "{\"id\":\"" + id + "\",\"summary\":\"" + summary + "\"}";
+    }
+
+    private static String error(int code) {
+        return "{\"error\":{\"code\":" + code + ",\"message\":\"error " + code + "\"}}";
+    }
+
+    private static MockLowLevelHttpResponse batch(String... parts) {
+        return new MockLowLevelHttpResponse()
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(String.join("", parts) + "--" + BOUNDARY + "--\r\n");
+    }
+
+    private static CalendarBatchPublisher.BatchItem newEvent(int index, String summary) {
+        return new CalendarBatchPublisher.BatchItem(index, null, new Event().setSummary(summary));
+    }
+
+    private static int subRequests(String body) {
+        return body.split("Content-Type: application/http", -1).length - 1;
+    }
+
+    @Test
+    void retriesOnlyRetryableSubRequests() {
+        CalendarBatchPublisher publisher = new CalendarBatchPublisher(2, 3, 1);
+        responses.add(batch(part(200, event("a", "first")), part(503, error(503))));
+        responses.add(batch(part(200, event("b", "second"))));
+
+        CalendarBatchPublisher.BatchResult result = publisher
+                .publish(client, List.of(newEvent(0, "first"), newEvent(1, "second"))).join();
+
+        assertEquals(2, result.succeeded().size());
+        assertTrue(result.failed().isEmpty());
+        assertEquals("second", result.succeeded().get(1).getSummary());
+        assertEquals(2, subRequests(requestBodies.get(0)));
+        assertEquals(1, subRequests(requestBodies.get(1)));
+    }
+
+    @Test
+    void conflictOnRetryStoresServerCopy() {
+        CalendarBatchPublisher publisher = new CalendarBatchPublisher(2, 3, 1);
+        CalendarBatchPublisher.BatchItem item = newEvent(0, "local");
+        responses.add(new IOException("connection reset")); // 생성은 되었지만 응답을 받지 못함
+        responses.add(batch(part(409, error(409))));
+        responses.add(batch(part(200, "{\"id\":\"x\",\"summary\":\"server copy\",\"etag\":\"\\\"1\\\"\"}")));
+
+        CalendarBatchPublisher.BatchResult result = publisher.publish(client, List.of(item)).join();
+
+        Event stored = result.succeeded().get(0);
+        assertEquals("server copy", stored.getSummary());
+        assertEquals("\"1\"", stored.getEtag());
+        assertTrue(requestBodies.get(2).contains("GET https://www.googleapis.com/calendar/v3/calendars/primary/events/" + item.event().getId()));
+    }
+
+    @Test
+    void reportsNonRetryableAndExhaustedFailures() {
+        CalendarBatchPublisher publisher = new CalendarBatchPublisher(2, 2, 1);
+        responses.add(batch(part(400, error(400)), part(409, error(409)), part(503, error(503))));
+        responses.add(batch(part(503, error(503))));
+
+        CalendarBatchPublisher.BatchResult result = publisher.publish(client,
+                List.of(newEvent(0, "bad"), newEvent(1, "first-try conflict"), newEvent(2, "unavailable"))).join();
+
+        assertTrue(result.succeeded().isEmpty());
+        assertTrue(result.failed().get(0).startsWith("400"));
+        assertTrue(result.failed().get(1).startsWith("409")); // 첫 시도의 409 는 성공으로 보지 않음
+        assertTrue(result.failed().get(2).startsWith("503"));
+        assertEquals(2, requestBodies.size());
+    }
+
+    @Test
+    void transportFailureOnLastAttemptFailsPendingItems() {
+        CalendarBatchPublisher publisher = new CalendarBatchPublisher(2, 2, 1);
+        responses.add(new IOException("timeout"));
+        responses.add(new IOException("timeout"));
+
+        CalendarBatchPublisher.BatchResult result = publisher.publish(client, List.of(newEvent(0, "a"))).join();
+
+        assertTrue(result.failed().get(0).contains("timeout"));
+    }
+
+    @Test
+    void backoffIsExponentialWithJitterAndHonorsRetryAfter() {
+        CalendarBatchPublisher publisher = new CalendarBatchPublisher(2, 4, 500);
+        for (int i = 0; i < 100; i++) {
+            long first = publisher.backoff(1, 0);
+            long third = publisher.backoff(3, 0);
+            assertTrue(first >= 250 && first <= 500, "attempt 1: " + first);
+            assertTrue(third >= 1000 && third <= 2000, "attempt 3: " + third);
+            assertTrue(publisher.backoff(10, 0) <= 16_000);
+        }
+        assertEquals(5_000, publisher.backoff(1, 5_000));
+        assertEquals(16_000, publisher.backoff(1, 60_000));
+    }
+}
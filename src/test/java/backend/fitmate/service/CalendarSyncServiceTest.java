@@ -0,0 +1,260 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import backend.fitmate.User.entity.CalendarEventMirror;
+import backend.fitmate.User.entity.CalendarSyncState;
+import backend.fitmate.User.repository.CalendarEventMirrorRepository;
+import backend.fitmate.User.repository.CalendarSyncStateRepository;
+
+/**
+ * 로컬 스텁 HTTP 서버를 Google Calendar API 대신 사용하여 증분 동기화 흐름을 검증합니다.
+ */
+class CalendarSyncServiceTest {
+
+    private static final String USER = "google-123";
+
+    private HttpServer server;
+    private Calendar client;
+    private final List<String> requestQueries = new ArrayList<>();
+    private final List<StubResponse> responses = new ArrayList<>();
+
+    private CalendarEventMirrorRepository mirrorRepository;
+    private CalendarSyncStateRepository syncStateRepository;
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private CalendarSyncService syncService;
+    private final Map<String, CalendarEventMirror> mirror = new HashMap<>();
+    private final Map<String, CalendarSyncState> states = new HashMap<>();
+
+    private record StubResponse(int status, String body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/calendar/v3/calendars/primary/events", this::handle);
+        server.start();
+
+        client = new Calendar.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+                .setRootUrl("http://localhost:" + server.getAddress().getPort() + "/")
+                .setApplicationName("test")
+                .build();
+
+        mirrorRepository = mock(CalendarEventMirrorRepository.class);
+        syncStateRepository = mock(CalendarSyncStateRepository.class);
+        syncService = new CalendarSyncService(mirrorRepository, syncStateRepository, transactionManager);
+
+        // 리포지토리는 메모리 맵으로 흉내냄
+        when(mirrorRepository.findByGoogleOAuthIdAndEventId(anyString(), anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(mirror.get(inv.getArgument(1, String.class))));
+        when(mirrorRepository.save(any(CalendarEventMirror.class))).thenAnswer(inv -> {
+            CalendarEventMirror m = inv.getArgument(0);
+            mirror.put(m.getEventId(), m);
+            return m;
+        });
+        when(mirrorRepository.deleteByGoogleOAuthIdAndEventId(anyString(), anyString()))
+                .thenAnswer(inv -> mirror.remove(inv.getArgument(1, String.class)) != null ? 1 : 0);
+        when(mirrorRepository.deleteByGoogleOAuthId(anyString())).thenAnswer(inv -> {
+            int size = mirror.size();
+            mirror.clear();
+            return size;
+        });
+        when(syncStateRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(states.get(inv.getArgument(0, String.class))));
+        when(syncStateRepository.save(any(CalendarSyncState.class))).thenAnswer(inv -> {
+            CalendarSyncState s = inv.getArgument(0);
+            states.put(s.getGoogleOAuthId(), s);
+            return s;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestQueries.add(exchange.getRequestURI().getQuery());
+        StubResponse response = responses.remove(0);
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static String event(String id, String status, String start, String end) {
+        return "{\"id\":\"" + id + "\",\"status\":\"" + status + "\",\"summary\":\"" + id + "\","
+                + "\"start\":{\"dateTime\":\"" + start + "\"},\"end\":{\"dateTime\":\"" + end + "\"}}";
+    }
+
+    @Test
+    void fullSyncThenIncrementalSync() throws IOException {
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("a", "confirmed", "2030-01-01T10:00:00Z", "2030-01-01T11:00:00Z")
+                + "],\"nextPageToken\":\"p2\"}"));
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("b", "confirmed", "2030-01-02T10:00:00Z", "2030-01-02T11:00:00Z")
+                + "],\"nextSyncToken\":\"sync-1\"}"));
+
+        syncService.sync(USER, client);
+
+        assertEquals(2, mirror.size());
+        assertEquals("sync-1", states.get(USER).getSyncToken());
+        assertTrue(requestQueries.get(0).contains("timeMin="));
+        assertTrue(requestQueries.get(1).contains("pageToken=p2"));
+
+        // 증분: a 취소, b 수정
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("a", "cancelled", "2030-01-01T10:00:00Z", "2030-01-01T11:00:00Z") + ","
+                + event("b", "confirmed", "2030-01-03T10:00:00Z", "2030-01-03T11:00:00Z")
+                + "],\"nextSyncToken\":\"sync-2\"}"));
+
+        syncService.sync(USER, client);
+
+        assertTrue(requestQueries.get(2).contains("syncToken=sync-1"));
+        assertEquals(1, mirror.size());
+        assertEquals(java.time.Instant.parse("2030-01-03T10:00:00Z").toEpochMilli(), mirror.get("b").getStartMillis());
+        assertEquals("sync-2", states.get(USER).getSyncToken());
+        assertEquals("b", syncService.findEvent(USER, "b").orElseThrow().getSummary());
+    }
+
+    @Test
+    void expiredSyncTokenFallsBackToFullSync() throws IOException {
+        CalendarSyncState state = new CalendarSyncState(USER);
+        state.setSyncToken("stale");
+        state.setWindowStartMillis(0L);
+        states.put(USER, state);
+        CalendarEventMirror stale = new CalendarEventMirror();
+        stale.setEventId("old");
+        mirror.put("old", stale);
+
+        responses.add(new StubResponse(410, "{\"error\":{\"code\":410,\"message\":\"Sync token is no longer valid\"}}"));
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("c", "confirmed", "2030-01-05T10:00:00Z", "2030-01-05T11:00:00Z")
+                + "],\"nextSyncToken\":\"sync-new\"}"));
+
+        syncService.sync(USER, client);
+
+        verify(mirrorRepository).deleteByGoogleOAuthId(USER);
+        assertNull(mirror.get("old"));
+        assertEquals(1, mirror.size());
+        assertEquals("sync-new", states.get(USER).getSyncToken());
+        assertTrue(requestQueries.get(1).contains("timeMin="));
+    }
+
+    @Test
+    void fullResyncReplacesMirrorInOneTransaction() throws IOException {
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("a", "confirmed", "2030-01-01T10:00:00Z", "2030-01-01T11:00:00Z") + ","
+                + event("b", "confirmed", "2030-01-02T10:00:00Z", "2030-01-02T11:00:00Z")
+                + "],\"nextSyncToken\":\"sync-1\"}"));
+
+        syncService.sync(USER, client);
+
+        InOrder inOrder = inOrder(transactionManager, mirrorRepository, syncStateRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(mirrorRepository).deleteByGoogleOAuthId(USER);
+        inOrder.verify(mirrorRepository, org.mockito.Mockito.times(2)).save(any(CalendarEventMirror.class));
+        inOrder.verify(syncStateRepository).save(any(CalendarSyncState.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void failureWhileApplyingRollsBackWithoutSavingSyncToken() {
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("a", "confirmed", "2030-01-01T10:00:00Z", "2030-01-01T11:00:00Z") + ","
+                + event("b", "confirmed", "2030-01-02T10:00:00Z", "2030-01-02T11:00:00Z")
+                + "],\"nextSyncToken\":\"sync-1\"}"));
+        when(mirrorRepository.save(any(CalendarEventMirror.class)))
+                .thenAnswer(inv -> inv.getArgument(0))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> syncService.sync(USER, client));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(syncStateRepository, never()).save(any(CalendarSyncState.class));
+    }
+
+    @Test
+    void rangeBeforeSyncWindowIsFetchedFromGoogle() throws IOException {
+        responses.add(new StubResponse(200, "{\"items\":[],\"nextSyncToken\":\"sync-1\"}"));
+        syncService.sync(USER, client);
+
+        long now = System.currentTimeMillis();
+        DateTime sixtyDaysAgo = new DateTime(now - Duration.ofDays(60).toMillis());
+        DateTime fiftyDaysAgo = new DateTime(now - Duration.ofDays(50).toMillis());
+        assertFalse(syncService.covers(USER, sixtyDaysAgo));
+        assertTrue(syncService.covers(USER, new DateTime(now - Duration.ofDays(10).toMillis())));
+
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("old", "confirmed", "2020-01-01T10:00:00Z", "2020-01-01T11:00:00Z")
+                + "],\"nextPageToken\":\"p2\"}"));
+        responses.add(new StubResponse(200, "{\"items\":["
+                + event("older", "confirmed", "2020-01-02T10:00:00Z", "2020-01-02T11:00:00Z") + "]}"));
+
+        List<Event> events = syncService.fetchRange(client, sixtyDaysAgo, fiftyDaysAgo);
+
+        assertEquals(List.of("old", "older"), events.stream().map(Event::getId).toList());
+        String query = requestQueries.get(1);
+        assertTrue(query.contains("timeMin="), query);
+        assertTrue(query.contains("timeMax="), query);
+        assertTrue(query.contains("singleEvents=true"), query);
+        assertTrue(query.contains("orderBy=startTime"), query);
+        assertTrue(requestQueries.get(2).contains("pageToken=p2"));
+        // 직접 조회한 이벤트는 미러에 넣지 않음
+        assertTrue(mirror.isEmpty());
+    }
+
+    @Test
+    void mirrorWithoutRecordedWindowIsResyncedInFull() throws IOException {
+        CalendarSyncState state = new CalendarSyncState(USER);
+        state.setSyncToken("legacy");
+        states.put(USER, state);
+        responses.add(new StubResponse(200, "{\"items\":[],\"nextSyncToken\":\"sync-1\"}"));
+
+        syncService.sync(USER, client);
+
+        assertTrue(requestQueries.get(0).contains("timeMin="));
+        assertNotNull(states.get(USER).getWindowStartMillis());
+    }
+}
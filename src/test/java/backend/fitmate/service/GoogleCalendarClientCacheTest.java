@@ -0,0 +1,62 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.json.Json;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GoogleCalendarClientCacheTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private final MockLowLevelHttpResponse response = new MockLowLevelHttpResponse()
+            .setContentType(Json.MEDIA_TYPE);
+    private final GoogleCalendarClientCache cache = new GoogleCalendarClientCache(
+            new MockHttpTransport.Builder().setLowLevelHttpResponse(response).build(),
+            10, 3600, Calendar.DEFAULT_ROOT_URL, new SimpleMeterRegistry());
+
+    @Test
+    void reusesClientOnlyForSameToken() {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        Calendar first = cache.getOrCreate("g-1", "token-a", null, expiresAt);
+
+        assertSame(first, cache.getOrCreate("g-1", "token-a", null, expiresAt));
+        assertNotSame(first, cache.getOrCreate("g-1", "token-b", null, expiresAt));
+    }
+
+    @Test
+    void entryExpiresWithAccessToken() {
+        long now = System.currentTimeMillis();
+
+        assertNull(cache.getOrCreate("g-1", "expired", null, now - 1));
+        assertNull(cache.getOrCreate("g-1", "almost", null, now + GoogleCalendarClientCache.EXPIRY_SKEW_MILLIS / 2));
+        assertEquals(0, cache.size());
+
+        Calendar valid = cache.getOrCreate("g-1", "valid", null, now + HOUR);
+        assertNotNull(valid);
+        // 같은 토큰이라도 만료 시각이 지나면 재사용하지 않음
+        assertNull(cache.getOrCreate("g-1", "valid", null, now));
+    }
+
+    @Test
+    void unauthorizedResponseDropsClient() throws Exception {
+        Calendar client = cache.getOrCreate("g-1", "revoked", null, System.currentTimeMillis() + HOUR);
+        response.setStatusCode(401).setContent("{\"error\":{\"code\":401,\"message\":\"Invalid Credentials\"}}");
+
+        assertThrows(GoogleJsonResponseException.class, () -> client.events().list("primary").execute());
+
+        assertEquals(0, cache.size());
+    }
+}
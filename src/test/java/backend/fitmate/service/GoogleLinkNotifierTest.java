@@ -0,0 +1,65 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class GoogleLinkNotifierTest {
+
+    @SuppressWarnings("unchecked")
+    private final GoogleLinkNotifier notifier = new GoogleLinkNotifier(
+            mock(ObjectProvider.class), mock(ObjectProvider.class));
+
+    @Test
+    void alreadyLinkedCompletesImmediately() {
+        CompletableFuture<String> future = notifier.await(1L, () -> "google-1", 1000);
+        assertEquals("google-1", future.getNow(null));
+    }
+
+    @Test
+    void waitingRequestIsCompletedBySignal() throws Exception {
+        CompletableFuture<String> future = notifier.await(2L, () -> null, 5000);
+        assertFalse(future.isDone());
+
+        notifier.signalLinked(2L, "google-2");
+
+        assertEquals("google-2", future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void waitTimesOutWithoutSignal() throws Exception {
+        CompletableFuture<String> future = notifier.await(3L, () -> null, 50);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+
+        // 시간 초과 후 새 대기는 다시 신호를 받을 수 있어야 함
+        CompletableFuture<String> retry = notifier.await(3L, () -> null, 5000);
+        notifier.signalLinked(3L, "google-3");
+        assertEquals("google-3", retry.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void waiterTimingOutDoesNotDropOtherWaiters() throws Exception {
+        CompletableFuture<String> shortWait = notifier.await(4L, () -> null, 50);
+        CompletableFuture<String> longWait = notifier.await(4L, () -> null, 5000);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> shortWait.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertFalse(longWait.isDone());
+
+        notifier.signalLinked(4L, "google-4");
+
+        assertEquals("google-4", longWait.get(1, TimeUnit.SECONDS));
+    }
+}
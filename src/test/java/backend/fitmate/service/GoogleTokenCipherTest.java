@@ -0,0 +1,60 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class GoogleTokenCipherTest {
+
+    private final Map<String, Object> redis = new HashMap<>();
+    private final byte[] kek = new byte[32];
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> redisTemplate() {
+        RedisTemplate<String, Object> template = mock(RedisTemplate.class);
+        ValueOperations<String, Object> ops = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(ops);
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(ops).set(anyString(), any(), any(Duration.class));
+        when(ops.get(anyString())).thenAnswer(inv -> redis.get(inv.getArgument(0, String.class)));
+        return template;
+    }
+
+    @Test
+    void otherNodeDecryptsWithWrappedDataKeyFromRedis() {
+        GoogleTokenCipher writer = new GoogleTokenCipher(kek, redisTemplate(), Duration.ofHours(24), Duration.ofDays(2));
+        GoogleTokenCipher reader = new GoogleTokenCipher(kek, redisTemplate(), Duration.ofHours(24), Duration.ofDays(2));
+
+        String encrypted = writer.encrypt("ya29.access-token");
+
+        assertTrue(encrypted.startsWith(GoogleTokenCipher.PREFIX));
+        assertFalse(encrypted.contains("access-token"));
+        assertEquals(1, redis.size()); // 감싼 DEK 하나
+        assertEquals("ya29.access-token", reader.decrypt(encrypted));
+        assertEquals("legacy-plain", reader.decrypt("legacy-plain"));
+    }
+
+    @Test
+    void wrongMasterKeyCannotDecrypt() {
+        GoogleTokenCipher writer = new GoogleTokenCipher(kek, redisTemplate(), Duration.ofHours(24), Duration.ofDays(2));
+        byte[] otherKek = new byte[32];
+        otherKek[0] = 1;
+        GoogleTokenCipher reader = new GoogleTokenCipher(otherKek, redisTemplate(), Duration.ofHours(24), Duration.ofDays(2));
+
+        assertNull(reader.decrypt(writer.encrypt("ya29.access-token")));
+    }
+}
@@ -0,0 +1,160 @@
+package backend.fitmate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import backend.fitmate.service.VerificationCodeStore.IssueResult;
+import backend.fitmate.service.VerificationCodeStore.VerifyResult;
+import redis.embedded.RedisServer;
+
+/**
+ * Lua 스크립트(발급/검증+소모/시도 제한/재발송 윈도우)를 임베디드 Redis 에서 실행해 검증합니다.
+ */
+class VerificationCodeStoreTest {
+
+    private static RedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final VerificationCodeStore store = new VerificationCodeStore(redisTemplate, "secret", 1, 3, 60, 2);
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = RedisServer.newRedisServer()
+                .port(port)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .build();
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void correctCodeIsConsumedOnce() {
+        store.issue("email", "User@Fitmate.com", "123456");
+
+        assertEquals(VerifyResult.VERIFIED, store.verifyAndConsume("email", "user@fitmate.com", "123456"));
+        assertEquals(VerifyResult.EXPIRED, store.verifyAndConsume("email", "user@fitmate.com", "123456"));
+    }
+
+    @Test
+    void concurrentCorrectVerifiesSucceedOnlyOnce() throws Exception {
+        store.issue("email", "race@fitmate.com", "123456");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<VerifyResult>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(() -> store.verifyAndConsume("email", "race@fitmate.com", "123456"));
+            }
+            long verified = 0;
+            for (Future<VerifyResult> result : executor.invokeAll(calls)) {
+                if (result.get() == VerifyResult.VERIFIED) {
+                    verified++;
+                }
+            }
+            assertEquals(1, verified);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void codeIsDiscardedAfterMaxAttempts() {
+        store.issue("email", "user@fitmate.com", "123456");
+
+        assertEquals(VerifyResult.MISMATCH, store.verifyAndConsume("email", "user@fitmate.com", "000000"));
+        assertEquals(VerifyResult.MISMATCH, store.verifyAndConsume("email", "user@fitmate.com", "111111"));
+        assertEquals(VerifyResult.LOCKED, store.verifyAndConsume("email", "user@fitmate.com", "222222"));
+        // 폐기 후에는 올바른 코드도 통과하지 않음
+        assertEquals(VerifyResult.EXPIRED, store.verifyAndConsume("email", "user@fitmate.com", "123456"));
+    }
+
+    @Test
+    void reissueResetsAttempts() {
+        store.issue("email", "user@fitmate.com", "123456");
+        store.verifyAndConsume("email", "user@fitmate.com", "000000");
+        store.verifyAndConsume("email", "user@fitmate.com", "000000");
+
+        store.issue("email", "user@fitmate.com", "654321");
+
+        assertEquals(VerifyResult.MISMATCH, store.verifyAndConsume("email", "user@fitmate.com", "123456"));
+        assertEquals(VerifyResult.VERIFIED, store.verifyAndConsume("email", "user@fitmate.com", "654321"));
+    }
+
+    @Test
+    void codeExpiresAfterTtl() throws InterruptedException {
+        store.issue("email", "user@fitmate.com", "123456");
+        assertTrue(store.hasCode("email", "user@fitmate.com"));
+
+        Thread.sleep(1_100);
+
+        assertFalse(store.hasCode("email", "user@fitmate.com"));
+        assertEquals(VerifyResult.EXPIRED, store.verifyAndConsume("email", "user@fitmate.com", "123456"));
+    }
+
+    @Test
+    void resendsAreLimitedPerWindow() {
+        assertTrue(store.issue("email", "user@fitmate.com", "111111").issued());
+        assertTrue(store.issue("email", "user@fitmate.com", "222222").issued());
+
+        IssueResult limited = store.issue("email", "user@fitmate.com", "333333");
+
+        assertFalse(limited.issued());
+        assertTrue(limited.retryAfterMillis() > 0 && limited.retryAfterMillis() <= 60_000);
+        // 거부된 발급은 기존 코드를 바꾸지 않음
+        assertEquals(VerifyResult.VERIFIED, store.verifyAndConsume("email", "user@fitmate.com", "222222"));
+        // 다른 대상은 영향 없음
+        assertTrue(store.issue("email", "other@fitmate.com", "111111").issued());
+    }
+
+    @Test
+    void storesKeyedHmacInsteadOfCode() {
+        String key = "verification:{email:user@fitmate.com}";
+        store.issue("email", "user@fitmate.com", "123456");
+        Object stored = redisTemplate.opsForHash().get(key, "code");
+
+        new VerificationCodeStore(redisTemplate, "other-secret", 1, 3, 60, 10)
+                .issue("email", "user@fitmate.com", "123456");
+
+        assertNotEquals("123456", stored);
+        assertEquals(64, stored.toString().length());
+        assertNotEquals(stored, redisTemplate.opsForHash().get(key, "code"));
+    }
+}